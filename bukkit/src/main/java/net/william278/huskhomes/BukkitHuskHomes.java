@@ -43,6 +43,7 @@ import net.william278.huskhomes.hook.Hook;
 import net.william278.huskhomes.listener.BukkitEventListener;
 import net.william278.huskhomes.listener.EventListener;
 import net.william278.huskhomes.manager.Manager;
+import net.william278.huskhomes.metrics.MetricsRegistry;
 import net.william278.huskhomes.network.Broker;
 import net.william278.huskhomes.network.PluginMessageBroker;
 import net.william278.huskhomes.position.Location;
@@ -51,6 +52,7 @@ import net.william278.huskhomes.position.World;
 import net.william278.huskhomes.random.RandomTeleportEngine;
 import net.william278.huskhomes.user.*;
 import net.william278.huskhomes.util.BukkitSavePositionProvider;
+import net.william278.huskhomes.util.ColumnSafetyCache;
 import net.william278.huskhomes.util.BukkitTask;
 import net.william278.huskhomes.util.UnsafeBlocks;
 import net.william278.toilet.BukkitToilet;
@@ -93,6 +95,8 @@ public class BukkitHuskHomes extends JavaPlugin implements HuskHomes, BukkitTask
     private final Map<UUID, OnlineUser> onlineUserMap = Maps.newHashMap();
     private final Map<String, List<User>> globalUserList = Maps.newConcurrentMap();
     private final List<Command> commands = Lists.newArrayList();
+    private final ColumnSafetyCache columnSafetyCache = new ColumnSafetyCache();
+    private final MetricsRegistry metricsRegistry = new MetricsRegistry();
 
     @Setter
     private Set<Hook> hooks = Sets.newHashSet();
@@ -29,9 +29,11 @@ import net.william278.huskhomes.user.CommandUser;
 import net.william278.huskhomes.user.OnlineUser;
 import net.william278.huskhomes.user.User;
 import org.bukkit.Bukkit;
+import org.bukkit.plugin.RegisteredListener;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
+import java.util.logging.Level;
 
 import static net.william278.huskhomes.event.ITeleportWarmupCancelledEvent.CancelReason;
 
@@ -39,10 +41,47 @@ public interface BukkitEventDispatcher extends EventDispatcher {
 
     @Override
     default <T extends Event> boolean fireIsCancelled(@NotNull T event) {
-        Bukkit.getPluginManager().callEvent((org.bukkit.event.Event) event);
+        final org.bukkit.event.Event bukkitEvent = (org.bukkit.event.Event) event;
+        if (Bukkit.isPrimaryThread() || getListeners(event) != Listeners.THREAD_SAFE) {
+            Bukkit.getPluginManager().callEvent(bukkitEvent);
+            return event instanceof Cancellable cancellable && cancellable.isCancelled();
+        }
+
+        // The plugin manager won't call sync events off the server thread, so call thread-safe listeners directly
+        for (RegisteredListener listener : bukkitEvent.getHandlers().getRegisteredListeners()) {
+            if (!listener.getPlugin().isEnabled()) {
+                continue;
+            }
+            try {
+                listener.callEvent(bukkitEvent);
+            } catch (Throwable e) {
+                getPlugin().log(Level.SEVERE, "Could not pass event " + bukkitEvent.getEventName()
+                                              + " to " + listener.getPlugin().getName(), e);
+            }
+        }
         return event instanceof Cancellable cancellable && cancellable.isCancelled();
     }
 
+    @Override
+    default boolean isServerThread() {
+        return Bukkit.isPrimaryThread();
+    }
+
+    @Override
+    @NotNull
+    default <T extends Event> Listeners getListeners(@NotNull T event) {
+        final RegisteredListener[] listeners = ((org.bukkit.event.Event) event).getHandlers().getRegisteredListeners();
+        if (listeners.length == 0) {
+            return Listeners.NONE;
+        }
+        for (RegisteredListener listener : listeners) {
+            if (!(listener.getListener() instanceof ThreadSafeListener)) {
+                return Listeners.SYNC;
+            }
+        }
+        return Listeners.THREAD_SAFE;
+    }
+
     @Override
     @NotNull
     default ITeleportEvent getTeleportEvent(@NotNull Teleport teleport) {
@@ -84,6 +123,12 @@ public interface BukkitEventDispatcher extends EventDispatcher {
         return new ReplyTeleportRequestEvent(recipient, request);
     }
 
+    @Override
+    default @NotNull IExpireTeleportRequestEvent getExpireTeleportRequestEvent(@NotNull User recipient,
+                                                                               @NotNull TeleportRequest request) {
+        return new ExpireTeleportRequestEvent(recipient, request);
+    }
+
     @Override
     default @NotNull IHomeCreateEvent getHomeCreateEvent(@NotNull User owner, @NotNull String name,
                                                          @NotNull Position position, @NotNull CommandUser creator) {
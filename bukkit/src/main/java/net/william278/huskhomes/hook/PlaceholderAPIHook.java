@@ -77,23 +77,19 @@ public class PlaceholderAPIHook extends Hook {
             final OnlineUser player = plugin.getOnlineUser(offlinePlayer.getPlayer());
             return switch (params) {
                 case "homes_count" -> String.valueOf(plugin.getManager().homes()
-                        .getUserHomes()
-                        .getOrDefault(player.getName(), List.of()).size());
+                        .getUserHomeNames(player.getName()).count());
                 case "max_homes" -> String.valueOf(plugin.getManager().homes().getMaxHomes(player));
                 case "max_public_homes" -> String.valueOf(plugin.getManager().homes().getMaxPublicHomes(player));
                 case "free_home_slots" -> String.valueOf(plugin.getManager().homes().getFreeHomes(player));
                 case "home_slots" -> String.valueOf(plugin.getSavedUser(player)
                         .map(SavedUser::getHomeSlots)
                         .orElse(0));
-                case "homes_list" -> String.join(", ", plugin.getManager().homes()
-                        .getUserHomes()
-                        .getOrDefault(player.getName(), List.of()));
+                case "homes_list" -> plugin.getManager().homes()
+                        .getUserHomeNames(player.getName()).joined();
                 case "public_homes_count" -> String.valueOf(plugin.getManager().homes()
-                        .getPublicHomes()
-                        .getOrDefault(player.getName(), List.of()).size());
-                case "public_homes_list" -> String.join(", ", plugin.getManager().homes()
-                        .getPublicHomes()
-                        .getOrDefault(player.getName(), List.of()));
+                        .getUserPublicHomeNames(player.getName()).count());
+                case "public_homes_list" -> plugin.getManager().homes()
+                        .getUserPublicHomeNames(player.getName()).joined();
                 case "ignoring_tp_requests" -> getBooleanValue(plugin.getManager().requests()
                         .isIgnoringRequests(player));
                 default -> handleHomeIndexParam(player, params);
@@ -104,36 +100,17 @@ public class PlaceholderAPIHook extends Hook {
         private String handleHomeIndexParam(@NotNull OnlineUser player, @NotNull String params) {
             if (params.startsWith("homes_")) {
                 try {
-                    int index = Integer.parseInt(params.substring(5)) - 1; // Convert to 0-based index
+                    int index = Integer.parseInt(params.substring(6)) - 1; // Convert to 0-based index
                     if (index < 0) {
                         return null;
                     }
-                    List<Home> homes = plugin.getManager().homes().getUserHomes().get(player.getName());
-                    if (homes == null || homes.isEmpty()) {
+                    final List<String> homes = plugin.getManager().homes().getUserHomeNames(player.getName()).names();
+                    if (homes.isEmpty()) {
                         return "No homes";
                     }
 
                     if (index < homes.size()) {
-                        return homes.get(index).getName();
-                    }
-                    return "Index out of range";
-                } catch (NumberFormatException e) {
-                    return "Invalid number";
-                }
-            }
-            else if (params.startsWith("homes_")) {
-                try {
-                    int index = Integer.parseInt(params.substring(5)) - 1; // Convert to 0-based index
-                    if (index < 0) {
-                        return null;
-                    }
-                    List<Home> homes = plugin.getManager().homes().getUserHomes().get(player.getName());
-                    if (homes == null || homes.isEmpty()) {
-                        return "No homes";
-                    }
-
-                    if (index < homes.size()) {
-                        return homes.get(index).getName();
+                        return homes.get(index);
                     }
                     return "Index out of range";
                 } catch (NumberFormatException e) {
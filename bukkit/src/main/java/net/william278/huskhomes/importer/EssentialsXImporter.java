@@ -24,6 +24,7 @@ import com.earth2me.essentials.Warps;
 import com.earth2me.essentials.commands.WarpNotFoundException;
 import net.william278.huskhomes.BukkitHuskHomes;
 import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.config.Settings;
 import net.william278.huskhomes.hook.PluginHook;
 import net.william278.huskhomes.user.User;
 import net.william278.huskhomes.util.ValidationException;
@@ -106,11 +107,12 @@ public class EssentialsXImporter extends Importer {
             return name;
         } catch (ValidationException e) {
             // Remove spaces
-            name = name.replaceAll(" ", "_");
+            name = name.replace(' ', '_');
 
-            // Remove unicode characters
-            if (plugin.getSettings().getGeneral().getNames().isRestrict()) {
-                name = name.replaceAll(plugin.getSettings().getGeneral().getNames().getRegex(), "");
+            // Remove characters not allowed by the name filter
+            final Settings.GeneralSettings.NameSettings names = plugin.getSettings().getGeneral().getNames();
+            if (names.isRestrict()) {
+                name = names.getFilter().strip(name);
             }
 
             // Ensure the name is not blank
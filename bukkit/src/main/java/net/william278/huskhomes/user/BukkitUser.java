@@ -21,6 +21,7 @@ package net.william278.huskhomes.user;
 
 import io.papermc.lib.PaperLib;
 import net.william278.huskhomes.BukkitHuskHomes;
+import net.william278.huskhomes.metrics.Metric;
 import net.william278.huskhomes.network.PluginMessageBroker;
 import net.william278.huskhomes.position.Location;
 import net.william278.huskhomes.position.Position;
@@ -123,14 +124,17 @@ public class BukkitUser extends OnlineUser {
         }
 
         // Run on the appropriate thread scheduler for this platform
+        final long start = System.nanoTime();
         plugin.runSync(() -> {
             bukkitPlayer.leaveVehicle();
             bukkitPlayer.eject();
             if (async || ((BukkitHuskHomes) plugin).getScheduler().isUsingFolia()) {
-                PaperLib.teleportAsync(bukkitPlayer, location, PlayerTeleportEvent.TeleportCause.PLUGIN);
+                PaperLib.teleportAsync(bukkitPlayer, location, PlayerTeleportEvent.TeleportCause.PLUGIN)
+                        .thenRun(() -> plugin.getMetricsRegistry().record(Metric.TELEPORT_MOVE, start));
                 return;
             }
             bukkitPlayer.teleport(location, PlayerTeleportEvent.TeleportCause.PLUGIN);
+            plugin.getMetricsRegistry().record(Metric.TELEPORT_MOVE, start);
         }, this);
     }
 
@@ -21,15 +21,16 @@ package net.william278.huskhomes.util;
 
 import io.papermc.lib.PaperLib;
 import net.william278.huskhomes.BukkitHuskHomes;
+import net.william278.huskhomes.metrics.Metric;
+import net.william278.huskhomes.metrics.MetricsRegistry;
 import net.william278.huskhomes.position.Location;
-import org.bukkit.Chunk;
 import org.bukkit.ChunkSnapshot;
-import org.bukkit.Material;
 import org.bukkit.World;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.IntBinaryOperator;
 
 public interface BukkitSavePositionProvider extends SavePositionProvider {
 
@@ -45,15 +46,16 @@ public interface BukkitSavePositionProvider extends SavePositionProvider {
             return CompletableFuture.completedFuture(Optional.empty());
         }
 
-        // Search nearby blocks for a safe location
+        // Cached column results depend on the configured heights and unsafe blocks, so drop them if they've reloaded
+        final World world = bukkitLocation.getWorld();
+        getColumnSafetyCache().invalidateIfChanged(getPlugin().getSettings(), getPlugin().getUnsafeBlocks());
+        final int minY = getMinHeight(world);
+        final int maxY = getMaxHeight(world);
+
+        // Search nearby blocks for a safe location, reading them from a snapshot as this may not be the server thread
         return PaperLib.getChunkAtAsync(bukkitLocation)
-                .thenApply(Chunk::getChunkSnapshot)
-                .thenApply(snapshot -> findSafeLocationNear(
-                        location,
-                        snapshot,
-                        getMinHeight(bukkitLocation.getWorld()),
-                        getMaxHeight(bukkitLocation.getWorld())
-                ));
+                .thenApply(chunk -> chunk.getChunkSnapshot(true, false, false))
+                .thenApply(snapshot -> findSafeLocationNear(location, snapshot, minY, maxY));
     }
 
     /**
@@ -69,6 +71,8 @@ public interface BukkitSavePositionProvider extends SavePositionProvider {
                                                     int minY, int maxY) {
         final int chunkX = ((int) location.getX()) & 0xF;
         final int chunkZ = ((int) location.getZ()) & 0xF;
+        final MetricsRegistry metrics = getPlugin().getMetricsRegistry();
+        final boolean[] checked = new boolean[1];
 
         for (int dx = -SEARCH_RADIUS; dx <= SEARCH_RADIUS; dx++) {
             for (int dz = -SEARCH_RADIUS; dz <= SEARCH_RADIUS; dz++) {
@@ -77,13 +81,28 @@ public interface BukkitSavePositionProvider extends SavePositionProvider {
                 if (x < 0 || x >= 16 || z < 0 || z >= 16) {
                     continue;
                 }
-                final int y = Math.max((minY + 1), Math.min(chunk.getHighestBlockYAt(x, z), maxY)) + 1;
-                final Material blockType = chunk.getBlockType(x, y - 1, z);
-                final Material bodyBlockType = chunk.getBlockType(x, y, z);
-                final Material headBlockType = chunk.getBlockType(x, y + 1, z);
-                if (isBlockSafeForStanding(blockType.getKey().toString())
-                        && isBlockSafeForOccupation(bodyBlockType.getKey().toString())
-                        && isBlockSafeForOccupation(headBlockType.getKey().toString())) {
+                checked[0] = false;
+                final IntBinaryOperator checker = (columnX, columnZ) -> {
+                    checked[0] = true;
+                    return getSafeY(chunk, columnX & 0xF, columnZ & 0xF, minY, maxY);
+                };
+                final String world = chunk.getWorldName();
+                final int blockX = (chunk.getX() << 4) | x;
+                final int blockZ = (chunk.getZ() << 4) | z;
+                int y = getColumnSafetyCache().getSafeY(world, blockX, blockZ, checker);
+
+                // Cached results are only a hint, as blocks can change without an event that invalidates them, so
+                // re-check the blocks at a cached safe position and check the column again if they've changed
+                if (!checked[0] && y != ColumnSafetyCache.UNSAFE && !isSafeAt(chunk, x, y, z)) {
+                    getColumnSafetyCache().invalidate(world, chunk.getX(), chunk.getZ());
+                    y = getColumnSafetyCache().getSafeY(world, blockX, blockZ, checker);
+                }
+                if (checked[0]) {
+                    metrics.miss(Metric.SAFE_GROUND_CACHE);
+                } else {
+                    metrics.hit(Metric.SAFE_GROUND_CACHE);
+                }
+                if (y != ColumnSafetyCache.UNSAFE) {
                     double locx = Math.floor(location.getX()) + dx;
                     if (locx < 0) {
                         locx += 1.5d;
@@ -108,30 +127,45 @@ public interface BukkitSavePositionProvider extends SavePositionProvider {
         return Optional.empty();
     }
 
-    private int getMinHeight(World world) {
-        int minHeight = world.getMinHeight();
-        for (String pair : getPlugin().getSettings().getRtp().getMinHeight()) {
-            String worldName = pair.split(":")[0];
-            int settingsHeight = Integer.parseInt(pair.split(":")[1]);
-            if (world.getName().equals(worldName) & settingsHeight >= minHeight) {
-                minHeight = settingsHeight;
-            }
-        }
-        return minHeight;
+    /**
+     * Check a block column for a safe standing position, reading its height from the chunk heightmap.
+     *
+     * @param chunk The chunk snapshot containing the column
+     * @param x     The X coordinate of the column within the chunk
+     * @param z     The Z coordinate of the column within the chunk
+     * @param minY  The minimum Y value of the world
+     * @param maxY  The maximum Y value of the world
+     * @return The Y value to stand at, or {@link ColumnSafetyCache#UNSAFE} if the column is not safe
+     */
+    private int getSafeY(@NotNull ChunkSnapshot chunk, int x, int z, int minY, int maxY) {
+        final int y = Math.max((minY + 1), Math.min(chunk.getHighestBlockYAt(x, z), maxY)) + 1;
+        return isSafeAt(chunk, x, y, z) ? y : ColumnSafetyCache.UNSAFE;
     }
 
-    private int getMaxHeight(World world) {
-        int maxHeight = world.getMaxHeight();
-        for (String pair : getPlugin().getSettings().getRtp().getMaxHeight()) {
-            String worldName = pair.split(":")[0];
-            int settingsHeight = Integer.parseInt(pair.split(":")[1]);
-            if (world.getName().equals(worldName) & settingsHeight >= maxHeight) {
-                maxHeight = settingsHeight;
-            }
-        }
-        return maxHeight;
+    // Check the block to stand on and the two blocks to occupy at a position in a chunk are safe
+    private boolean isSafeAt(@NotNull ChunkSnapshot chunk, int x, int y, int z) {
+        return isBlockSafeForStanding(chunk.getBlockType(x, y - 1, z).getKey().toString())
+                && isBlockSafeForOccupation(chunk.getBlockType(x, y, z).getKey().toString())
+                && isBlockSafeForOccupation(chunk.getBlockType(x, y + 1, z).getKey().toString());
     }
 
-    
+    private int getMinHeight(@NotNull World world) {
+        return Math.max(world.getMinHeight(), getPlugin().getSettings().getRtp()
+                .getMinHeight(world.getName()).orElse(Integer.MIN_VALUE));
+    }
+
+    private int getMaxHeight(@NotNull World world) {
+        return Math.min(world.getMaxHeight(), getPlugin().getSettings().getRtp()
+                .getMaxHeight(world.getName()).orElse(Integer.MAX_VALUE));
+    }
+
+    /**
+     * Get the cache of safe ground checks for block columns, shared by all safe location searches.
+     *
+     * @return the column safety cache
+     * @since 4.10
+     */
+    @NotNull
+    ColumnSafetyCache getColumnSafetyCache();
 
 }
@@ -0,0 +1,129 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * A bounded, per-world cache of the results of safe ground checks for block columns, grouped by chunk.
+ *
+ * <p>Each column is either unchecked, unsafe, or safe to stand at a Y coordinate. Chunks are evicted least recently
+ * used first, and should be invalidated when blocks in them change.
+ */
+public class ColumnSafetyCache {
+
+    /**
+     * The maximum number of chunks to cache results for in each world.
+     */
+    public static final int MAX_CHUNKS_PER_WORLD = 256;
+
+    /**
+     * A column that has been checked and has no safe standing position.
+     */
+    public static final int UNSAFE = Integer.MIN_VALUE;
+    private static final int UNCHECKED = Integer.MIN_VALUE + 1;
+
+    private final Map<String, Map<Long, int[]>> worlds = new HashMap<>();
+    private Object[] validity = new Object[0];
+
+    /**
+     * Get the safe Y coordinate of a column, checking and caching it if it hasn't been already.
+     *
+     * <p>The check runs outside the cache's lock, so a slow check doesn't hold up other lookups. If the chunk is
+     * invalidated while it runs, the result isn't cached.
+     *
+     * @param world   the name of the world
+     * @param x       the block X coordinate of the column
+     * @param z       the block Z coordinate of the column
+     * @param checker function to check the column at a given X and Z, returning the safe Y or {@link #UNSAFE}
+     * @return the safe Y coordinate, or {@link #UNSAFE}
+     */
+    public int getSafeY(@NotNull String world, int x, int z, @NotNull IntBinaryOperator checker) {
+        final int index = ((z & 0xF) << 4) | (x & 0xF);
+        final int[] columns;
+        synchronized (this) {
+            columns = worlds.computeIfAbsent(world, w -> new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, int[]> eldest) {
+                    return size() > MAX_CHUNKS_PER_WORLD;
+                }
+            }).computeIfAbsent(getChunkKey(x >> 4, z >> 4), key -> newChunk());
+            if (columns[index] != UNCHECKED) {
+                return columns[index];
+            }
+        }
+
+        // An invalidated chunk's columns are no longer mapped, so writing to them afterwards has no effect
+        final int y = checker.applyAsInt(x, z);
+        synchronized (this) {
+            columns[index] = y;
+        }
+        return y;
+    }
+
+    /**
+     * Invalidate cached results for a chunk.
+     *
+     * @param world  the name of the world
+     * @param chunkX the chunk X coordinate
+     * @param chunkZ the chunk Z coordinate
+     */
+    public synchronized void invalidate(@NotNull String world, int chunkX, int chunkZ) {
+        final Map<Long, int[]> chunks = worlds.get(world);
+        if (chunks != null) {
+            chunks.remove(getChunkKey(chunkX, chunkZ));
+        }
+    }
+
+    /**
+     * Invalidate all cached results if the objects the results were computed against have changed, such as after the
+     * plugin config has been reloaded.
+     *
+     * @param dependencies the objects the results depend on, compared by identity
+     */
+    public synchronized void invalidateIfChanged(@NotNull Object... dependencies) {
+        boolean changed = dependencies.length != validity.length;
+        for (int i = 0; !changed && i < dependencies.length; i++) {
+            changed = dependencies[i] != validity[i];
+        }
+        if (changed) {
+            worlds.clear();
+            validity = dependencies;
+        }
+    }
+
+    private static long getChunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    @NotNull
+    private static int[] newChunk() {
+        final int[] columns = new int[256];
+        Arrays.fill(columns, UNCHECKED);
+        return columns;
+    }
+
+}
@@ -34,6 +34,7 @@ import net.william278.huskhomes.hook.HookProvider;
 import net.william278.huskhomes.hook.PluginHook;
 import net.william278.huskhomes.listener.ListenerProvider;
 import net.william278.huskhomes.manager.ManagerProvider;
+import net.william278.huskhomes.metrics.MetricsRegistry;
 import net.william278.huskhomes.network.BrokerProvider;
 import net.william278.huskhomes.position.Position;
 import net.william278.huskhomes.position.World;
@@ -48,6 +49,7 @@ import org.jetbrains.annotations.Nullable;
 import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalDouble;
 import java.util.Set;
 import java.util.UUID;
 import java.util.logging.Level;
@@ -227,6 +229,26 @@ public interface HuskHomes extends Task.Supplier, EventDispatcher, SavePositionP
     @NotNull
     Set<UUID> getCurrentlyOnWarmup();
 
+    /**
+     * Returns the registry of timings and counts recorded about the plugin's operations.
+     *
+     * @return the {@link MetricsRegistry}
+     * @since 4.10
+     */
+    @NotNull
+    MetricsRegistry getMetricsRegistry();
+
+    /**
+     * Returns the server's recent average tick time, if the platform exposes it.
+     *
+     * @return the average tick time, in milliseconds
+     * @since 4.10
+     */
+    @NotNull
+    default OptionalDouble getAverageTickTime() {
+        return OptionalDouble.empty();
+    }
+
     /**
      * Returns if the given user is currently warming up to teleport to a home.
      *
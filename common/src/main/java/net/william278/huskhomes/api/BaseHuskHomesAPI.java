@@ -23,6 +23,7 @@ import de.themoep.minedown.adventure.MineDown;
 import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.config.Locales;
 import net.william278.huskhomes.config.Settings;
+import net.william278.huskhomes.metrics.MetricsRegistry;
 import net.william278.huskhomes.network.Broker;
 import net.william278.huskhomes.network.Message;
 import net.william278.huskhomes.network.Payload;
@@ -38,6 +39,7 @@ import net.william278.huskhomes.user.User;
 import net.william278.huskhomes.util.TransactionResolver;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -331,6 +333,26 @@ public class BaseHuskHomesAPI {
         return plugin.supplyAsync(() -> plugin.getDatabase().getPublicHomes());
     }
 
+    /**
+     * Get a page of homes that have been made public ("public homes"), ordered by name and then by unique ID.
+     *
+     * <p>To get the next page, pass the last home of the previous page as {@code after}. An empty or partially-filled
+     * page indicates there are no more public homes to get.
+     *
+     * @param after  The last home of the previous page, or {@code null} to get the first page
+     * @param limit  The maximum number of homes to get
+     * @param server The name of the server to get homes on, or {@code null} to get homes on any server
+     * @param world  The name of the world to get homes in, or {@code null} to get homes in any world
+     * @return A {@link CompletableFuture} that will complete with a page of public {@link Home}s, or complete exceptionally
+     * if the page couldn't be fetched
+     * @since 4.10
+     */
+    public final CompletableFuture<List<Home>> getPublicHomes(@Nullable Home after, int limit,
+                                                              @Nullable String server, @Nullable String world) {
+        return plugin.supplyAsync(() -> plugin.getDatabase().getPublicHomes(after, limit, server, world)
+                .orElseThrow(() -> new IllegalStateException("Failed to fetch a page of public homes")));
+    }
+
     /**
      * Get a {@link Home} from the database owned by a given {@link User} with the specified name.
      *
@@ -587,6 +609,26 @@ public class BaseHuskHomesAPI {
         return plugin.supplyAsync(() -> plugin.getDatabase().getWarps());
     }
 
+    /**
+     * Get a page of {@link Warp}s, ordered by name and then by unique ID.
+     *
+     * <p>To get the next page, pass the last warp of the previous page as {@code after}. An empty or partially-filled
+     * page indicates there are no more warps to get.
+     *
+     * @param after  The last warp of the previous page, or {@code null} to get the first page
+     * @param limit  The maximum number of warps to get
+     * @param server The name of the server to get warps on, or {@code null} to get warps on any server
+     * @param world  The name of the world to get warps in, or {@code null} to get warps in any world
+     * @return A {@link CompletableFuture} that will complete with a page of {@link Warp}s, or complete exceptionally
+     * if the page couldn't be fetched
+     * @since 4.10
+     */
+    public final CompletableFuture<List<Warp>> getWarps(@Nullable Warp after, int limit,
+                                                        @Nullable String server, @Nullable String world) {
+        return plugin.supplyAsync(() -> plugin.getDatabase().getWarps(after, limit, server, world)
+                .orElseThrow(() -> new IllegalStateException("Failed to fetch a page of warps")));
+    }
+
     /**
      * Get a {@link Warp} from the database with the specified name.
      *
@@ -812,7 +854,7 @@ public class BaseHuskHomesAPI {
      * Attempt to teleport an {@link OnlineUser} to a randomly generated {@link Position}. The {@link Position} will be
      * generated by the current {@link RandomTeleportEngine} on a randomly chosen server from
      * {@link Settings.RtpSettings Allowed Servers} (If {@link Settings.CrossServerSettings Broker Type}
-     * is {@link Broker.Type#REDIS}.
+     * is {@link Broker.Type#isRedis() Redis-backed}.
      *
      * @param user          The {@link OnlineUser} to teleport
      * @param timedTeleport Whether the teleport should be timed or not (requiring a warmup where they must stand still
@@ -825,7 +867,7 @@ public class BaseHuskHomesAPI {
     public final void randomlyTeleportPlayer(@NotNull OnlineUser user, boolean timedTeleport,
                                              @NotNull String... rtpArgs) {
         if (plugin.getSettings().getRtp().isCrossServer() && (plugin.getSettings().getCrossServer().isEnabled() &&
-                                                              plugin.getSettings().getCrossServer().getBrokerType() == Broker.Type.REDIS)) {
+                                                              plugin.getSettings().getCrossServer().getBrokerType().isRedis())) {
             List<String> allowedServers = new ArrayList<>(plugin.getSettings().getRtp().getRandomTargetServers().keySet());
             String randomServer = allowedServers.get(random.nextInt(allowedServers.size()));
             if (randomServer.equals(plugin.getServerName())) {
@@ -912,6 +954,18 @@ public class BaseHuskHomesAPI {
         plugin.setRandomTeleportEngine(randomTeleportEngine);
     }
 
+    /**
+     * Get the {@link MetricsRegistry} recording timings of database queries, cross-server messages, teleports and
+     * random teleport searches, as well as cache hit rates.
+     *
+     * @return the plugin's {@link MetricsRegistry}
+     * @since 4.10
+     */
+    @NotNull
+    public final MetricsRegistry getMetricsRegistry() {
+        return plugin.getMetricsRegistry();
+    }
+
     /**
      * Get a {@link MineDown}-formatted locale by key from the plugin {@link Locales} file.
      *
@@ -922,6 +976,10 @@ public class BaseHuskHomesAPI {
      * @since 3.0
      */
     public final Optional<MineDown> getLocale(@NotNull String localeKey, @NotNull String... replacements) {
+        // Argument-free locales are shared, so hand API users their own copy to modify
+        if (replacements.length == 0) {
+            return plugin.getLocales().getRawLocale(localeKey).map(plugin.getLocales()::format);
+        }
         return plugin.getLocales().getLocale(localeKey, replacements);
     }
 
@@ -79,7 +79,13 @@ public class DelHomeCommand extends SavedPositionCommand<Home> {
             }
 
             plugin.fireEvent(plugin.getDeleteAllHomesEvent(user, user), (event) -> {
-                final int deleted = plugin.getManager().homes().deleteAllHomes(user);
+                final int deleted;
+                try {
+                    deleted = plugin.getManager().homes().deleteAllHomes(user);
+                } catch (ValidationException e) {
+                    e.dispatchHomeError(user, false, plugin);
+                    return;
+                }
                 if (deleted == 0) {
                     plugin.getLocales().getLocale("error_no_homes_set")
                             .ifPresent(user::sendMessage);
@@ -79,7 +79,13 @@ public class DelWarpCommand extends SavedPositionCommand<Warp> {
             }
 
             plugin.fireEvent(plugin.getDeleteAllWarpsEvent(executor), (event) -> {
-                final int deleted = plugin.getManager().warps().deleteAllWarps();
+                final int deleted;
+                try {
+                    deleted = plugin.getManager().warps().deleteAllWarps();
+                } catch (ValidationException e) {
+                    e.dispatchWarpError(executor, plugin);
+                    return;
+                }
                 if (deleted == 0) {
                     plugin.getLocales().getLocale("error_no_warps_set")
                             .ifPresent(executor::sendMessage);
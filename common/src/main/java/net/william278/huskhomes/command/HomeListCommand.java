@@ -24,7 +24,6 @@ import net.william278.huskhomes.config.Locales;
 import net.william278.huskhomes.position.Home;
 import net.william278.huskhomes.user.CommandUser;
 import net.william278.huskhomes.user.OnlineUser;
-import net.william278.huskhomes.user.SavedUser;
 import net.william278.huskhomes.user.User;
 import net.william278.paginedown.PaginatedList;
 import org.jetbrains.annotations.NotNull;
@@ -60,7 +59,7 @@ public class HomeListCommand extends ListCommand {
     }
 
     protected void showHomeList(@NotNull CommandUser executor, @NotNull String homeOwner, int pageNumber) {
-        final Optional<User> targetUser = plugin.getDatabase().getUser(homeOwner).map(SavedUser::getUser);
+        final Optional<User> targetUser = plugin.getDatabase().resolveUser(homeOwner);
         final User user;
         final int page;
         if (targetUser.isEmpty()) {
@@ -110,18 +109,17 @@ public class HomeListCommand extends ListCommand {
         }
 
         final String homeListArguments = !executor.equals(user) ? " " + user.getName() : "";
+        final String isPublic = plugin.getLocales().getRawLocale("home_is_public").orElse("Public");
+        final String isPrivate = plugin.getLocales().getRawLocale("home_is_private").orElse("Private");
+        final String none = plugin.getLocales().getNone();
         final PaginatedList homeList = PaginatedList.of(homes.stream().map(home ->
                         plugin.getLocales()
                                 .getRawLocale("home_list_item",
                                         Locales.escapeText(home.getName()),
                                         home.getSafeIdentifier(),
-                                        home.isPublic()
-                                                ? plugin.getLocales().getRawLocale("home_is_public")
-                                                .orElse("Public")
-                                                : plugin.getLocales().getRawLocale("home_is_private")
-                                                .orElse("Private"),
+                                        home.isPublic() ? isPublic : isPrivate,
                                         home.getMeta().getDescription().isBlank()
-                                                ? plugin.getLocales().getNone()
+                                                ? none
                                                 : Locales.escapeText(home.getMeta().getDescription())
                                 )
                                 .orElse(home.getName())).sorted().collect(Collectors.toList()),
@@ -30,38 +30,47 @@ import net.william278.desertwell.about.AboutMenu;
 import net.william278.desertwell.util.UpdateChecker;
 import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.config.Locales;
+import net.william278.huskhomes.database.Database;
+import net.william278.huskhomes.database.DatabaseMigrator;
 import net.william278.huskhomes.hook.PluginHook;
+import net.william278.huskhomes.importer.DataExporter;
 import net.william278.huskhomes.importer.Importer;
 import net.william278.huskhomes.position.Home;
 import net.william278.huskhomes.user.CommandUser;
 import net.william278.huskhomes.user.SavedUser;
 import net.william278.huskhomes.user.User;
 import net.william278.huskhomes.util.StatusLine;
+import net.william278.huskhomes.util.ValidationException;
 import net.william278.paginedown.PaginatedList;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 public class HuskHomesCommand extends Command implements UserListTabCompletable {
 
-    private static final Map<String, Boolean> SUB_COMMANDS = Map.of(
-            "about", false,
-            "help", false,
-            "reload", true,
-            "status", true,
-            "dump", true,
-            "homeslots", true,
-            "import", true,
-            "delete", true,
-            "update", true
+    private static final Map<String, Boolean> SUB_COMMANDS = Map.ofEntries(
+            Map.entry("about", false),
+            Map.entry("help", false),
+            Map.entry("reload", true),
+            Map.entry("status", true),
+            Map.entry("dump", true),
+            Map.entry("homeslots", true),
+            Map.entry("import", true),
+            Map.entry("export", true),
+            Map.entry("migrate", true),
+            Map.entry("delete", true),
+            Map.entry("update", true)
     );
 
     private final UpdateChecker updateChecker;
     private final AboutMenu aboutMenu;
+    private final AtomicBoolean migrating = new AtomicBoolean();
 
     protected HuskHomesCommand(@NotNull HuskHomes plugin) {
         super(
@@ -123,7 +132,10 @@ public class HuskHomesCommand extends Command implements UserListTabCompletable
                 getPlugin().getLocales().getLocale("system_status_header").ifPresent(executor::sendMessage);
                 executor.sendMessage(Component.join(
                         JoinConfiguration.newlines(),
-                        Arrays.stream(StatusLine.values()).map(s -> s.get(plugin)).toList()
+                        Stream.concat(
+                                Arrays.stream(StatusLine.values()).map(s -> s.get(plugin)),
+                                StatusLine.getMetrics(plugin).stream()
+                        ).toList()
                 ));
             }
             case "dump" -> {
@@ -156,6 +168,8 @@ public class HuskHomesCommand extends Command implements UserListTabCompletable
                 }
                 this.importData(executor, removeFirstArg(args));
             }
+            case "export" -> plugin.runAsync(() -> new DataExporter(plugin).export(executor));
+            case "migrate" -> this.migrateData(executor, removeFirstArg(args));
             case "reload" -> plugin.runSync(() -> {
                 try {
                     plugin.unloadHooks(PluginHook.Register.ON_ENABLE, PluginHook.Register.AFTER_LOAD);
@@ -283,6 +297,44 @@ public class HuskHomesCommand extends Command implements UserListTabCompletable
         }
     }
 
+    // Migrate data from one database type to another
+    private void migrateData(@NotNull CommandUser executor, @NotNull String[] args) {
+        final Optional<Database.Type> source = parseStringArg(args, 0).flatMap(this::parseDatabaseType);
+        final Optional<Database.Type> target = parseStringArg(args, 1).flatMap(this::parseDatabaseType);
+        if (source.isEmpty() || target.isEmpty()) {
+            plugin.getLocales().getLocale("error_invalid_syntax",
+                            "/" + getName() + " migrate <from> <to>")
+                    .ifPresent(executor::sendMessage);
+            return;
+        }
+
+        final DatabaseMigrator migrator;
+        try {
+            migrator = new DatabaseMigrator(plugin, source.get(), target.get());
+        } catch (IllegalArgumentException e) {
+            executor.sendMessage(new MineDown("[Error:](#ff3300) [%s](#ff7e5e)".formatted(e.getMessage())));
+            return;
+        }
+        if (!migrating.compareAndSet(false, true)) {
+            executor.sendMessage(new MineDown("[Error:](#ff3300) [A migration is already in progress](#ff7e5e)"));
+            return;
+        }
+        plugin.runAsync(() -> {
+            try {
+                migrator.start(executor);
+            } finally {
+                migrating.set(false);
+            }
+        });
+    }
+
+    @NotNull
+    private Optional<Database.Type> parseDatabaseType(@NotNull String name) {
+        return Arrays.stream(Database.Type.values())
+                .filter(type -> type.name().equalsIgnoreCase(name))
+                .findFirst();
+    }
+
     // Delete the data of a player
     private void deletePlayerData(@NotNull CommandUser executor, @NotNull String[] args) {
         final Optional<String> nameOrUuid = parseStringArg(args, 0);
@@ -315,7 +367,13 @@ public class HuskHomesCommand extends Command implements UserListTabCompletable
                 return;
             }
 
-            final int homesDeleted = plugin.getManager().homes().deleteAllHomes(user);
+            final int homesDeleted;
+            try {
+                homesDeleted = plugin.getManager().homes().deleteAllHomes(user);
+            } catch (ValidationException e) {
+                e.dispatchHomeError(executor, true, plugin);
+                return;
+            }
             plugin.getDatabase().deleteUser(user.getUuid());
             plugin.getLocales().getLocale("delete_player_success",
                             savedUser.get().getUser().getName(), Integer.toString(homesDeleted))
@@ -341,9 +399,15 @@ public class HuskHomesCommand extends Command implements UserListTabCompletable
             return;
         }
         plugin.runAsync(() -> {
-            final int homesDeleted = plugin.getManager().homes().deleteAllHomes(
-                    filters.get("world"), filters.get("server")
-            );
+            final int homesDeleted;
+            try {
+                homesDeleted = plugin.getManager().homes().deleteAllHomes(
+                        filters.get("world"), filters.get("server")
+                );
+            } catch (ValidationException e) {
+                e.dispatchHomeError(executor, true, plugin);
+                return;
+            }
             plugin.getLocales().getLocale("bulk_delete_homes_success",
                             Integer.toString(homesDeleted), filters.get("world"), filters.get("server"))
                     .ifPresent(executor::sendMessage);
@@ -368,9 +432,15 @@ public class HuskHomesCommand extends Command implements UserListTabCompletable
             return;
         }
         plugin.runAsync(() -> {
-            final int homesDeleted = plugin.getManager().warps().deleteAllWarps(
-                    filters.get("world"), filters.get("server")
-            );
+            final int homesDeleted;
+            try {
+                homesDeleted = plugin.getManager().warps().deleteAllWarps(
+                        filters.get("world"), filters.get("server")
+                );
+            } catch (ValidationException e) {
+                e.dispatchWarpError(executor, plugin);
+                return;
+            }
             plugin.getLocales().getLocale("bulk_delete_warps_success",
                             Integer.toString(homesDeleted), filters.get("world"), filters.get("server"))
                     .ifPresent(executor::sendMessage);
@@ -423,6 +493,11 @@ public class HuskHomesCommand extends Command implements UserListTabCompletable
                         .build());
     }
 
+    @NotNull
+    private List<String> getDatabaseTypeNames() {
+        return Arrays.stream(Database.Type.values()).map(type -> type.name().toLowerCase(Locale.ENGLISH)).toList();
+    }
+
     @Override
     @Nullable
     public List<String> suggest(@NotNull CommandUser user, @NotNull String[] args) {
@@ -435,6 +510,7 @@ public class HuskHomesCommand extends Command implements UserListTabCompletable
                 case "homeslots" -> UserListTabCompletable.super.getUsernameList();
                 case "import" -> List.of("start", "list");
                 case "delete" -> List.of("player", "homes", "warps");
+                case "migrate" -> getDatabaseTypeNames();
                 default -> null;
             };
             case 3 -> switch (args[0].toLowerCase()) {
@@ -445,6 +521,7 @@ public class HuskHomesCommand extends Command implements UserListTabCompletable
                     }
                     yield plugin.getImporters().stream().map(Importer::getName).toList();
                 }
+                case "migrate" -> getDatabaseTypeNames();
                 default -> null;
             };
             default -> null;
@@ -19,13 +19,17 @@
 
 package net.william278.huskhomes.command;
 
+import de.themoep.minedown.adventure.MineDown;
 import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.config.Locales;
 import net.william278.paginedown.PaginatedList;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.UUID;
 
 public abstract class ListCommand extends Command {
@@ -42,4 +46,81 @@ public abstract class ListCommand extends Command {
         cachedLists.clear();
     }
 
+    public void invalidateCaches(@NotNull UUID user) {
+        cachedLists.remove(user);
+    }
+
+    // Get the page number a list with a total number of items will show for a requested page number
+    protected final int getValidPage(int pageNumber, long total) {
+        final int itemsPerPage = plugin.getSettings().getGeneral().getListItemsPerPage();
+        final int pages = (int) Math.max(1, (total + itemsPerPage - 1) / itemsPerPage);
+        return Math.max(1, Math.min(pageNumber, pages));
+    }
+
+    // Get the number of items on the pages of a list before a valid page number
+    protected final int getPageOffset(int validPage) {
+        return (validPage - 1) * plugin.getSettings().getGeneral().getListItemsPerPage();
+    }
+
+    /**
+     * Format a page of a list that only has that page of its items loaded, with the list's header, total item and
+     * page counts, and the buttons for navigating to its other pages.
+     *
+     * @param items    the formatted items on the page
+     * @param page     the valid page number of the page
+     * @param total    the total number of items in the list
+     * @param headerId the id of the list header locale, taking the first, last and total item indices
+     * @param command  the command used to view other pages of the list
+     * @return the formatted page
+     */
+    @NotNull
+    protected final MineDown getPageView(@NotNull List<String> items, int page, long total,
+                                         @NotNull String headerId, @NotNull String command) {
+        final Locales locales = plugin.getLocales();
+        final int itemsPerPage = plugin.getSettings().getGeneral().getListItemsPerPage();
+        final int pages = (int) Math.max(1, (total + itemsPerPage - 1) / itemsPerPage);
+        final int offset = getPageOffset(page);
+
+        final StringBuilder view = new StringBuilder(locales.getRawLocale(headerId,
+                Integer.toString(offset + 1), Integer.toString(offset + items.size()), Long.toString(total)
+        ).orElse(""));
+        view.append(String.join(locales.getRawLocale("list_item_divider").orElse(" "), items));
+        view.append(locales.getRawLocale("list_footer",
+                page > 1 ? locales.getRawLocale("list_previous_page_button",
+                        Integer.toString(page - 1), command).orElse("") : "",
+                Integer.toString(page), Integer.toString(pages),
+                page < pages ? locales.getRawLocale("list_next_page_button",
+                        Integer.toString(page + 1), command).orElse("") : "",
+                pages > 1 ? locales.getRawLocale("list_page_jumpers",
+                        getPageJumpers(page, pages, command)).orElse("") : ""
+        ).orElse(""));
+        return locales.format(view.toString());
+    }
+
+    // Get the buttons for jumping to the first, last and nearby pages of a list, grouping the pages in between
+    @NotNull
+    private String getPageJumpers(int page, int pages, @NotNull String command) {
+        final Locales locales = plugin.getLocales();
+        final String separator = locales.getRawLocale("list_page_jumper_separator").orElse("");
+        final StringBuilder jumpers = new StringBuilder();
+        final SortedSet<Integer> shown = new TreeSet<>(List.of(1, pages));
+        for (int i = Math.max(1, page - 2); i <= Math.min(pages, page + 2); i++) {
+            shown.add(i);
+        }
+
+        int last = 0;
+        for (int i : shown) {
+            if (last != 0) {
+                jumpers.append(i - last > 1
+                        ? locales.getRawLocale("list_page_jumper_group_separator").orElse("")
+                        : separator);
+            }
+            jumpers.append(i == page
+                    ? locales.getRawLocale("list_page_jumper_current_page", Integer.toString(i)).orElse("")
+                    : locales.getRawLocale("list_page_jumper_button", Integer.toString(i), command).orElse(""));
+            last = i;
+        }
+        return jumpers.toString();
+    }
+
 }
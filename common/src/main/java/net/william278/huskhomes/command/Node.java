@@ -27,7 +27,6 @@ import net.william278.huskhomes.position.World;
 import net.william278.huskhomes.teleport.Teleportable;
 import net.william278.huskhomes.user.CommandUser;
 import net.william278.huskhomes.user.OnlineUser;
-import net.william278.huskhomes.user.SavedUser;
 import net.william278.huskhomes.user.User;
 import org.jetbrains.annotations.NotNull;
 
@@ -77,7 +76,7 @@ public abstract class Node implements Executable {
 
     protected Optional<User> resolveUser(@NotNull CommandUser executor, @NotNull String[] args) {
         return parseStringArg(args, 0)
-                .flatMap(a -> plugin.getDatabase().getUser(a)).map(SavedUser::getUser)
+                .flatMap(a -> plugin.getDatabase().resolveUser(a))
                 .or(() -> {
                     if (executor instanceof OnlineUser online) {
                         return Optional.of(online);
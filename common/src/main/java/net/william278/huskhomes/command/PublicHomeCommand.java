@@ -51,10 +51,11 @@ public class PublicHomeCommand extends HomeCommand implements TabCompletable {
     @NotNull
     public List<String> suggest(@NotNull CommandUser executor, @NotNull String[] args) {
         if (args.length <= 2) {
+            final String prefix = getCompletionPrefix(args);
             if (args.length >= 1 && args[0].contains(Home.getDelimiter())) {
-                return plugin.getManager().homes().getPublicHomeIdentifierNames();
+                return plugin.getManager().homes().suggestPublicHomeIdentifiers(prefix, MAX_SUGGESTIONS);
             }
-            return plugin.getManager().homes().getPublicHomeNames();
+            return plugin.getManager().homes().suggestPublicHomes(prefix, MAX_SUGGESTIONS);
         }
         return List.of();
     }
@@ -23,14 +23,13 @@ import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.config.Locales;
 import net.william278.huskhomes.position.Home;
 import net.william278.huskhomes.user.CommandUser;
-import net.william278.huskhomes.user.OnlineUser;
 import net.william278.paginedown.PaginatedList;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 public class PublicHomeListCommand extends ListCommand {
 
@@ -49,20 +48,31 @@ public class PublicHomeListCommand extends ListCommand {
     }
 
     public void showPublicHomeList(@NotNull CommandUser executor, @Nullable String nameFilter, int pageNumber) {
-        if (nameFilter == null && executor instanceof OnlineUser user && cachedLists.containsKey(user.getUuid())) {
-            executor.sendMessage(cachedLists.get(user.getUuid()).getNearestValidPage(pageNumber));
+        if (nameFilter != null) {
+            final List<Home> homes = plugin.getDatabase().getPublicHomes(nameFilter).stream()
+                    .sorted(Comparator.comparing(home -> home.getOwner().getName()))
+                    .toList();
+            plugin.fireEvent(plugin.getViewHomeListEvent(homes, executor, true),
+                    (event) -> this.generateList(executor, event.getHomes())
+                            .ifPresent(homeList -> executor.sendMessage(homeList.getNearestValidPage(pageNumber))));
             return;
         }
 
-        final List<Home> homes = nameFilter == null ? plugin.getDatabase().getPublicHomes()
-                : plugin.getDatabase().getPublicHomes(nameFilter);
-        plugin.fireEvent(plugin.getViewHomeListEvent(homes, executor, true),
-                (event) -> this.generateList(executor, event.getHomes()).ifPresent(homeList -> {
-                    if (nameFilter == null && executor instanceof OnlineUser onlineUser) {
-                        cachedLists.put(onlineUser.getUuid(), homeList);
-                    }
-                    executor.sendMessage(homeList.getNearestValidPage(pageNumber));
-                }));
+        // Load only the requested page of public homes
+        final long total = plugin.getDatabase().getPublicHomeCount();
+        final int page = getValidPage(pageNumber, total);
+        final List<Home> homes = plugin.getDatabase().getPublicHomes(
+                getPageOffset(page), plugin.getSettings().getGeneral().getListItemsPerPage()
+        );
+        plugin.fireEvent(plugin.getViewHomeListEvent(homes, executor, true), (event) -> {
+            if (event.getHomes().isEmpty()) {
+                plugin.getLocales().getLocale("error_no_public_homes_set")
+                        .ifPresent(executor::sendMessage);
+                return;
+            }
+            executor.sendMessage(getPageView(formatItems(event.getHomes()), page, total,
+                    "public_home_list_page_title", "/huskhomes:phomelist"));
+        });
     }
 
     private Optional<PaginatedList> generateList(@NotNull CommandUser executor, @NotNull List<Home> publicHomes) {
@@ -72,19 +82,7 @@ public class PublicHomeListCommand extends ListCommand {
             return Optional.empty();
         }
 
-        final PaginatedList homeList = PaginatedList.of(publicHomes.stream().map(home ->
-                        plugin.getLocales()
-                                .getRawLocale("public_home_list_item",
-                                        publicHomes.stream()
-                                                .filter(h -> h.getName().equals(home.getName())).count() > 1
-                                                ? home.getSafeIdentifier() : Locales.escapeText(home.getName()),
-                                        home.getSafeIdentifier(),
-                                        Locales.escapeText(home.getOwner().getName()),
-                                        home.getMeta().getDescription().isBlank()
-                                                ? plugin.getLocales().getNone()
-                                                : Locales.escapeText(home.getMeta().getDescription())
-                                )
-                                .orElse(home.getName())).sorted().collect(Collectors.toList()),
+        final PaginatedList homeList = PaginatedList.of(formatItems(publicHomes),
                 plugin.getLocales()
                         .getBaseList(plugin.getSettings().getGeneral().getListItemsPerPage())
                         .setHeaderFormat(plugin.getLocales().getRawLocale("public_home_list_page_title",
@@ -94,4 +92,19 @@ public class PublicHomeListCommand extends ListCommand {
         return Optional.of(homeList);
     }
 
+    @NotNull
+    private List<String> formatItems(@NotNull List<Home> publicHomes) {
+        return publicHomes.stream().map(home -> plugin.getLocales()
+                .getRawLocale("public_home_list_item",
+                        plugin.getManager().homes().isPublicHomeNameShared(home.getName())
+                                ? home.getSafeIdentifier() : Locales.escapeText(home.getName()),
+                        home.getSafeIdentifier(),
+                        Locales.escapeText(home.getOwner().getName()),
+                        home.getMeta().getDescription().isBlank()
+                                ? plugin.getLocales().getNone()
+                                : Locales.escapeText(home.getMeta().getDescription())
+                )
+                .orElse(home.getName())).toList();
+    }
+
 }
@@ -20,7 +20,6 @@
 package net.william278.huskhomes.command;
 
 import net.william278.huskhomes.HuskHomes;
-import net.william278.huskhomes.network.Broker;
 import net.william278.huskhomes.network.Message;
 import net.william278.huskhomes.network.Payload;
 import net.william278.huskhomes.position.World;
@@ -36,8 +35,6 @@ import java.util.*;
 
 public class RtpCommand extends Command implements UserListTabCompletable {
 
-    private final Random random = new Random();
-
     protected RtpCommand(@NotNull HuskHomes plugin) {
         super(
                 List.of("rtp"),
@@ -87,8 +84,9 @@ public class RtpCommand extends Command implements UserListTabCompletable {
         }
 
         // Validate world and server, and execute RTP
+        final boolean failover = targetServer == null;
         validateRtp(teleporter, executor, worldName.replace("minecraft:", ""), targetServer)
-                .ifPresent(entry -> executeRtp(teleporter, executor, entry.getKey(), entry.getValue(), args));
+                .ifPresent(entry -> executeRtp(teleporter, executor, entry.getKey(), entry.getValue(), failover, args));
     }
 
     @Nullable
@@ -198,7 +196,7 @@ public class RtpCommand extends Command implements UserListTabCompletable {
 
     /**
      * Validates the RTP target world and server based on arguments, ensuring the server contains the target world.
-     * - If no server is specified, randomly selects a server containing the world.
+     * - If no server is specified, selects the least loaded server containing the world.
      * - Returns both the validated world and server as a pair.
      *
      * @param executor     The player executing the command
@@ -208,15 +206,12 @@ public class RtpCommand extends Command implements UserListTabCompletable {
      */
     private Optional<Map.Entry<World, String>> validateCrossServerRtp(CommandUser executor, String worldName, String targetServer) {
         // Get a list of servers that have the specified world
-        Map<String, List<String>> randomTargetServers = plugin.getSettings().getRtp().getRandomTargetServers();
-        List<String> eligibleServers = randomTargetServers.entrySet().stream()
-                .filter(entry -> entry.getValue().contains(worldName))
-                .map(Map.Entry::getKey)
-                .toList();
+        List<String> eligibleServers = getEligibleServers(worldName);
 
-        // If targetServer is specified, validate it; otherwise, pick a random eligible server
-        String selectedServer = targetServer != null ? targetServer :
-                (!eligibleServers.isEmpty() ? eligibleServers.get(random.nextInt(eligibleServers.size())) : null);
+        // If targetServer is specified, validate it; otherwise, pick the least loaded eligible server
+        String selectedServer = targetServer != null ? targetServer : plugin.getBroker()
+                .flatMap(b -> b.getRtpServerSelector().selectServer(worldName, eligibleServers, Set.of()))
+                .orElse(null);
 
         // If no server found or the specified server is invalid, return an error
         if (selectedServer == null || (targetServer != null && !eligibleServers.contains(targetServer))) {
@@ -234,6 +229,15 @@ public class RtpCommand extends Command implements UserListTabCompletable {
         return targetWorld.map(world -> new AbstractMap.SimpleImmutableEntry<>(world, selectedServer));
     }
 
+    // Get the servers configured to accept random teleports into a world
+    @NotNull
+    private List<String> getEligibleServers(@NotNull String worldName) {
+        return plugin.getSettings().getRtp().getRandomTargetServers().entrySet().stream()
+                .filter(entry -> entry.getValue().contains(worldName))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
     /**
      * Executes the RTP, handling both local and cross-server teleportation.
      * Uses the validated world-server pair from validateRtp.
@@ -242,32 +246,65 @@ public class RtpCommand extends Command implements UserListTabCompletable {
      * @param executor     The player executing the command
      * @param world        The validated world to teleport to
      * @param targetServer The validated server to teleport to
+     * @param failover     Whether to try another server if the target server doesn't respond
      * @param args         Arguments to pass to the RTP engine
      */
-    private void executeRtp(@NotNull OnlineUser teleporter, @NotNull CommandUser executor,
-                            @NotNull World world, @NotNull String targetServer, @NotNull String[] args) {
+    private void executeRtp(@NotNull OnlineUser teleporter, @NotNull CommandUser executor, @NotNull World world,
+                            @NotNull String targetServer, boolean failover, @NotNull String[] args) {
         // Generate a random position
         plugin.getLocales().getLocale("teleporting_random_generation")
                 .ifPresent(teleporter::sendMessage);
 
         if (plugin.getSettings().getRtp().isCrossServer() && plugin.getSettings().getCrossServer().isEnabled()
-            && plugin.getSettings().getCrossServer().getBrokerType() == Broker.Type.REDIS) {
-            if (targetServer.equals(plugin.getServerName())) {
-                performLocalRTP(teleporter, executor, world, args);
-                return;
-            }
-
-            plugin.getBroker().ifPresent(b -> Message.builder()
-                    .type(Message.MessageType.REQUEST_RTP_LOCATION)
-                    .target(targetServer, Message.TargetType.SERVER)
-                    .payload(Payload.string(world.getName()))
-                    .build().send(b, teleporter));
+            && plugin.getSettings().getCrossServer().getBrokerType().isRedis()) {
+            performCrossServerRTP(teleporter, executor, world, targetServer, failover, new HashSet<>(), args);
             return;
         }
 
         performLocalRTP(teleporter, executor, world, args);
     }
 
+    /**
+     * Requests a random position from another server, failing over to the next least loaded server if it doesn't
+     * respond in time.
+     *
+     * @param teleporter   person to teleport
+     * @param executor     the person executing the teleport
+     * @param world        the world to teleport to
+     * @param targetServer the server to request a position from
+     * @param failover     whether to try another server if the target server doesn't respond
+     * @param tried        servers that have already been tried
+     * @param args         rtp engine args
+     */
+    private void performCrossServerRTP(@NotNull OnlineUser teleporter, @NotNull CommandUser executor,
+                                       @NotNull World world, @NotNull String targetServer, boolean failover,
+                                       @NotNull Set<String> tried, @NotNull String[] args) {
+        if (targetServer.equals(plugin.getServerName())) {
+            performLocalRTP(teleporter, executor, world, args);
+            return;
+        }
+
+        plugin.getBroker().ifPresent(b -> {
+            tried.add(targetServer);
+            b.getRtpServerSelector().awaitLocation(teleporter, targetServer, () -> {
+                final String worldName = world.getName().replace("minecraft:", "");
+                final Optional<String> nextServer = failover ? b.getRtpServerSelector()
+                        .selectServer(worldName, getEligibleServers(worldName), tried) : Optional.empty();
+                if (nextServer.isEmpty()) {
+                    plugin.getLocales().getLocale("error_rtp_randomization_timeout")
+                            .ifPresent(executor::sendMessage);
+                    return;
+                }
+                performCrossServerRTP(teleporter, executor, world, nextServer.get(), true, tried, args);
+            });
+            Message.builder()
+                    .type(Message.MessageType.REQUEST_RTP_LOCATION)
+                    .target(targetServer, Message.TargetType.SERVER)
+                    .payload(Payload.string(world.getName()))
+                    .build().send(b, teleporter);
+        });
+    }
+
     /**
      * Performs the RTP locally.
      *
@@ -98,8 +98,8 @@ public abstract class SavedPositionCommand<T extends SavedPosition> extends Comm
             return Optional.empty();
         }
 
-        final Optional<Home> optionalHome = plugin.getDatabase().getUser(ownerUsername)
-                .flatMap(owner -> resolveHomeByName(owner.getUser(), ownerHome));
+        final Optional<Home> optionalHome = plugin.getDatabase().resolveUser(ownerUsername)
+                .flatMap(owner -> resolveHomeByName(owner, ownerHome));
         if (optionalHome.isEmpty()) {
             plugin.getLocales().getLocale(executor.hasPermission(getOtherPermission())
                             ? "error_home_invalid_other" : "error_public_home_invalid", ownerUsername, ownerHome)
@@ -228,7 +228,8 @@ public abstract class SavedPositionCommand<T extends SavedPosition> extends Comm
     @NotNull
     private List<String> suggestWarp(@NotNull CommandUser executor, @NotNull String[] args) {
         return switch (args.length) {
-            case 0, 1 -> plugin.getManager().warps().getUsableWarps(executor);
+            case 0, 1 -> plugin.getManager().warps()
+                    .suggestUsableWarps(executor, getCompletionPrefix(args), MAX_SUGGESTIONS);
             case 2 -> arguments.stream().filter(a -> executor.hasPermission(getPermission(a))).toList();
             default -> List.of();
         };
@@ -238,14 +239,15 @@ public abstract class SavedPositionCommand<T extends SavedPosition> extends Comm
     private List<String> suggestHome(@NotNull CommandUser executor, @NotNull String[] args) {
         return switch (args.length) {
             case 0, 1 -> {
+                final String prefix = getCompletionPrefix(args);
                 if (args.length == 1 && args[0].contains(Home.getDelimiter())
                         && executor.hasPermission(getOtherPermission())) {
-                    yield plugin.getManager().homes().getUserHomeIdentifiers();
+                    yield plugin.getManager().homes().suggestUserHomeIdentifiers(prefix, MAX_SUGGESTIONS);
                 }
                 if (executor instanceof OnlineUser user) {
-                    yield plugin.getManager().homes().getUserHomes().get(user.getName());
+                    yield plugin.getManager().homes().suggestUserHomes(user.getName(), prefix, MAX_SUGGESTIONS);
                 }
-                yield plugin.getManager().homes().getUserHomeIdentifiers();
+                yield plugin.getManager().homes().suggestUserHomeIdentifiers(prefix, MAX_SUGGESTIONS);
             }
             case 2 -> arguments.stream().filter(a -> executor.hasPermission(getPermission(a))).toList();
             default -> List.of();
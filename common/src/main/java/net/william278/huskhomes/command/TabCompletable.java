@@ -27,6 +27,11 @@ import java.util.List;
 
 public interface TabCompletable {
 
+    /**
+     * The maximum number of suggestions to return from indexed suggestion sources.
+     */
+    int MAX_SUGGESTIONS = 100;
+
     @Nullable
     List<String> suggest(@NotNull CommandUser user, @NotNull String[] args);
 
@@ -39,6 +44,12 @@ public interface TabCompletable {
         return filter(suggestions, args);
     }
 
+    // Get the argument currently being completed, which suggestions should start with
+    @NotNull
+    default String getCompletionPrefix(@NotNull String[] args) {
+        return args.length == 0 ? "" : args[args.length - 1].trim();
+    }
+
     @NotNull
     default List<String> filter(@NotNull List<String> suggestions, @NotNull String[] args) {
         return suggestions.stream()
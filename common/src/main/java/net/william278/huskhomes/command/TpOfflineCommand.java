@@ -23,7 +23,6 @@ import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.position.Position;
 import net.william278.huskhomes.teleport.Teleport;
 import net.william278.huskhomes.user.OnlineUser;
-import net.william278.huskhomes.user.SavedUser;
 import net.william278.huskhomes.user.User;
 import org.jetbrains.annotations.NotNull;
 
@@ -52,8 +51,7 @@ public class TpOfflineCommand extends InGameCommand implements UserListTabComple
         }
 
         final Optional<User> targetUserData = plugin.getDatabase()
-                .getUser(optionalUser.get())
-                .map(SavedUser::getUser);
+                .resolveUser(optionalUser.get());
         if (targetUserData.isEmpty()) {
             plugin.getLocales().getLocale("error_player_not_found", optionalUser.get())
                     .ifPresent(executor::sendMessage);
@@ -23,13 +23,9 @@ import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.config.Locales;
 import net.william278.huskhomes.position.Warp;
 import net.william278.huskhomes.user.CommandUser;
-import net.william278.huskhomes.user.OnlineUser;
-import net.william278.paginedown.PaginatedList;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 public class WarpListCommand extends ListCommand {
 
@@ -48,53 +44,30 @@ public class WarpListCommand extends ListCommand {
     }
 
     protected void showWarpList(@NotNull CommandUser executor, int pageNumber) {
-        if (executor instanceof OnlineUser user && cachedLists.containsKey(user.getUuid())) {
-            executor.sendMessage(cachedLists.get(user.getUuid()).getNearestValidPage(pageNumber));
-            return;
-        }
-
-        final List<Warp> warps = getItems(executor);
-        plugin.fireEvent(plugin.getViewWarpListEvent(warps, executor),
-                (event) -> this.generateList(executor, event.getWarps()).ifPresent(homeList -> {
-                    if (executor instanceof OnlineUser onlineUser) {
-                        cachedLists.put(onlineUser.getUuid(), homeList);
-                    }
-                    executor.sendMessage(homeList.getNearestValidPage(pageNumber));
-                }));
-    }
-
-    private Optional<PaginatedList> generateList(@NotNull CommandUser executor, @NotNull List<Warp> warps) {
-        if (warps.isEmpty()) {
-            plugin.getLocales().getLocale("error_no_warps_set")
-                    .ifPresent(executor::sendMessage);
-            return Optional.empty();
-        }
-
-        final PaginatedList warpList = PaginatedList.of(warps.stream().map(warp ->
-                        plugin.getLocales()
-                                .getRawLocale("warp_list_item",
-                                        Locales.escapeText(warp.getName()),
-                                        warp.getSafeIdentifier(),
-                                        warp.getMeta().getDescription().isBlank()
-                                                ? plugin.getLocales().getNone()
-                                                : Locales.escapeText(warp.getMeta().getDescription())
-                                )
-                                .orElse(warp.getName())).sorted().collect(Collectors.toList()),
-                plugin.getLocales()
-                        .getBaseList(plugin.getSettings().getGeneral().getListItemsPerPage())
-                        .setHeaderFormat(plugin.getLocales().getRawLocale("warp_list_page_title",
-                                        "%first_item_on_page_index%", "%last_item_on_page_index%", "%total_items%")
-                                .orElse(""))
-                        .setCommand("/huskhomes:warplist").build());
-        return Optional.of(warpList);
-    }
-
-    @NotNull
-    private List<Warp> getItems(@NotNull CommandUser executor) {
-        List<Warp> warps = plugin.getDatabase().getWarps();
-        if (plugin.getSettings().getGeneral().isPermissionRestrictWarps()) {
-            warps = warps.stream().filter(warp -> warp.hasPermission(executor)).toList();
-        }
-        return warps;
+        // Load only the requested page of the warps the user may use
+        final List<String> names = plugin.getSettings().getGeneral().isPermissionRestrictWarps()
+                ? plugin.getManager().warps().getUsableWarps(executor) : null;
+        final long total = names != null ? names.size() : plugin.getDatabase().getWarpCount();
+        final int page = getValidPage(pageNumber, total);
+        final List<Warp> warps = plugin.getDatabase().getWarps(
+                names, getPageOffset(page), plugin.getSettings().getGeneral().getListItemsPerPage()
+        );
+        plugin.fireEvent(plugin.getViewWarpListEvent(warps, executor), (event) -> {
+            if (event.getWarps().isEmpty()) {
+                plugin.getLocales().getLocale("error_no_warps_set")
+                        .ifPresent(executor::sendMessage);
+                return;
+            }
+            executor.sendMessage(getPageView(event.getWarps().stream().map(warp -> plugin.getLocales()
+                            .getRawLocale("warp_list_item",
+                                    Locales.escapeText(warp.getName()),
+                                    warp.getSafeIdentifier(),
+                                    warp.getMeta().getDescription().isBlank()
+                                            ? plugin.getLocales().getNone()
+                                            : Locales.escapeText(warp.getMeta().getDescription())
+                            )
+                            .orElse(warp.getName())).toList(),
+                    page, total, "warp_list_page_title", "/huskhomes:warplist"));
+        });
     }
 }
@@ -31,6 +31,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.logging.Level;
 
 public interface ConfigProvider {
 
@@ -73,6 +74,8 @@ public interface ConfigProvider {
                 YAML_CONFIGURATION_PROPERTIES.header(Settings.CONFIG_HEADER).build()
         ));
         Home.setDelimiter(getSettings().getGeneral().getHomeDelimiter());
+        getSettings().getRtp().getInvalidHeights().forEach(pair -> getPlugin().log(Level.WARNING,
+                "Ignoring invalid RTP height \"" + pair + "\" in config.yml (expected world_name:height)"));
     }
 
     /**
@@ -100,7 +103,9 @@ public interface ConfigProvider {
         // Read existing locales if present
         final Path path = getConfigDirectory().resolve(String.format("messages-%s.yml", getSettings().getLanguage()));
         if (Files.exists(path)) {
-            setLocales(store.load(path));
+            final Locales locales = store.load(path);
+            locales.compile();
+            setLocales(locales);
             return;
         }
 
@@ -108,6 +113,7 @@ public interface ConfigProvider {
         try (InputStream input = getResource(String.format("locales/%s.yml", getSettings().getLanguage()))) {
             final Locales locales = store.read(input);
             store.save(locales, path);
+            locales.compile();
             setLocales(locales);
         } catch (Throwable e) {
             throw new IllegalStateException("An error occurred loading the locales (invalid lang code?)", e);
@@ -21,17 +21,22 @@ package net.william278.huskhomes.config;
 
 import com.google.common.collect.Maps;
 import de.exlll.configlib.Configuration;
+import de.exlll.configlib.Ignore;
 import de.themoep.minedown.adventure.MineDown;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import net.william278.paginedown.ListOptions;
 import org.apache.commons.text.StringEscapeUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Loaded locales used by the plugin to display styled messages.
@@ -52,9 +57,17 @@ public class Locales {
 
     protected static final String DEFAULT_LOCALE = "en-gb";
 
+    // Matches numbered placeholders in a locale, e.g. %1%
+    private static final Pattern PLACEHOLDER = Pattern.compile("%(\\d+)%");
+
     // The raw set of locales loaded from yaml
     private Map<String, String> locales = Maps.newTreeMap();
 
+    // Locales compiled into templates, built from the raw locales on first use
+    @Ignore
+    @Nullable
+    private volatile Map<String, Template> templates;
+
     @TestOnly
     @NotNull
     public Map<String, String> getRawLocales() {
@@ -68,7 +81,7 @@ public class Locales {
      * @return An {@link Optional} containing the locale corresponding to the id, if it exists
      */
     public Optional<String> getRawLocale(@NotNull String localeId) {
-        return Optional.ofNullable(locales.get(localeId)).map(StringEscapeUtils::unescapeJava);
+        return getTemplate(localeId).map(Template::getRaw);
     }
 
     /**
@@ -81,17 +94,19 @@ public class Locales {
      * @return An {@link Optional} containing the replacement-applied locale corresponding to the id, if it exists
      */
     public Optional<String> getRawLocale(@NotNull String localeId, @NotNull String... replacements) {
-        return getRawLocale(localeId).map(locale -> applyReplacements(locale, replacements));
+        return getTemplate(localeId).map(template -> template.apply(replacements));
     }
 
     /**
      * Returns a MineDown-formatted locale from the locales file.
      *
+     * <p>The returned {@link MineDown} is parsed once and shared between calls, so must not be modified
+     *
      * @param localeId String identifier of the locale, corresponding to a key in the file
      * @return An {@link Optional} containing the formatted locale corresponding to the id, if it exists
      */
     public Optional<MineDown> getLocale(@NotNull String localeId) {
-        return getRawLocale(localeId).map(this::format);
+        return getTemplate(localeId).map(Template::getFormatted);
     }
 
     /**
@@ -104,8 +119,14 @@ public class Locales {
      * @return An {@link Optional} containing the replacement-applied, formatted locale corresponding to the id
      */
     public Optional<MineDown> getLocale(@NotNull String localeId, @NotNull String... replacements) {
-        return getRawLocale(localeId, Arrays.stream(replacements).map(Locales::escapeText)
-                .toArray(String[]::new)).map(this::format);
+        if (replacements.length == 0) {
+            return getLocale(localeId);
+        }
+        final String[] escaped = new String[replacements.length];
+        for (int i = 0; i < replacements.length; i++) {
+            escaped[i] = escapeText(replacements[i]);
+        }
+        return getRawLocale(localeId, escaped).map(this::format);
     }
 
     /**
@@ -119,22 +140,30 @@ public class Locales {
         return new MineDown(text);
     }
 
+    // Get the compiled template for a locale, compiling all locales if they haven't been yet
+    private Optional<Template> getTemplate(@NotNull String localeId) {
+        Map<String, Template> compiled = templates;
+        if (compiled == null) {
+            compiled = compile();
+        }
+        return Optional.ofNullable(compiled.get(localeId));
+    }
+
     /**
-     * Apply placeholder replacements to a raw locale.
+     * Compile the loaded locales into templates, ready for use.
      *
-     * @param rawLocale    The raw, unparsed locale
-     * @param replacements Ordered array of replacement strings to fill in placeholders with
-     * @return the raw locale, with inserted placeholders
+     * @return the compiled templates
      */
     @NotNull
-    private String applyReplacements(@NotNull String rawLocale, @NotNull String... replacements) {
-        int replacementIndexer = 1;
-        for (String replacement : replacements) {
-            String replacementString = "%" + replacementIndexer + "%";
-            rawLocale = rawLocale.replace(replacementString, replacement);
-            replacementIndexer += 1;
+    synchronized Map<String, Template> compile() {
+        if (templates == null) {
+            final Map<String, Template> compiled = Maps.newHashMapWithExpectedSize(locales.size());
+            locales.forEach((id, locale) -> compiled.put(
+                    id, Template.compile(StringEscapeUtils.unescapeJava(locale))
+            ));
+            templates = compiled;
         }
-        return rawLocale;
+        return templates;
     }
 
     /**
@@ -145,7 +174,10 @@ public class Locales {
      */
     @NotNull
     public static String escapeText(@NotNull String string) {
-        final StringBuilder value = new StringBuilder();
+        if (!needsEscaping(string)) {
+            return string;
+        }
+        final StringBuilder value = new StringBuilder(string.length() + 8);
         for (int i = 0; i < string.length(); ++i) {
             char c = string.charAt(i);
             boolean isEscape = c == '\\';
@@ -160,6 +192,18 @@ public class Locales {
         return value.toString();
     }
 
+    // Check whether a string contains any characters that would be escaped, so most strings can skip escaping
+    private static boolean needsEscaping(@NotNull String string) {
+        for (int i = 0; i < string.length(); ++i) {
+            final char c = string.charAt(i);
+            if (c == '\\' || c == '[' || c == ']' || c == '(' || c == ')'
+                || ((c == 167 || c == '&') && i + 1 < string.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @NotNull
     public String truncateText(@NotNull String string, int truncateAfter) {
         if (string.isBlank()) {
@@ -208,6 +252,86 @@ public class Locales {
                 .setSpaceBeforeFooter(false);
     }
 
+    /**
+     * A locale, pre-split around its numbered placeholders so replacements can be applied in a single pass.
+     */
+    static final class Template {
+
+        private final String raw;
+        // Literal text around each placeholder; there is always one more literal than there are placeholders
+        private final String[] literals;
+        // The number of each placeholder, in order of appearance
+        private final int[] placeholders;
+        @Nullable
+        private volatile MineDown formatted;
+
+        private Template(@NotNull String raw, @NotNull String[] literals, @NotNull int[] placeholders) {
+            this.raw = raw;
+            this.literals = literals;
+            this.placeholders = placeholders;
+        }
+
+        @NotNull
+        static Template compile(@NotNull String raw) {
+            final List<String> literals = new ArrayList<>();
+            final List<Integer> placeholders = new ArrayList<>();
+            final Matcher matcher = PLACEHOLDER.matcher(raw);
+            int last = 0;
+            while (matcher.find()) {
+                final int number;
+                try {
+                    number = Integer.parseInt(matcher.group(1));
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                literals.add(raw.substring(last, matcher.start()));
+                placeholders.add(number);
+                last = matcher.end();
+            }
+            literals.add(raw.substring(last));
+            return new Template(
+                    raw, literals.toArray(String[]::new), placeholders.stream().mapToInt(Integer::intValue).toArray()
+            );
+        }
+
+        @NotNull
+        String getRaw() {
+            return raw;
+        }
+
+        // Fill in placeholders with replacements, leaving placeholders without a replacement as-is
+        @NotNull
+        String apply(@NotNull String... replacements) {
+            if (placeholders.length == 0 || replacements.length == 0) {
+                return raw;
+            }
+            final StringBuilder builder = new StringBuilder(raw.length() + 16 * placeholders.length);
+            for (int i = 0; i < placeholders.length; i++) {
+                builder.append(literals[i]);
+                final int number = placeholders[i];
+                if (number >= 1 && number <= replacements.length) {
+                    builder.append(replacements[number - 1]);
+                } else {
+                    builder.append('%').append(number).append('%');
+                }
+            }
+            return builder.append(literals[placeholders.length]).toString();
+        }
+
+        // Get the locale parsed as MineDown with no replacements, parsing it on first use
+        @NotNull
+        MineDown getFormatted() {
+            MineDown mineDown = formatted;
+            if (mineDown == null) {
+                mineDown = new MineDown(raw);
+                mineDown.toComponent();
+                formatted = mineDown;
+            }
+            return mineDown;
+        }
+
+    }
+
     /**
      * Represents where a locale should be displayed.
      */
@@ -22,6 +22,7 @@ package net.william278.huskhomes.config;
 import com.google.common.collect.Lists;
 import de.exlll.configlib.Comment;
 import de.exlll.configlib.Configuration;
+import de.exlll.configlib.Ignore;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -29,11 +30,14 @@ import net.william278.huskhomes.command.Command;
 import net.william278.huskhomes.database.Database;
 import net.william278.huskhomes.network.Broker;
 import net.william278.huskhomes.position.World;
+import net.william278.huskhomes.util.TextFilter;
 import net.william278.huskhomes.util.TransactionResolver;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Plugin settings, read from config.yml
@@ -104,6 +108,46 @@ public final class Settings {
             private long timeout = 20000;
         }
 
+        @Comment({"Optionally send read-only queries to a read replica of your MYSQL, MARIADB or POSTGRESQL database.",
+                "The replica uses the same credentials and pool options as above, except for its host and port."})
+        private ReadReplicaOptions readReplica = new ReadReplicaOptions();
+
+        @Getter
+        @Configuration
+        @NoArgsConstructor(access = AccessLevel.PRIVATE)
+        public static class ReadReplicaOptions {
+            private boolean enabled = false;
+            private String host = "localhost";
+            private int port = 3307;
+
+            @Comment({"How long (in seconds) reads of data go to the main database after it is changed, so players",
+                    "always see their own changes while they replicate"})
+            private int readYourWritesWindow = 5;
+
+            @Comment("How long (in seconds) to use the main database for reads after the replica can't be reached")
+            private int retryAfter = 30;
+        }
+
+        @Comment({"Stop waiting on a MYSQL, MARIADB or POSTGRESQL database that keeps timing out. While it is down,",
+                "homes and warps are served from memory and position updates are held until it recovers."})
+        private CircuitBreakerOptions circuitBreaker = new CircuitBreakerOptions();
+
+        @Getter
+        @Configuration
+        @NoArgsConstructor(access = AccessLevel.PRIVATE)
+        public static class CircuitBreakerOptions {
+            private boolean enabled = true;
+
+            @Comment("How many connection timeouts in a row to allow before treating the database as down")
+            private int failureThreshold = 3;
+
+            @Comment("How long (in seconds) to wait before checking whether the database has recovered")
+            private int retryAfter = 15;
+
+            @Comment("The most last, offline and respawn position updates to hold while the database is down")
+            private int journalSize = 1000;
+        }
+
         @Comment("Names of tables to use on your database. Don't modify this unless you know what you're doing!")
         private Map<Database.Table, String> tableNames = Database.Table.getConfigMap();
 
@@ -156,6 +200,9 @@ public final class Settings {
         @Comment("How long before received teleport requests expire (in seconds)")
         private int teleportRequestExpiryTime = 60;
 
+        @Comment("The most pending teleport requests a player can have at once. The oldest are dropped beyond this.")
+        private int maxPendingTeleportRequests = 20;
+
         @Comment("Whether /tpahere should use the location of the sender when sent. "
                 + "Docs: https://william278.net/docs/huskhomes/strict-tpahere/")
         private boolean strictTpaHereRequests = true;
@@ -189,6 +236,25 @@ public final class Settings {
 
             @Comment("Regex which home and warp names must match. Names have a max length of 16 characters")
             private String regex = "[a-zA-Z0-9-_]*";
+
+            @Ignore
+            @Getter(AccessLevel.NONE)
+            @Nullable
+            private TextFilter filter;
+
+            /**
+             * Get the compiled name {@link #getRegex() regex}.
+             *
+             * @return the name filter
+             * @since 4.10
+             */
+            @NotNull
+            public TextFilter getFilter() {
+                if (filter == null) {
+                    filter = TextFilter.compile(regex);
+                }
+                return filter;
+            }
         }
 
         @Comment("Settings for home and warp descriptions")
@@ -205,6 +271,25 @@ public final class Settings {
             @Comment("Regex which home and warp descriptions must match. "
                     + "A hard max length of 256 characters is enforced")
             private String regex = "\\A\\p{ASCII}*\\z";
+
+            @Ignore
+            @Getter(AccessLevel.NONE)
+            @Nullable
+            private TextFilter filter;
+
+            /**
+             * Get the compiled description {@link #getRegex() regex}.
+             *
+             * @return the description filter
+             * @since 4.10
+             */
+            @NotNull
+            public TextFilter getFilter() {
+                if (filter == null) {
+                    filter = TextFilter.compile(regex);
+                }
+                return filter;
+            }
         }
 
         @Comment("Settings for the /back command")
@@ -271,10 +356,15 @@ public final class Settings {
                 "Do not change unless you know what you're doing"})
         private String clusterId = "main";
 
-        @Comment("Type of network message broker to ues for cross-server networking (PLUGIN_MESSAGE or REDIS)")
+        @Comment("Type of network message broker to ues for cross-server networking (PLUGIN_MESSAGE, REDIS or "
+                + "REDIS_STREAMS)")
         private Broker.Type brokerType = Broker.Type.PLUGIN_MESSAGE;
 
-        @Comment("Settings for if you're using REDIS as your message broker")
+        @Comment({"How long (in milliseconds) to collect home and warp changes for before telling other servers about",
+                "them in one message. Raise this if bulk edits (e.g. via the API) send too many messages."})
+        private int updateBatchWindow = 5;
+
+        @Comment("Settings for if you're using REDIS or REDIS_STREAMS as your message broker")
         private RedisSettings redis = new RedisSettings();
 
         @Getter
@@ -300,6 +390,22 @@ public final class Settings {
                 private List<String> nodes = Lists.newArrayList();
                 private String password = "";
             }
+
+            @Comment({"Settings for if you're using REDIS_STREAMS, which keeps messages so servers can catch up on",
+                    "those sent while they were disconnected from Redis or restarting."})
+            private StreamSettings streams = new StreamSettings();
+
+            @Getter
+            @Configuration
+            @NoArgsConstructor
+            public static class StreamSettings {
+                @Comment("The approximate number of messages to keep in the stream")
+                private int maxLength = 10000;
+                @Comment("The most messages to read from the stream at once")
+                private int batchSize = 100;
+                @Comment("How old (in seconds) a missed message can be and still be handled once caught up on")
+                private int replayWindow = 60;
+            }
         }
 
         @Comment("Define a single global /spawn for your network via a warp. "
@@ -353,6 +459,88 @@ public final class Settings {
         @Comment({"Set the maximum random teleportation height for each world", "List of world_name:height pairs"})
         private List<String> maxHeight = Lists.newArrayList();
 
+        @Ignore
+        @Getter(AccessLevel.NONE)
+        @Nullable
+        private volatile Map<String, Integer> parsedMinHeights;
+
+        @Ignore
+        @Getter(AccessLevel.NONE)
+        @Nullable
+        private volatile Map<String, Integer> parsedMaxHeights;
+
+        /**
+         * Get the configured minimum random teleportation height for a world.
+         *
+         * @param worldName the name of the world
+         * @return the highest {@code minHeight} configured for the world, if any
+         * @since 4.10
+         */
+        @NotNull
+        public OptionalInt getMinHeight(@NotNull String worldName) {
+            Map<String, Integer> heights = parsedMinHeights;
+            if (heights == null) {
+                parsedMinHeights = heights = parseHeights(minHeight);
+            }
+            final Integer height = heights.get(worldName);
+            return height != null ? OptionalInt.of(height) : OptionalInt.empty();
+        }
+
+        /**
+         * Get the configured maximum random teleportation height for a world.
+         *
+         * @param worldName the name of the world
+         * @return the highest {@code maxHeight} configured for the world, if any
+         * @since 4.10
+         */
+        @NotNull
+        public OptionalInt getMaxHeight(@NotNull String worldName) {
+            Map<String, Integer> heights = parsedMaxHeights;
+            if (heights == null) {
+                parsedMaxHeights = heights = parseHeights(maxHeight);
+            }
+            final Integer height = heights.get(worldName);
+            return height != null ? OptionalInt.of(height) : OptionalInt.empty();
+        }
+
+        /**
+         * Get the configured {@code minHeight} and {@code maxHeight} entries that aren't valid world_name:height
+         * pairs, which are ignored.
+         *
+         * @return the invalid entries
+         * @since 4.10
+         */
+        @NotNull
+        public List<String> getInvalidHeights() {
+            return Stream.concat(minHeight.stream(), maxHeight.stream())
+                    .filter(pair -> parseHeight(pair).isEmpty())
+                    .toList();
+        }
+
+        // Parse world_name:height pairs, skipping invalid ones and keeping the highest height given for each world.
+        // The result is immutable, as async RTP searches may parse and read it concurrently
+        @NotNull
+        private static Map<String, Integer> parseHeights(@NotNull List<String> pairs) {
+            final Map<String, Integer> heights = new HashMap<>();
+            for (String pair : pairs) {
+                parseHeight(pair).ifPresent(height -> heights.merge(height.getKey(), height.getValue(), Math::max));
+            }
+            return Map.copyOf(heights);
+        }
+
+        @NotNull
+        private static Optional<Map.Entry<String, Integer>> parseHeight(@NotNull String pair) {
+            final int split = pair.lastIndexOf(':');
+            if (split <= 0) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.of(Map.entry(pair.substring(0, split), Integer.parseInt(pair.substring(split + 1))));
+            } catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+        }
+
         @Comment("List of worlds in which /rtp is disabled. Please note that /rtp does not work well in the nether.")
         private List<String> restrictedWorlds = List.of("world_nether", "world_the_end");
 
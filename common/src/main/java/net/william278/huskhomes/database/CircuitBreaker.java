@@ -0,0 +1,186 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.database;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Stops queries from waiting on a database that keeps timing out.
+ *
+ * <p>After a number of connection failures in a row, the breaker opens and connections are refused straight away.
+ * Once the retry delay has passed, a single connection attempt is let through to probe whether the database has
+ * recovered; if it succeeds the breaker closes, otherwise it opens again.
+ *
+ * @since 4.10
+ */
+public class CircuitBreaker {
+
+    private final int failureThreshold;
+    private final long retryAfter;
+    private final LongSupplier clock;
+    private State state = State.CLOSED;
+    private int failures;
+    private long openedAt;
+    private boolean probing;
+
+    /**
+     * Create a circuit breaker.
+     *
+     * @param failureThreshold the number of connection failures in a row after which to open
+     * @param retryAfter       how long to wait after opening before probing for recovery
+     * @param unit             the unit of {@code retryAfter}
+     */
+    public CircuitBreaker(int failureThreshold, long retryAfter, @NotNull TimeUnit unit) {
+        this(failureThreshold, retryAfter, unit, System::nanoTime);
+    }
+
+    CircuitBreaker(int failureThreshold, long retryAfter, @NotNull TimeUnit unit, @NotNull LongSupplier clock) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.retryAfter = unit.toNanos(retryAfter);
+        this.clock = clock;
+    }
+
+    /**
+     * Get whether connections are currently being refused.
+     *
+     * @return {@code true} if open and not yet due a probe, or if a probe is in progress
+     */
+    public synchronized boolean isOpen() {
+        return switch (state) {
+            case CLOSED -> false;
+            case OPEN -> clock.getAsLong() - openedAt < retryAfter;
+            case HALF_OPEN -> probing;
+        };
+    }
+
+    /**
+     * Check a connection may be attempted, before acquiring it.
+     *
+     * @throws OpenException if the breaker is open
+     */
+    synchronized void acquire() throws OpenException {
+        switch (state) {
+            case OPEN -> {
+                if (clock.getAsLong() - openedAt < retryAfter) {
+                    throw new OpenException();
+                }
+                state = State.HALF_OPEN;
+                probing = true;
+            }
+            case HALF_OPEN -> {
+                if (probing) {
+                    throw new OpenException();
+                }
+                probing = true;
+            }
+            case CLOSED -> {
+            }
+        }
+    }
+
+    /**
+     * Record that a connection was acquired.
+     *
+     * @return {@code true} if this closed the breaker
+     */
+    synchronized boolean recordSuccess() {
+        failures = 0;
+        probing = false;
+        if (state == State.CLOSED) {
+            return false;
+        }
+        state = State.CLOSED;
+        return true;
+    }
+
+    /**
+     * Record that acquiring a connection failed.
+     *
+     * @return {@code true} if this opened a closed breaker
+     */
+    synchronized boolean recordFailure() {
+        failures++;
+        probing = false;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && failures >= failureThreshold)) {
+            final boolean wasClosed = state == State.CLOSED;
+            state = State.OPEN;
+            openedAt = clock.getAsLong();
+            return wasClosed;
+        }
+        return false;
+    }
+
+    /**
+     * Get the state of the breaker.
+     *
+     * @return the state
+     */
+    @NotNull
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Get the number of connection failures in a row.
+     *
+     * @return the number of failures since the last successful connection
+     */
+    public synchronized int getFailures() {
+        return failures;
+    }
+
+    /**
+     * Get how long until the breaker next probes for recovery.
+     *
+     * @param unit the unit to return the time in
+     * @return the time until the next probe, or {@code 0} if not open
+     */
+    public synchronized long getRetryIn(@NotNull TimeUnit unit) {
+        if (state != State.OPEN) {
+            return 0;
+        }
+        return unit.convert(Math.max(0, retryAfter - (clock.getAsLong() - openedAt)), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * States of a {@link CircuitBreaker}.
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /**
+     * Thrown when a connection is refused because the breaker is open.
+     */
+    static final class OpenException extends SQLTransientConnectionException {
+        private static final long serialVersionUID = 1L;
+
+        private OpenException() {
+            super("The database is unavailable (circuit breaker open)");
+        }
+    }
+
+}
@@ -25,14 +25,19 @@ import lombok.Getter;
 import lombok.Setter;
 import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.config.Server;
+import net.william278.huskhomes.config.Settings;
+import net.william278.huskhomes.manager.Manager;
+import net.william278.huskhomes.metrics.Metric;
 import net.william278.huskhomes.position.Home;
 import net.william278.huskhomes.position.Position;
 import net.william278.huskhomes.position.SavedPosition;
 import net.william278.huskhomes.position.Warp;
+import net.william278.huskhomes.position.World;
 import net.william278.huskhomes.teleport.Teleport;
 import net.william278.huskhomes.user.OnlineUser;
 import net.william278.huskhomes.user.SavedUser;
 import net.william278.huskhomes.user.User;
+import net.william278.huskhomes.user.UserDirectory;
 import net.william278.huskhomes.util.TransactionResolver;
 import org.intellij.lang.annotations.Language;
 import org.jetbrains.annotations.ApiStatus;
@@ -46,26 +51,72 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class Database {
 
+    /**
+     * The number of rows fetched per query when streaming homes and warps from the database.
+     */
+    public static final int PAGE_SIZE = 500;
+
+    /**
+     * The maximum number of recently seen users kept in the {@link UserDirectory}.
+     */
+    public static final int USER_DIRECTORY_CAPACITY = 10_000;
+
     protected HuskHomes plugin;
 
+    /**
+     * Directory of recently seen users, fed by {@link #ensureUser(User)} and username lookups.
+     */
+    @Getter
+    protected final UserDirectory userDirectory = new UserDirectory(USER_DIRECTORY_CAPACITY);
+
+    /**
+     * Read replica that read-only queries are routed to, if one is configured.
+     */
+    @Nullable
+    protected ReadReplica readReplica;
+
+    /**
+     * Circuit breaker guarding connections to the database, if enabled.
+     */
+    @Nullable
+    protected CircuitBreaker circuitBreaker;
+
+    /**
+     * Position updates held while the {@link #circuitBreaker} is open.
+     */
+    @Nullable
+    private PositionJournal positionJournal;
+
     @Getter
     @Setter
     private boolean loaded;
 
     protected Database(@NotNull HuskHomes plugin) {
         this.plugin = plugin;
+        final Settings.DatabaseSettings.CircuitBreakerOptions breaker = plugin.getSettings().getDatabase()
+                .getCircuitBreaker();
+        if (breaker.isEnabled()) {
+            this.circuitBreaker = new CircuitBreaker(breaker.getFailureThreshold(),
+                    breaker.getRetryAfter(), TimeUnit.SECONDS);
+            this.positionJournal = new PositionJournal(breaker.getJournalSize());
+        }
     }
 
     /**
@@ -87,6 +138,325 @@ public abstract class Database {
 
     protected abstract void executeScript(@NotNull Connection connection, @NotNull String name) throws SQLException;
 
+    /**
+     * Get a connection to the database, to be closed once done with.
+     *
+     * @return the connection
+     * @throws SQLException if the connection fails for some reason
+     * @since 4.10
+     */
+    @ApiStatus.Internal
+    protected abstract Connection getConnection() throws SQLException;
+
+    /**
+     * Get a connection that isn't shared with other tasks, to be closed once done with. Unlike connections from
+     * {@link #getConnection()}, it may be left in a transaction or have its settings changed for a while, such as
+     * during a migration.
+     *
+     * @return the connection
+     * @throws SQLException if the connection fails for some reason
+     * @since 4.10
+     */
+    @ApiStatus.Internal
+    protected Connection getDedicatedConnection() throws SQLException {
+        return getConnection();
+    }
+
+    /**
+     * Get a connection for a read-only query, to be closed once done with.
+     *
+     * <p>If a {@link ReadReplica} is configured, this is a replica connection unless the data being read was written
+     * recently, or the replica is unavailable; otherwise, it is a connection to the main database.
+     *
+     * @param user the user whose data is being read, or {@code null} if reading shared data
+     * @return the connection
+     * @throws SQLException if the connection fails for some reason
+     * @since 4.10
+     */
+    @ApiStatus.Internal
+    protected Connection getReadConnection(@Nullable UUID user) throws SQLException {
+        if (readReplica != null) {
+            final long start = System.nanoTime();
+            final Optional<Connection> replica = readReplica.getConnection(user);
+            if (replica.isPresent()) {
+                return instrument(replica.get(), start);
+            }
+        }
+        return getConnection();
+    }
+
+    /**
+     * Note that data has been written, so reads of it are served by the main database rather than a
+     * {@link ReadReplica} until it has had time to replicate.
+     *
+     * @param user the user whose data was written, or {@code null} if shared data (warps or public homes) was written
+     * @since 4.10
+     */
+    protected final void markWritten(@Nullable UUID user) {
+        if (readReplica != null) {
+            readReplica.markWritten(user);
+        }
+    }
+
+    /**
+     * Get a connection through the {@link #circuitBreaker}, if enabled, to be closed once done with.
+     *
+     * <p>While the breaker is open, this fails straight away rather than waiting for the connection to time out.
+     *
+     * @param source the source to acquire the connection from
+     * @return the instrumented connection
+     * @throws SQLException if the connection fails, or the breaker is open
+     * @since 4.10
+     */
+    @NotNull
+    protected final Connection getGuardedConnection(@NotNull ConnectionSource source) throws SQLException {
+        if (circuitBreaker == null) {
+            final long start = System.nanoTime();
+            return instrument(source.get(), start);
+        }
+
+        circuitBreaker.acquire();
+        final long start = System.nanoTime();
+        final Connection connection;
+        try {
+            connection = source.get();
+        } catch (SQLException e) {
+            if (circuitBreaker.recordFailure()) {
+                plugin.log(Level.WARNING, "Lost connection to the database; serving homes and warps from memory "
+                                          + "and retrying in " + circuitBreaker.getRetryIn(TimeUnit.SECONDS) + "s");
+            }
+            throw e;
+        }
+        if (circuitBreaker.recordSuccess()) {
+            plugin.log(Level.INFO, "Reconnected to the database");
+            plugin.runAsync(this::recover);
+        }
+        return instrument(connection, start);
+    }
+
+    /**
+     * Log a failed query. Queries refused by an open {@link #circuitBreaker} aren't logged, and connection timeouts
+     * are logged without a stack trace.
+     *
+     * @param message the message to log
+     * @param e       the exception thrown
+     * @since 4.10
+     */
+    protected final void logFailure(@NotNull String message, @NotNull SQLException e) {
+        if (e instanceof CircuitBreaker.OpenException) {
+            return;
+        }
+        if (e instanceof SQLTransientConnectionException) {
+            plugin.log(Level.WARNING, message + ": " + e.getMessage());
+            return;
+        }
+        plugin.log(Level.SEVERE, message, e);
+    }
+
+    /**
+     * Log a failed write. Unlike {@link #logFailure(String, SQLException)}, writes refused by an open
+     * {@link #circuitBreaker} are logged, as the change has been lost.
+     *
+     * @param message the message to log
+     * @param e       the exception thrown
+     * @since 4.10
+     */
+    protected final void logWriteFailure(@NotNull String message, @NotNull SQLException e) {
+        if (e instanceof CircuitBreaker.OpenException) {
+            plugin.log(Level.WARNING, message + ": the database is unavailable");
+            return;
+        }
+        logFailure(message, e);
+    }
+
+    /**
+     * Get whether the database is unavailable, so reads should be served from memory, position updates held and
+     * changes to homes and warps refused.
+     *
+     * @return {@code true} if the {@link #circuitBreaker} is open
+     * @since 4.10
+     */
+    public final boolean isUnavailable() {
+        return circuitBreaker != null && circuitBreaker.isOpen();
+    }
+
+    /**
+     * Hold a position update to be written once the database recovers, if it is unavailable or held updates are
+     * still being replayed.
+     *
+     * @param type     the type of position
+     * @param user     the user the position is for
+     * @param position the position, or {@code null} to clear it
+     * @return {@code true} if the update was held, {@code false} if it should be written now
+     */
+    final boolean journal(@NotNull PositionJournal.Type type, @NotNull User user, @Nullable Position position) {
+        return positionJournal != null && positionJournal.hold(isUnavailable(), type, user, position);
+    }
+
+    /**
+     * Get the circuit breaker guarding connections to the database.
+     *
+     * @return the circuit breaker, if enabled
+     * @since 4.10
+     */
+    public Optional<CircuitBreaker> getCircuitBreaker() {
+        return Optional.ofNullable(circuitBreaker);
+    }
+
+    /**
+     * Get the number of position updates being held until the database recovers.
+     *
+     * @return the number of held updates
+     * @since 4.10
+     */
+    public int getJournaledPositionCount() {
+        return positionJournal == null ? 0 : positionJournal.size();
+    }
+
+    // Replay held position updates, holding any new ones until done, and reload caches once the database recovers
+    private void recover() {
+        if (positionJournal != null && positionJournal.startReplay()) {
+            int saved = 0;
+            PositionJournal.Entry entry;
+            while ((entry = positionJournal.poll(isUnavailable())) != null) {
+                switch (entry.type()) {
+                    case LAST -> setLastPosition(entry.user(), Objects.requireNonNull(entry.position()));
+                    case OFFLINE -> setOfflinePosition(entry.user(), Objects.requireNonNull(entry.position()));
+                    case RESPAWN -> setRespawnPosition(entry.user(), entry.position());
+                }
+                saved++;
+            }
+            final int dropped = positionJournal.takeDropped();
+            if (dropped > 0) {
+                plugin.log(Level.WARNING, "Dropped " + dropped + " position updates while the database was "
+                                          + "unavailable, as the journal was full");
+            }
+            if (saved > 0) {
+                plugin.log(Level.INFO, "Saved " + saved + " position updates held while the database "
+                                       + "was unavailable");
+            }
+        }
+
+        final Manager manager = plugin.getManager();
+        if (manager != null) {
+            plugin.getOnlineUsers().forEach(manager.homes()::cacheUserHomes);
+            manager.homes().updatePublicHomeCache();
+            manager.warps().updateWarpCache();
+        }
+    }
+
+    /**
+     * Get a user's cached homes, for use while the database is unavailable.
+     *
+     * @param user the user
+     * @return the cached homes, or an empty list if none are cached
+     */
+    @NotNull
+    public final List<Home> getCachedHomes(@NotNull User user) {
+        return Optional.ofNullable(plugin.getManager())
+                .flatMap(manager -> manager.homes().getCachedHomes(user))
+                .orElse(List.of());
+    }
+
+    /**
+     * Get a cached home by its ID, for use while the database is unavailable.
+     *
+     * @param uuid the ID of the home
+     * @return the home, if cached
+     */
+    protected final Optional<Home> getCachedHome(@NotNull UUID uuid) {
+        return Optional.ofNullable(plugin.getManager()).flatMap(manager -> manager.homes().getCachedHome(uuid));
+    }
+
+    /**
+     * Get the cached public homes, for use while the database is unavailable.
+     *
+     * @return the cached public homes
+     */
+    @NotNull
+    public final List<Home> getCachedPublicHomes() {
+        return Optional.ofNullable(plugin.getManager())
+                .map(manager -> manager.homes().getCachedPublicHomes())
+                .orElse(List.of());
+    }
+
+    // Check whether a saved position has a name, as matched by name lookups
+    protected static boolean isNamed(@NotNull SavedPosition position, @NotNull String name, boolean caseInsensitive) {
+        return caseInsensitive
+                ? position.getName().equalsIgnoreCase(name)
+                : position.getName().equals(name);
+    }
+
+    /**
+     * Get the cached warps, for use while the database is unavailable.
+     *
+     * @return the cached warps
+     */
+    @NotNull
+    public final List<Warp> getCachedWarps() {
+        return Optional.ofNullable(plugin.getManager())
+                .map(manager -> manager.warps().getCachedWarps())
+                .orElse(List.of());
+    }
+
+    /**
+     * Get a page of cached homes or warps ordered by name and then by unique ID, as the database would return it, for
+     * use while the database is unavailable.
+     *
+     * @param positions the cached homes or warps
+     * @param offset    the number of positions on the pages before this one
+     * @param limit     the maximum number of positions to get
+     * @return the page of positions
+     */
+    @NotNull
+    protected static <T extends SavedPosition> List<T> getCachedPage(@NotNull List<T> positions,
+                                                                     int offset, int limit) {
+        return positions.stream()
+                .sorted(Comparator.comparing(SavedPosition::getName)
+                        .thenComparing(position -> position.getUuid().toString()))
+                .skip(offset)
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Instrument a connection, so the time taken to execute each statement on it is recorded.
+     *
+     * @param connection the connection
+     * @return the instrumented connection
+     * @since 4.10
+     */
+    @NotNull
+    protected final Connection instrument(@NotNull Connection connection) {
+        return InstrumentedConnection.wrap(connection, plugin.getMetricsRegistry());
+    }
+
+    /**
+     * Instrument a connection acquired from a pool, recording how long it took to acquire.
+     *
+     * @param connection   the connection
+     * @param acquireStart the {@link System#nanoTime()} when acquiring the connection started
+     * @return the instrumented connection
+     * @since 4.10
+     */
+    @NotNull
+    protected final Connection instrument(@NotNull Connection connection, long acquireStart) {
+        plugin.getMetricsRegistry().record(Metric.DATABASE_CONNECTION, acquireStart);
+        return instrument(connection);
+    }
+
+    /**
+     * Get a comma-separated list of parameter placeholders, for use in an {@code IN} clause.
+     *
+     * @param count the number of placeholders
+     * @return the placeholders
+     * @since 4.10
+     */
+    @NotNull
+    protected static String getPlaceholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
     /**
      * Format a string for use in an SQL query.
      *
@@ -251,6 +621,24 @@ public abstract class Database {
      */
     public abstract Optional<SavedUser> getUser(@NotNull String name);
 
+    /**
+     * Resolve a {@link User} by their Minecraft username (<i>case-insensitive</i>), checking the
+     * {@link UserDirectory} of recently seen users before querying the database.
+     *
+     * @param name Username of the {@link User} to resolve (<i>case-insensitive</i>)
+     * @return An optional with the {@link User} present if they exist
+     * @since 4.10
+     */
+    public Optional<User> resolveUser(@NotNull String name) {
+        final Optional<User> known = userDirectory.get(name);
+        if (known.isPresent()) {
+            return known;
+        }
+        final Optional<User> user = getUser(name).map(SavedUser::getUser);
+        user.ifPresent(userDirectory::put);
+        return user;
+    }
+
     /**
      * Get {@link SavedUser} for a user by their Minecraft account {@link UUID}.
      *
@@ -294,37 +682,128 @@ public abstract class Database {
     /**
      * Get a list of {@link Home}s set by a {@link User}.
      *
+     * <p>If the homes can't be read from the database, the user's homes cached in memory are returned instead
+     *
      * @param user {@link User} to get the homes of
      * @return A future returning void when complete
      */
-    public abstract List<Home> getHomes(@NotNull User user);
+    public List<Home> getHomes(@NotNull User user) {
+        return loadHomes(user).orElseGet(() -> getCachedHomes(user));
+    }
+
+    /**
+     * Read the list of {@link Home}s set by a {@link User} from the database.
+     *
+     * @param user {@link User} to get the homes of
+     * @return the user's homes, or an empty optional if the database is unavailable or the query failed
+     * @since 4.10
+     */
+    public abstract Optional<List<Home>> loadHomes(@NotNull User user);
 
     /**
      * Get a list of all {@link Warp}s that have been set.
      *
+     * <p>If the warps can't be read from the database, the warps cached in memory are returned instead
+     *
      * @return A list containing all {@link Warp}s
      */
-    public abstract List<Warp> getWarps();
+    public List<Warp> getWarps() {
+        return loadWarps().orElseGet(this::getCachedWarps);
+    }
+
+    /**
+     * Read the list of all {@link Warp}s that have been set from the database.
+     *
+     * @return the warps, or an empty optional if the database is unavailable or the query failed
+     * @since 4.10
+     */
+    public abstract Optional<List<Warp>> loadWarps();
 
     /**
      * Get a list of publicly-set {@link Warp}s on <i>this {@link Server server}</i>.
      *
      * @param plugin The plugin instance
      * @return A list containing all {@link Warp}s set on this server
+     * @throws IllegalStateException if a page of data can't be fetched
      */
     @NotNull
     public final List<Warp> getLocalWarps(@NotNull HuskHomes plugin) {
-        return getWarps().stream()
-                .filter(warp -> warp.getServer().equals(plugin.getServerName()))
-                .collect(Collectors.toList());
+        return streamWarps(plugin.getServerName(), null).collect(Collectors.toList());
+    }
+
+    /**
+     * Get a page of {@link Warp}s, ordered by name and then by unique ID.
+     *
+     * <p>Pages are fetched by keyset, so fetching a later page does not re-read the rows of the pages before it.
+     *
+     * @param after  The last warp of the previous page, or {@code null} to get the first page
+     * @param limit  The maximum number of warps to get
+     * @param server The name of the server to get warps on, or {@code null} to get warps on any server
+     * @param world  The name of the world to get warps in, or {@code null} to get warps in any world
+     * @return A list containing at most {@code limit} {@link Warp}s ordered after {@code after}, or an empty optional
+     * if the page couldn't be fetched
+     * @since 4.10
+     */
+    public abstract Optional<List<Warp>> getWarps(@Nullable Warp after, int limit,
+                                                  @Nullable String server, @Nullable String world);
+
+    /**
+     * Get a page of {@link Warp}s, ordered by name and then by unique ID, for displaying as a numbered list page.
+     *
+     * @param names  The names of the warps to include, or {@code null} to include all warps
+     * @param offset The number of warps on the pages before this one
+     * @param limit  The maximum number of warps to get
+     * @return A list containing at most {@code limit} {@link Warp}s
+     * @since 4.10
+     */
+    public abstract List<Warp> getWarps(@Nullable Collection<String> names, int offset, int limit);
+
+    /**
+     * Count the {@link Warp}s, without loading them.
+     *
+     * @return The number of warps
+     * @since 4.10
+     */
+    public final long getWarpCount() {
+        if (isUnavailable()) {
+            return getCachedWarps().size();
+        }
+        return getWarpCountsByServer().values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Stream {@link Warp}s, ordered by name and then by unique ID, fetching them a page at a time as the stream is
+     * consumed.
+     *
+     * @param server The name of the server to get warps on, or {@code null} to get warps on any server
+     * @param world  The name of the world to get warps in, or {@code null} to get warps in any world
+     * @return A lazily-fetched stream of {@link Warp}s
+     * @throws IllegalStateException if a page of data can't be fetched
+     * @since 4.10
+     */
+    @NotNull
+    public final Stream<Warp> streamWarps(@Nullable String server, @Nullable String world) {
+        return streamPages((after) -> getWarps(after, PAGE_SIZE, server, world));
     }
 
     /**
      * Get a list of all publicly-set {@link Home}s.
      *
+     * <p>If the homes can't be read from the database, the public homes cached in memory are returned instead
+     *
      * @return A list containing all publicly-set {@link Home}s
      */
-    public abstract List<Home> getPublicHomes();
+    public List<Home> getPublicHomes() {
+        return loadPublicHomes().orElseGet(this::getCachedPublicHomes);
+    }
+
+    /**
+     * Read the list of all publicly-set {@link Home}s from the database.
+     *
+     * @return the public homes, or an empty optional if the database is unavailable or the query failed
+     * @since 4.10
+     */
+    public abstract Optional<List<Home>> loadPublicHomes();
 
     /**
      * Get a list of publicly-set {@link Home}s with a specific name.
@@ -352,12 +831,189 @@ public abstract class Database {
      *
      * @param plugin The plugin instance
      * @return A list containing all publicly-set {@link Home}s on this server
+     * @throws IllegalStateException if a page of data can't be fetched
      */
     @NotNull
     public final List<Home> getLocalPublicHomes(@NotNull HuskHomes plugin) {
-        return getPublicHomes().stream()
-                .filter(home -> home.getServer().equals(plugin.getServerName()))
-                .collect(Collectors.toList());
+        return streamPublicHomes(plugin.getServerName(), null).collect(Collectors.toList());
+    }
+
+    /**
+     * Get a page of publicly-set {@link Home}s, ordered by name and then by unique ID.
+     *
+     * <p>Pages are fetched by keyset, so fetching a later page does not re-read the rows of the pages before it.
+     *
+     * @param after  The last home of the previous page, or {@code null} to get the first page
+     * @param limit  The maximum number of homes to get
+     * @param server The name of the server to get homes on, or {@code null} to get homes on any server
+     * @param world  The name of the world to get homes in, or {@code null} to get homes in any world
+     * @return A list containing at most {@code limit} publicly-set {@link Home}s ordered after {@code after}, or an
+     * empty optional if the page couldn't be fetched
+     * @since 4.10
+     */
+    public abstract Optional<List<Home>> getPublicHomes(@Nullable Home after, int limit,
+                                                        @Nullable String server, @Nullable String world);
+
+    /**
+     * Get a page of publicly-set {@link Home}s, ordered by name and then by unique ID, for displaying as a numbered
+     * list page.
+     *
+     * @param offset The number of homes on the pages before this one
+     * @param limit  The maximum number of homes to get
+     * @return A list containing at most {@code limit} publicly-set {@link Home}s
+     * @since 4.10
+     */
+    public abstract List<Home> getPublicHomes(int offset, int limit);
+
+    /**
+     * Count the publicly-set {@link Home}s, without loading them.
+     *
+     * @return The number of publicly-set homes
+     * @since 4.10
+     */
+    public final long getPublicHomeCount() {
+        if (isUnavailable()) {
+            return getCachedPublicHomes().size();
+        }
+        return getHomeCountsByServer(true).values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Stream publicly-set {@link Home}s, ordered by name and then by unique ID, fetching them a page at a time as
+     * the stream is consumed.
+     *
+     * @param server The name of the server to get homes on, or {@code null} to get homes on any server
+     * @param world  The name of the world to get homes in, or {@code null} to get homes in any world
+     * @return A lazily-fetched stream of publicly-set {@link Home}s
+     * @throws IllegalStateException if a page of data can't be fetched
+     * @since 4.10
+     */
+    @NotNull
+    public final Stream<Home> streamPublicHomes(@Nullable String server, @Nullable String world) {
+        return streamPages((after) -> getPublicHomes(after, PAGE_SIZE, server, world));
+    }
+
+    // Lazily stream the contents of consecutive keyset pages, stopping after the first page that isn't full. If a page
+    // can't be fetched, the stream throws rather than ending early, so callers don't mistake it for all the data
+    @NotNull
+    private static <T> Stream<T> streamPages(@NotNull Function<@Nullable T, Optional<List<T>>> pageFetcher) {
+        final Function<@Nullable T, List<T>> fetcher = (after) -> pageFetcher.apply(after).orElseThrow(
+                () -> new IllegalStateException("Failed to fetch a page of data from the database"));
+        return Stream.iterate(
+                fetcher.apply(null),
+                page -> !page.isEmpty(),
+                page -> page.size() < PAGE_SIZE ? List.of() : fetcher.apply(page.get(page.size() - 1))
+        ).flatMap(List::stream);
+    }
+
+    /**
+     * Get a page of all {@link Home}s, ordered by UUID.
+     *
+     * @param after The home to get the page after, or {@code null} to get the first page
+     * @param limit The maximum number of homes to get
+     * @return A list of up to {@code limit} homes, or an empty optional if the page couldn't be fetched
+     * @since 4.10
+     */
+    public abstract Optional<List<Home>> getHomes(@Nullable Home after, int limit);
+
+    /**
+     * Lazily stream all {@link Home}s, a page at a time.
+     *
+     * @return A stream of all homes
+     * @throws IllegalStateException if a page of data can't be fetched
+     * @since 4.10
+     */
+    @NotNull
+    public final Stream<Home> streamHomes() {
+        return streamPages((after) -> getHomes(after, PAGE_SIZE));
+    }
+
+    /**
+     * Get a page of all {@link SavedUser}s with their last, offline and respawn positions, ordered by UUID.
+     *
+     * <p>The positions are joined into the same query, rather than being looked up for each user.
+     *
+     * @param after The user to get the page after, or {@code null} to get the first page
+     * @param limit The maximum number of users to get
+     * @return A list of up to {@code limit} users and their positions, or an empty optional if the page couldn't be
+     * fetched
+     * @since 4.10
+     */
+    public abstract Optional<List<UserPositions>> getUsersWithPositions(@Nullable SavedUser after, int limit);
+
+    /**
+     * Lazily stream all {@link SavedUser}s with their last, offline and respawn positions, a page at a time.
+     *
+     * @return A stream of all users and their positions
+     * @throws IllegalStateException if a page of data can't be fetched
+     * @since 4.10
+     */
+    @NotNull
+    public final Stream<UserPositions> streamUsersWithPositions() {
+        return streamPages((after) -> getUsersWithPositions(after == null ? null : after.user(), PAGE_SIZE));
+    }
+
+    /**
+     * Get the columns of the last, offline and respawn positions joined into a user query as {@code last},
+     * {@code offline} and {@code respawn}, each column prefixed with the name of its position.
+     *
+     * @param quote the character the database quotes identifiers with
+     * @return the column list
+     */
+    @NotNull
+    protected static String getUserPositionColumns(char quote) {
+        return Stream.of("last", "offline", "respawn")
+                .flatMap(position -> Stream.of("x", "y", "z", "yaw", "pitch", "world_name", "world_uuid", "server_name")
+                        .map(column -> quote + position + quote + "." + quote + column + quote
+                                       + " AS " + quote + position + "_" + column + quote))
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Read a user and the positions joined into a user query with {@link #getUserPositionColumns(char)}.
+     *
+     * @param resultSet the result set, at the user's row
+     * @param user      the user read from the row
+     * @return the user and their positions
+     * @throws SQLException if the positions could not be read
+     */
+    @NotNull
+    protected static UserPositions readUserPositions(@NotNull ResultSet resultSet,
+                                                     @NotNull SavedUser user) throws SQLException {
+        return new UserPositions(user,
+                readJoinedPosition(resultSet, "last_"),
+                readJoinedPosition(resultSet, "offline_"),
+                readJoinedPosition(resultSet, "respawn_"));
+    }
+
+    // Read a position joined into a query with prefixed column names, or null if there was no position to join
+    @Nullable
+    private static Position readJoinedPosition(@NotNull ResultSet resultSet, @NotNull String prefix)
+            throws SQLException {
+        final String worldUuid = resultSet.getString(prefix + "world_uuid");
+        if (worldUuid == null) {
+            return null;
+        }
+        return Position.at(resultSet.getDouble(prefix + "x"),
+                resultSet.getDouble(prefix + "y"),
+                resultSet.getDouble(prefix + "z"),
+                resultSet.getFloat(prefix + "yaw"),
+                resultSet.getFloat(prefix + "pitch"),
+                World.from(resultSet.getString(prefix + "world_name"), UUID.fromString(worldUuid)),
+                resultSet.getString(prefix + "server_name"));
+    }
+
+    /**
+     * A saved user, with their last, offline and respawn positions.
+     *
+     * @param user            the user
+     * @param lastPosition    the user's last position, if they have one
+     * @param offlinePosition the user's offline position, if they have one
+     * @param respawnPosition the user's respawn position, if they have one
+     * @since 4.10
+     */
+    public record UserPositions(@NotNull SavedUser user, @Nullable Position lastPosition,
+                                @Nullable Position offlinePosition, @Nullable Position respawnPosition) {
     }
 
     /**
@@ -390,6 +1046,15 @@ public abstract class Database {
      */
     public abstract Optional<Home> getHome(@NotNull UUID uuid);
 
+    /**
+     * Get the {@link Home}s with the given {@link UUID unique IDs}, fetching them in as few queries as possible.
+     *
+     * @param uuids the {@link UUID}s of the homes to get
+     * @return the homes that exist, in no particular order, or an empty optional if they couldn't be fetched
+     * @since 4.10
+     */
+    public abstract Optional<List<Home>> getHomes(@NotNull Collection<UUID> uuids);
+
     /**
      * Get a {@link Warp} with the given name.
      *
@@ -418,6 +1083,15 @@ public abstract class Database {
      */
     public abstract Optional<Warp> getWarp(@NotNull UUID uuid);
 
+    /**
+     * Get the {@link Warp}s with the given {@link UUID unique IDs}, fetching them in as few queries as possible.
+     *
+     * @param uuids the {@link UUID}s of the warps to get
+     * @return the warps that exist, in no particular order, or an empty optional if they couldn't be fetched
+     * @since 4.10
+     */
+    public abstract Optional<List<Warp>> getWarps(@NotNull Collection<UUID> uuids);
+
     /**
      * Get the current {@link Teleport} being executed by the specified {@link OnlineUser}.
      *
@@ -561,6 +1235,56 @@ public abstract class Database {
      */
     public abstract int deleteAllWarps(@NotNull String worldName, @NotNull String serverName);
 
+    /**
+     * Count the {@link Home}s a user has set, without loading them.
+     *
+     * @param owner      The {@link UUID} of the user who owns the homes
+     * @param publicOnly Whether to only count public homes
+     * @return The number of homes the user has set
+     * @since 4.10
+     */
+    public abstract long getHomeCount(@NotNull UUID owner, boolean publicOnly);
+
+    /**
+     * Count the {@link Home}s set in each world, without loading them.
+     *
+     * <p>If counting across all servers, homes in worlds with the same name on different servers are counted together.
+     *
+     * @param server     The name of the server to count homes on, or {@code null} to count homes on all servers
+     * @param publicOnly Whether to only count public homes
+     * @return A map of world names to the number of homes set in them
+     * @since 4.10
+     */
+    public abstract Map<String, Long> getHomeCountsByWorld(@Nullable String server, boolean publicOnly);
+
+    /**
+     * Count the {@link Warp}s set in each world, without loading them.
+     *
+     * <p>If counting across all servers, warps in worlds with the same name on different servers are counted together.
+     *
+     * @param server The name of the server to count warps on, or {@code null} to count warps on all servers
+     * @return A map of world names to the number of warps set in them
+     * @since 4.10
+     */
+    public abstract Map<String, Long> getWarpCountsByWorld(@Nullable String server);
+
+    /**
+     * Count the {@link Home}s set on each server, without loading them.
+     *
+     * @param publicOnly Whether to only count public homes
+     * @return A map of server names to the number of homes set on them
+     * @since 4.10
+     */
+    public abstract Map<String, Long> getHomeCountsByServer(boolean publicOnly);
+
+    /**
+     * Count the {@link Warp}s set on each server, without loading them.
+     *
+     * @return A map of server names to the number of warps set on them
+     * @since 4.10
+     */
+    public abstract Map<String, Long> getWarpCountsByServer();
+
     /**
      * Close the database connection.
      */
@@ -619,6 +1343,17 @@ public abstract class Database {
 
     }
 
+    /**
+     * Supplies connections to the database.
+     *
+     * @since 4.10
+     */
+    @FunctionalInterface
+    protected interface ConnectionSource {
+        @NotNull
+        Connection get() throws SQLException;
+    }
+
     /**
      * Represents database migrations that need to be run.
      */
@@ -626,6 +1361,18 @@ public abstract class Database {
         ADD_METADATA_TABLE(
                 0, "add_metadata_table",
                 Type.MYSQL, Type.MARIADB, Type.POSTGRESQL, Type.SQLITE, Type.H2
+        ),
+        ADD_HOME_OWNER_PUBLIC_INDEX(
+                1, "add_home_owner_public_index",
+                Type.MYSQL, Type.MARIADB, Type.POSTGRESQL, Type.SQLITE, Type.H2
+        ),
+        ADD_USERNAME_INDEX(
+                2, "add_username_index",
+                Type.MYSQL, Type.MARIADB, Type.POSTGRESQL, Type.SQLITE, Type.H2
+        ),
+        ADD_POSITION_SCOPE_INDEXES(
+                3, "add_position_scope_indexes",
+                Type.MYSQL, Type.MARIADB, Type.POSTGRESQL, Type.SQLITE, Type.H2
         );
 
         private final int version;
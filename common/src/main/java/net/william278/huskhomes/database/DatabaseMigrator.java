@@ -0,0 +1,442 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.database;
+
+import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.user.CommandUser;
+import net.william278.huskhomes.util.TaskLogger;
+import org.jetbrains.annotations.Blocking;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+
+/**
+ * Streams all data from one {@link Database} to another, such as when moving from SQLite to MySQL.
+ *
+ * <p>Each table is copied in batches ordered by its primary key, with every batch inserted in a single transaction, so
+ * only one batch is held in memory at a time. All tables are read from a single snapshot of the source, so rows that
+ * reference each other are copied consistently. As the target always holds a prefix of each source table, an
+ * interrupted migration can be resumed by starting it again, continuing after the highest key in the target.
+ *
+ * <p>The source must not be written to between an interrupted migration and its resumption, so migrations may only be
+ * started while no other players are online.
+ *
+ * @since 4.10
+ */
+public class DatabaseMigrator {
+
+    private static final int BATCH_SIZE = 1000;
+    // Minimum time between progress reports (in seconds)
+    private static final long PROGRESS_INTERVAL = 5;
+    private static final Set<Database.Type> REMOTE_TYPES = Set.of(
+            Database.Type.MYSQL, Database.Type.MARIADB, Database.Type.POSTGRESQL
+    );
+
+    private final HuskHomes plugin;
+    private final Database.Type sourceType;
+    private final Database.Type targetType;
+    private final TaskLogger logger;
+
+    public DatabaseMigrator(@NotNull HuskHomes plugin, @NotNull Database.Type sourceType,
+                            @NotNull Database.Type targetType) throws IllegalArgumentException {
+        if (sourceType == targetType) {
+            throw new IllegalArgumentException("Cannot migrate a database to itself");
+        }
+        if (REMOTE_TYPES.contains(sourceType) && REMOTE_TYPES.contains(targetType)) {
+            throw new IllegalArgumentException("Only one of the databases may use the configured credentials");
+        }
+        this.plugin = plugin;
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+        this.logger = new TaskLogger(plugin, "Migrator");
+    }
+
+    /**
+     * Migrate all data from the source database to the target database.
+     *
+     * @param executor the user to report progress to
+     * @return {@code true} if the migration completed
+     */
+    @Blocking
+    public boolean start(@NotNull CommandUser executor) {
+        final LocalDateTime startTime = LocalDateTime.now();
+        if (plugin.getOnlineUsers().stream().anyMatch(user -> !user.equals(executor))) {
+            log(executor, Level.WARNING, "❌ Players are online. Migrate with no other players online, and with any "
+                                         + "other servers using the database stopped, so no data changes mid-way");
+            return false;
+        }
+        log(executor, Level.INFO, "⌚ Starting migration from " + sourceType.getDisplayName()
+                                  + " to " + targetType.getDisplayName() + "...");
+
+        Database source = null;
+        Database target = null;
+        try {
+            source = open(sourceType);
+            target = open(targetType);
+            // Use connections of our own, as the live database's may be shared with other tasks
+            try (Connection sourceConnection = source.getDedicatedConnection();
+                 Connection targetConnection = target.getDedicatedConnection()) {
+                final int isolation = sourceConnection.getTransactionIsolation();
+                if (sourceConnection.getMetaData()
+                        .supportsTransactionIsolationLevel(Connection.TRANSACTION_REPEATABLE_READ)) {
+                    sourceConnection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+                }
+                sourceConnection.setAutoCommit(false);
+                try {
+                    for (MigratedTable table : MigratedTable.values()) {
+                        migrateTable(executor, table, sourceConnection, targetConnection);
+                    }
+                    resetSequences(targetConnection);
+                } finally {
+                    sourceConnection.commit();
+                    sourceConnection.setAutoCommit(true);
+                    sourceConnection.setTransactionIsolation(isolation);
+                }
+            }
+        } catch (SQLException e) {
+            log(executor, Level.WARNING, "❌ Migration failed: " + e.getMessage()
+                                         + " - start the migration again to resume it", e);
+            return false;
+        } catch (Throwable e) {
+            log(executor, Level.WARNING, "❌ Migration failed: " + e.getMessage(), e);
+            return false;
+        } finally {
+            close(source);
+            close(target);
+        }
+
+        final long timeTaken = startTime.until(LocalDateTime.now(), ChronoUnit.SECONDS);
+        log(executor, Level.INFO, "✔ Completed migration to " + targetType.getDisplayName() + " (took "
+                                  + timeTaken + "s). Update your database type in config.yml and restart to use it.");
+        return true;
+    }
+
+    // Copy the rows of a table not yet present in the target, in primary key order
+    private void migrateTable(@NotNull CommandUser executor, @NotNull MigratedTable table,
+                              @NotNull Connection source, @NotNull Connection target) throws SQLException {
+        final long total = count(source, sourceType, table);
+        long copied = count(target, targetType, table);
+        Object lastKey = getMaxKey(target, table);
+        if (lastKey != null && !hasKey(source, table, lastKey)) {
+            throw new IllegalStateException("The " + targetType.getDisplayName() + " database already has "
+                                            + table.getName() + " that aren't in the " + sourceType.getDisplayName()
+                                            + " database. Migrate into an empty database");
+        }
+        log(executor, Level.INFO, "⌚ Migrating " + table.getName()
+                                  + (copied > 0 ? " (resuming from " + copied + "/" + total + " rows)..." : "..."));
+
+        final Column key = table.getKey();
+        LocalDateTime lastReport = LocalDateTime.now();
+        target.setAutoCommit(false);
+        try (PreparedStatement insert = target.prepareStatement(getInsert(table))) {
+            int rows;
+            do {
+                rows = 0;
+                try (PreparedStatement select = source.prepareStatement(getSelect(table, lastKey != null),
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                    select.setFetchSize(BATCH_SIZE);
+                    int index = 1;
+                    if (lastKey != null) {
+                        key.kind().write(select, index++, lastKey);
+                    }
+                    select.setInt(index, BATCH_SIZE);
+
+                    try (ResultSet resultSet = select.executeQuery()) {
+                        while (resultSet.next()) {
+                            for (int i = 0; i < table.columns.length; i++) {
+                                final Object value = table.columns[i].read(resultSet);
+                                table.columns[i].kind().write(insert, i + 1, value);
+                            }
+                            lastKey = key.read(resultSet);
+                            insert.addBatch();
+                            rows++;
+                        }
+                    }
+                }
+                if (rows > 0) {
+                    insert.executeBatch();
+                    target.commit();
+                    copied += rows;
+                }
+
+                if (lastReport.until(LocalDateTime.now(), ChronoUnit.SECONDS) >= PROGRESS_INTERVAL) {
+                    log(executor, Level.INFO, "⌚ Migrating " + table.getName() + ": " + copied + "/" + total
+                                              + " rows (" + (copied * 100 / Math.max(total, 1)) + "%)");
+                    lastReport = LocalDateTime.now();
+                }
+            } while (rows == BATCH_SIZE);
+        } catch (SQLException e) {
+            target.rollback();
+            throw e;
+        } finally {
+            target.setAutoCommit(true);
+        }
+
+        // Rows added to the source with lower keys between runs would have been skipped when resuming
+        if (copied != total) {
+            throw new IllegalStateException("Migrated " + copied + " of " + total + " " + table.getName()
+                                            + ", as the " + sourceType.getDisplayName() + " database changed "
+                                            + "since the migration was started. Empty the "
+                                            + targetType.getDisplayName() + " database and migrate again");
+        }
+        log(executor, Level.INFO, "✔ Migrated " + table.getName() + " (" + copied + " rows)");
+    }
+
+    // Count the rows in a table
+    private long count(@NotNull Connection connection, @NotNull Database.Type type,
+                       @NotNull MigratedTable table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM "
+                                                          + quote(type, getTableName(table)))) {
+            return resultSet.next() ? resultSet.getLong(1) : 0;
+        }
+    }
+
+    // Get the highest primary key in the target table, to resume copying after
+    @Nullable
+    private Object getMaxKey(@NotNull Connection target, @NotNull MigratedTable table) throws SQLException {
+        final Column key = table.getKey();
+        try (Statement statement = target.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT MAX(" + quote(targetType, key.name()) + ") AS "
+                                                          + quote(targetType, key.name()) + " FROM "
+                                                          + quote(targetType, getTableName(table)))) {
+            return resultSet.next() ? key.read(resultSet) : null;
+        }
+    }
+
+    // Check a primary key is in the source table
+    private boolean hasKey(@NotNull Connection source, @NotNull MigratedTable table,
+                           @NotNull Object value) throws SQLException {
+        final Column key = table.getKey();
+        try (PreparedStatement statement = source.prepareStatement("SELECT 1 FROM "
+                                                                   + quote(sourceType, getTableName(table))
+                                                                   + " WHERE " + quote(sourceType, key.name())
+                                                                   + " = ?")) {
+            key.kind().write(statement, 1, value);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+
+    @NotNull
+    private String getSelect(@NotNull MigratedTable table, boolean after) {
+        final String key = quote(sourceType, table.getKey().name());
+        return "SELECT " + Arrays.stream(table.columns)
+                .map(column -> quote(sourceType, column.name()))
+                .collect(Collectors.joining(", "))
+               + " FROM " + quote(sourceType, getTableName(table))
+               + (after ? " WHERE " + key + " > ?" : "")
+               + " ORDER BY " + key + " LIMIT ?";
+    }
+
+    @NotNull
+    private String getInsert(@NotNull MigratedTable table) {
+        return "INSERT INTO " + quote(targetType, getTableName(table)) + " ("
+               + Arrays.stream(table.columns)
+                       .map(column -> quote(targetType, column.name()))
+                       .collect(Collectors.joining(", "))
+               + ") VALUES (" + String.join(", ", Collections.nCopies(table.columns.length, "?")) + ")";
+    }
+
+    // Inserting explicit IDs doesn't advance the auto-increment counter on some databases, so move it past them
+    private void resetSequences(@NotNull Connection target) throws SQLException {
+        if (targetType != Database.Type.POSTGRESQL && targetType != Database.Type.H2) {
+            return;
+        }
+        for (MigratedTable table : MigratedTable.values()) {
+            if (table.getKey().kind() != Kind.INT) {
+                continue;
+            }
+            final String name = getTableName(table);
+            final String key = table.getKey().name();
+            try (Statement statement = target.createStatement()) {
+                if (targetType == Database.Type.POSTGRESQL) {
+                    statement.execute("""
+                            SELECT setval(pg_get_serial_sequence('%s', '%s'), COALESCE(MAX("%s"), 0) + 1, false)
+                            FROM "%s";""".formatted(name, key, key, name));
+                    continue;
+                }
+                final long next;
+                try (ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(`%s`), 0) + 1 FROM `%s`"
+                        .formatted(key, name))) {
+                    next = resultSet.next() ? resultSet.getLong(1) : 1;
+                }
+                statement.execute("ALTER TABLE `%s` ALTER COLUMN `%s` RESTART WITH %d".formatted(name, key, next));
+            }
+        }
+    }
+
+    // Get the live database if it's of the given type, otherwise connect to a new one
+    @NotNull
+    private Database open(@NotNull Database.Type type) throws IllegalStateException {
+        if (plugin.getSettings().getDatabase().getType() == type) {
+            return plugin.getDatabase();
+        }
+        final Database database = plugin.createDatabase(type);
+        database.initialize();
+        if (!database.isLoaded()) {
+            throw new IllegalStateException("Failed to connect to the " + type.getDisplayName() + " database");
+        }
+        return database;
+    }
+
+    // Close a database opened for the migration, leaving the live database open
+    private void close(@Nullable Database database) {
+        if (database != null && database != plugin.getDatabase()) {
+            database.close();
+        }
+    }
+
+    @NotNull
+    private String getTableName(@NotNull MigratedTable table) {
+        return plugin.getSettings().getDatabase().getTableName(table.table);
+    }
+
+    @NotNull
+    private static String quote(@NotNull Database.Type type, @NotNull String identifier) {
+        return type == Database.Type.POSTGRESQL ? "\"" + identifier + "\"" : "`" + identifier + "`";
+    }
+
+    private void log(@NotNull CommandUser user, @NotNull Level level, @NotNull String message,
+                     @NotNull Throwable... e) {
+        logger.log(user, level, message, e);
+    }
+
+    /**
+     * Tables to migrate, in an order that satisfies their foreign keys. The first column is the primary key.
+     */
+    private enum MigratedTable {
+        POSITIONS(Database.Table.POSITION_DATA, "positions",
+                Column.of("id", Kind.INT), Column.of("x", Kind.DOUBLE), Column.of("y", Kind.DOUBLE),
+                Column.of("z", Kind.DOUBLE), Column.of("yaw", Kind.FLOAT), Column.of("pitch", Kind.FLOAT),
+                Column.of("world_name", Kind.STRING), Column.of("world_uuid", Kind.STRING),
+                Column.of("server_name", Kind.STRING)),
+        USERS(Database.Table.PLAYER_DATA, "users",
+                Column.of("uuid", Kind.STRING), Column.of("username", Kind.STRING),
+                Column.of("last_position", Kind.INT), Column.of("offline_position", Kind.INT),
+                Column.of("respawn_position", Kind.INT), Column.of("home_slots", Kind.INT),
+                Column.of("ignoring_requests", Kind.BOOLEAN)),
+        COOLDOWNS(Database.Table.PLAYER_COOLDOWNS_DATA, "cooldowns",
+                Column.of("id", Kind.INT), Column.of("player_uuid", Kind.STRING), Column.of("type", Kind.STRING),
+                Column.of("start_timestamp", Kind.TIMESTAMP), Column.of("end_timestamp", Kind.TIMESTAMP)),
+        SAVED_POSITIONS(Database.Table.SAVED_POSITION_DATA, "saved positions",
+                Column.of("id", Kind.INT), Column.of("position_id", Kind.INT), Column.of("name", Kind.STRING),
+                Column.of("description", Kind.STRING), Column.of("tags", Kind.STRING),
+                Column.of("timestamp", Kind.TIMESTAMP)),
+        HOMES(Database.Table.HOME_DATA, "homes",
+                Column.of("uuid", Kind.STRING), Column.of("saved_position_id", Kind.INT),
+                Column.of("owner_uuid", Kind.STRING), Column.of("public", Kind.BOOLEAN)),
+        WARPS(Database.Table.WARP_DATA, "warps",
+                Column.of("uuid", Kind.STRING), Column.of("saved_position_id", Kind.INT)),
+        TELEPORTS(Database.Table.TELEPORT_DATA, "teleports",
+                Column.of("player_uuid", Kind.STRING), Column.of("destination_id", Kind.INT),
+                Column.of("type", Kind.INT));
+
+        private final Database.Table table;
+        private final String name;
+        private final Column[] columns;
+
+        MigratedTable(@NotNull Database.Table table, @NotNull String name, @NotNull Column... columns) {
+            this.table = table;
+            this.name = name;
+            this.columns = columns;
+        }
+
+        @NotNull
+        private String getName() {
+            return name;
+        }
+
+        @NotNull
+        private Column getKey() {
+            return columns[0];
+        }
+    }
+
+    // A migrated column. Values are read and written by kind rather than as objects, as column types vary by database
+    private record Column(@NotNull String name, @NotNull Kind kind) {
+
+        @NotNull
+        private static Column of(@NotNull String name, @NotNull Kind kind) {
+            return new Column(name, kind);
+        }
+
+        @Nullable
+        private Object read(@NotNull ResultSet resultSet) throws SQLException {
+            final Object value = switch (kind) {
+                case INT -> resultSet.getInt(name);
+                case DOUBLE -> resultSet.getDouble(name);
+                case FLOAT -> resultSet.getFloat(name);
+                case STRING -> resultSet.getString(name);
+                case BOOLEAN -> resultSet.getBoolean(name);
+                case TIMESTAMP -> resultSet.getTimestamp(name);
+            };
+            return resultSet.wasNull() ? null : value;
+        }
+
+    }
+
+    private enum Kind {
+        INT(Types.INTEGER),
+        DOUBLE(Types.DOUBLE),
+        FLOAT(Types.FLOAT),
+        STRING(Types.VARCHAR),
+        BOOLEAN(Types.BOOLEAN),
+        TIMESTAMP(Types.TIMESTAMP);
+
+        private final int sqlType;
+
+        Kind(int sqlType) {
+            this.sqlType = sqlType;
+        }
+
+        private void write(@NotNull PreparedStatement statement, int index,
+                           @Nullable Object value) throws SQLException {
+            if (value == null) {
+                statement.setNull(index, sqlType);
+                return;
+            }
+            switch (this) {
+                case INT -> statement.setInt(index, (Integer) value);
+                case DOUBLE -> statement.setDouble(index, (Double) value);
+                case FLOAT -> statement.setFloat(index, (Float) value);
+                case STRING -> statement.setString(index, (String) value);
+                case BOOLEAN -> statement.setBoolean(index, (Boolean) value);
+                case TIMESTAMP -> statement.setTimestamp(index, (Timestamp) value);
+            }
+        }
+    }
+
+}
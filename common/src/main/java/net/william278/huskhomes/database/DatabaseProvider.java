@@ -50,10 +50,21 @@ public interface DatabaseProvider {
 
     @NotNull
     private Database createDatabase() {
-        final Database.Type type = getPlugin().getSettings().getDatabase().getType();
+        return createDatabase(getPlugin().getSettings().getDatabase().getType());
+    }
+
+    /**
+     * Create an uninitialized database instance of a given type, using the configured credentials.
+     *
+     * @param type the type of database to create
+     * @return the database instance
+     * @since 4.10
+     */
+    @NotNull
+    default Database createDatabase(@NotNull Database.Type type) {
         switch (type) {
             case MYSQL, MARIADB -> {
-                return new MySqlDatabase(getPlugin());
+                return new MySqlDatabase(getPlugin(), type);
             }
             case POSTGRESQL -> {
                 return new PostgreSqlDatabase(getPlugin());
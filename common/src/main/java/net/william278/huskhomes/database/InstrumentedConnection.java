@@ -0,0 +1,83 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.database;
+
+import net.william278.huskhomes.metrics.Metric;
+import net.william278.huskhomes.metrics.MetricsRegistry;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+
+/**
+ * Wraps JDBC connections so the time taken by every statement executed on them is recorded as a
+ * {@link Metric#DATABASE_QUERY}, without each query having to time itself.
+ */
+final class InstrumentedConnection {
+
+    private InstrumentedConnection() {
+    }
+
+    @NotNull
+    static Connection wrap(@NotNull Connection connection, @NotNull MetricsRegistry metrics) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    final Object result = invoke(connection, method, args);
+                    if (result instanceof Statement statement && method.getReturnType().isInterface()) {
+                        return wrapStatement(statement, method.getReturnType(), metrics);
+                    }
+                    return result;
+                }
+        );
+    }
+
+    // Wrap a statement as the interface its factory method returns (Statement, PreparedStatement, etc.)
+    @NotNull
+    private static Object wrapStatement(@NotNull Statement statement, @NotNull Class<?> type,
+                                        @NotNull MetricsRegistry metrics) {
+        final InvocationHandler handler = (proxy, method, args) -> {
+            if (!method.getName().startsWith("execute")) {
+                return invoke(statement, method, args);
+            }
+            final long start = System.nanoTime();
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                metrics.record(Metric.DATABASE_QUERY, start);
+            }
+        };
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    // Invoke a method on the wrapped object, rethrowing what it throws rather than a reflection exception
+    private static Object invoke(@NotNull Object target, @NotNull Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+}
@@ -19,6 +19,7 @@
 
 package net.william278.huskhomes.database;
 
+import com.google.common.collect.Lists;
 import com.zaxxer.hikari.HikariDataSource;
 import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.position.*;
@@ -45,33 +46,53 @@ import static net.william278.huskhomes.database.DatabaseProvider.DATA_POOL_NAME;
 @SuppressWarnings("DuplicatedCode")
 public class MySqlDatabase extends Database {
 
+    private final Type type;
     private final String flavor;
     private final String driverClass;
     private HikariDataSource dataSource;
 
     public MySqlDatabase(@NotNull HuskHomes plugin) {
+        this(plugin, plugin.getSettings().getDatabase().getType());
+    }
+
+    public MySqlDatabase(@NotNull HuskHomes plugin, @NotNull Type type) {
         super(plugin);
-        this.flavor = plugin.getSettings().getDatabase().getType() == Type.MARIADB
-                ? "mariadb" : "mysql";
-        this.driverClass = plugin.getSettings().getDatabase().getType() == Type.MARIADB
-                ? "org.mariadb.jdbc.Driver" : "com.mysql.cj.jdbc.Driver";
+        this.type = type;
+        this.flavor = type == Type.MARIADB ? "mariadb" : "mysql";
+        this.driverClass = type == Type.MARIADB ? "org.mariadb.jdbc.Driver" : "com.mysql.cj.jdbc.Driver";
     }
 
-    private Connection getConnection() throws SQLException {
-        return dataSource.getConnection();
+    @Override
+    protected Connection getConnection() throws SQLException {
+        return getGuardedConnection(dataSource::getConnection);
     }
 
     private void setConnection() {
         // Initialize the Hikari pooled connection
         final DatabaseSettings databaseSettings = plugin.getSettings().getDatabase();
         final DatabaseSettings.DatabaseCredentials credentials = databaseSettings.getCredentials();
+        dataSource = createDataSource(credentials.getHost(), credentials.getPort(), DATA_POOL_NAME);
+
+        // Initialize the read replica pool, if configured
+        final DatabaseSettings.ReadReplicaOptions replicaOptions = databaseSettings.getReadReplica();
+        if (replicaOptions.isEnabled()) {
+            readReplica = new ReadReplica(plugin, createDataSource(
+                    replicaOptions.getHost(), replicaOptions.getPort(), DATA_POOL_NAME + "Replica"
+            ), replicaOptions);
+        }
+    }
+
+    @NotNull
+    private HikariDataSource createDataSource(@NotNull String host, int port, @NotNull String poolName) {
+        final DatabaseSettings databaseSettings = plugin.getSettings().getDatabase();
+        final DatabaseSettings.DatabaseCredentials credentials = databaseSettings.getCredentials();
 
-        dataSource = new HikariDataSource();
+        final HikariDataSource dataSource = new HikariDataSource();
         dataSource.setDriverClassName(driverClass);
         dataSource.setJdbcUrl(String.format("jdbc:%s://%s:%s/%s%s",
                 flavor,
-                credentials.getHost(),
-                credentials.getPort(),
+                host,
+                port,
                 credentials.getDatabase(),
                 credentials.getParameters()
         ));
@@ -87,7 +108,7 @@ public class MySqlDatabase extends Database {
         dataSource.setMaxLifetime(poolOptions.getLifetime());
         dataSource.setKeepaliveTime(poolOptions.getKeepAlive());
         dataSource.setConnectionTimeout(poolOptions.getTimeout());
-        dataSource.setPoolName(DATA_POOL_NAME);
+        dataSource.setPoolName(poolName);
 
         // Set additional connection pool properties
         final Properties properties = new Properties();
@@ -108,6 +129,7 @@ public class MySqlDatabase extends Database {
                         "maintainTimeStats", "false")
         );
         dataSource.setDataSourceProperties(properties);
+        return dataSource;
     }
 
     @SuppressWarnings("SqlSourceToSinkFlow")
@@ -131,7 +153,7 @@ public class MySqlDatabase extends Database {
             try {
                 executeScript(getConnection(), String.format("%s_schema.sql", flavor));
             } catch (SQLException e) {
-                plugin.log(Level.SEVERE, "Failed to create MySQL database tables", e);
+                logFailure("Failed to create MySQL database tables", e);
                 setLoaded(false);
                 return;
             }
@@ -143,10 +165,10 @@ public class MySqlDatabase extends Database {
 
         // Perform migrations
         try {
-            performMigrations(getConnection(), plugin.getSettings().getDatabase().getType());
+            performMigrations(getConnection(), type);
             setLoaded(true);
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to perform MySQL database migrations", e);
+            logFailure("Failed to perform MySQL database migrations", e);
             setLoaded(false);
         }
     }
@@ -196,7 +218,7 @@ public class MySqlDatabase extends Database {
                     insertStatement.executeUpdate();
                 }
             } catch (SQLException e) {
-                plugin.log(Level.SEVERE, "Failed to insert schema version in table", e);
+                logFailure("Failed to insert schema version in table", e);
             }
             return;
         }
@@ -209,7 +231,7 @@ public class MySqlDatabase extends Database {
                 statement.executeUpdate();
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to update schema version in table", e);
+            logFailure("Failed to update schema version in table", e);
         }
     }
 
@@ -324,6 +346,9 @@ public class MySqlDatabase extends Database {
 
     @Override
     public void ensureUser(@NotNull User onlineUser) {
+        // Their data may have just been saved by the server they came from, so read it from the main database
+        markWritten(onlineUser.getUuid());
+        userDirectory.put(onlineUser);
         getUser(onlineUser.getUuid()).ifPresentOrElse(
                 existingUserData -> {
                     if (!existingUserData.getUsername().equals(onlineUser.getName())) {
@@ -342,7 +367,7 @@ public class MySqlDatabase extends Database {
                                                    + "'s name in the database (" + existingUserData.getUsername()
                                                    + " -> " + onlineUser.getName() + ")");
                         } catch (SQLException e) {
-                            plugin.log(Level.SEVERE, "Failed to update a player's name on the database", e);
+                            logWriteFailure("Failed to update a player's name on the database", e);
                         }
                     }
                 },
@@ -358,14 +383,14 @@ public class MySqlDatabase extends Database {
                             statement.executeUpdate();
                         }
                     } catch (SQLException e) {
-                        plugin.log(Level.SEVERE, "Failed to insert a player into the database", e);
+                        logWriteFailure("Failed to insert a player into the database", e);
                     }
                 });
     }
 
     @Override
     public Optional<SavedUser> getUser(@NotNull String name) {
-        try (Connection connection = getConnection()) {
+        try (Connection connection = getReadConnection(null)) {
             try (PreparedStatement statement = connection.prepareStatement(format("""
                     SELECT `uuid`, `username`, `home_slots`, `ignoring_requests`
                     FROM `%player_data%`
@@ -383,14 +408,14 @@ public class MySqlDatabase extends Database {
                 }
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to fetch a player by name from the database", e);
+            logFailure("Failed to fetch a player by name from the database", e);
         }
         return Optional.empty();
     }
 
     @Override
     public Optional<SavedUser> getUser(@NotNull UUID uuid) {
-        try (Connection connection = getConnection()) {
+        try (Connection connection = getReadConnection(uuid)) {
             try (PreparedStatement statement = connection.prepareStatement(format("""
                     SELECT `uuid`, `username`, `home_slots`, `ignoring_requests`
                     FROM `%player_data%`
@@ -409,13 +434,15 @@ public class MySqlDatabase extends Database {
                 }
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to fetch a player from uuid from the database", e);
+            logFailure("Failed to fetch a player from uuid from the database", e);
         }
         return Optional.empty();
     }
 
     @Override
     public void deleteUser(@NotNull UUID uuid) {
+        markWritten(uuid);
+        userDirectory.remove(uuid);
         try (Connection connection = getConnection()) {
             try (PreparedStatement statement = connection.prepareStatement(format("""
                     DELETE FROM `%position_data%`
@@ -428,7 +455,7 @@ public class MySqlDatabase extends Database {
                 statement.setString(3, uuid.toString());
                 statement.executeUpdate();
             } catch (SQLException e) {
-                plugin.log(Level.SEVERE, "Failed to delete player positions from the database", e);
+                logWriteFailure("Failed to delete player positions from the database", e);
                 return;
             }
 
@@ -438,10 +465,10 @@ public class MySqlDatabase extends Database {
                 statement.setString(1, uuid.toString());
                 statement.executeUpdate();
             } catch (SQLException e) {
-                plugin.log(Level.SEVERE, "Failed to delete a player from the database", e);
+                logWriteFailure("Failed to delete a player from the database", e);
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to delete user data", e);
+            logWriteFailure("Failed to delete user data", e);
         }
     }
 
@@ -463,7 +490,7 @@ public class MySqlDatabase extends Database {
                 }
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to fetch a player's cooldown from the database", e);
+            logFailure("Failed to fetch a player's cooldown from the database", e);
         }
         return Optional.empty();
     }
@@ -482,7 +509,7 @@ public class MySqlDatabase extends Database {
                 statement.executeUpdate();
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to set a player's cooldown in the database", e);
+            logWriteFailure("Failed to set a player's cooldown in the database", e);
         }
     }
 
@@ -498,14 +525,17 @@ public class MySqlDatabase extends Database {
                 statement.executeUpdate();
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to remove a player's cooldown from the database", e);
+            logWriteFailure("Failed to remove a player's cooldown from the database", e);
         }
     }
 
     @Override
-    public List<Home> getHomes(@NotNull User user) {
+    public Optional<List<Home>> loadHomes(@NotNull User user) {
+        if (isUnavailable()) {
+            return Optional.empty();
+        }
         final List<Home> userHomes = new ArrayList<>();
-        try (Connection connection = getConnection()) {
+        try (Connection connection = getReadConnection(user.getUuid())) {
             try (PreparedStatement statement = connection.prepareStatement(format("""
                     SELECT `%home_data%`.`uuid` AS `home_uuid`, `owner_uuid`, `name`, `description`, `tags`,
                         `timestamp`, `x`, `y`, `z`, `yaw`, `pitch`, `world_name`, `world_uuid`, `server_name`, `public`
@@ -541,13 +571,17 @@ public class MySqlDatabase extends Database {
                 }
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to query the database for home data for:" + user.getName());
+            logFailure("Failed to query the database for home data for:" + user.getName(), e);
+            return Optional.empty();
         }
-        return userHomes;
+        return Optional.of(userHomes);
     }
 
     @Override
-    public List<Warp> getWarps() {
+    public Optional<List<Warp>> loadWarps() {
+        if (isUnavailable()) {
+            return Optional.empty();
+        }
         final List<Warp> warps = new ArrayList<>();
         try (Connection connection = getConnection()) {
             try (PreparedStatement statement = connection.prepareStatement(format("""
@@ -578,13 +612,133 @@ public class MySqlDatabase extends Database {
                 }
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to query the database for warp data.");
+            logFailure("Failed to query the database for warp data.", e);
+            return Optional.empty();
+        }
+        return Optional.of(warps);
+    }
+
+    @Override
+    public Optional<List<Warp>> getWarps(@Nullable Warp after, int limit,
+                                         @Nullable String server, @Nullable String world) {
+        if (isUnavailable()) {
+            return Optional.empty();
+        }
+        final List<Warp> warps = new ArrayList<>();
+        try (Connection connection = getReadConnection(null)) {
+            try (PreparedStatement statement = connection.prepareStatement(format("""
+                    SELECT `%warp_data%`.`uuid` AS `warp_uuid`, `name`, `description`, `tags`, `timestamp`,
+                        `x`, `y`, `z`, `yaw`, `pitch`, `world_name`, `world_uuid`, `server_name`
+                    FROM `%warp_data%`
+                    INNER JOIN `%saved_position_data%`
+                        ON `%warp_data%`.`saved_position_id`=`%saved_position_data%`.`id`
+                    INNER JOIN `%position_data%`
+                        ON `%saved_position_data%`.`position_id`=`%position_data%`.`id`
+                    WHERE (`name`>? OR (`name`=? AND `%warp_data%`.`uuid`>?))
+                    {server}
+                    {world}
+                    ORDER BY `name`, `%warp_data%`.`uuid`
+                    LIMIT ?;"""
+                        .replace("{server}", server == null ? "" : "AND `server_name`=?")
+                        .replace("{world}", world == null ? "" : "AND `world_name`=?")))) {
+                int index = 1;
+                statement.setString(index++, after == null ? "" : after.getName());
+                statement.setString(index++, after == null ? "" : after.getName());
+                statement.setString(index++, (after == null ? new UUID(0, 0) : after.getUuid()).toString());
+                if (server != null) {
+                    statement.setString(index++, server);
+                }
+                if (world != null) {
+                    statement.setString(index++, world);
+                }
+                statement.setInt(index, limit);
+
+                final ResultSet resultSet = statement.executeQuery();
+                while (resultSet.next()) {
+                    warps.add(Warp.from(resultSet.getDouble("x"),
+                            resultSet.getDouble("y"),
+                            resultSet.getDouble("z"),
+                            resultSet.getFloat("yaw"),
+                            resultSet.getFloat("pitch"),
+                            World.from(resultSet.getString("world_name"),
+                                    UUID.fromString(resultSet.getString("world_uuid"))),
+                            resultSet.getString("server_name"),
+                            PositionMeta.from(resultSet.getString("name"),
+                                    resultSet.getString("description"),
+                                    resultSet.getTimestamp("timestamp").toInstant(),
+                                    resultSet.getString("tags")),
+                            UUID.fromString(resultSet.getString("warp_uuid"))));
+                }
+            }
+        } catch (SQLException e) {
+            logFailure("Failed to query the database for a page of warp data.", e);
+            return Optional.empty();
+        }
+        return Optional.of(warps);
+    }
+
+    @Override
+    public List<Warp> getWarps(@Nullable Collection<String> names, int offset, int limit) {
+        if (isUnavailable()) {
+            return getCachedPage(getCachedWarps().stream()
+                    .filter(warp -> names == null || names.contains(warp.getName()))
+                    .toList(), offset, limit);
+        }
+        if (names != null && names.isEmpty()) {
+            return List.of();
+        }
+        final List<Warp> warps = new ArrayList<>();
+        try (Connection connection = getReadConnection(null)) {
+            try (PreparedStatement statement = connection.prepareStatement(format("""
+                    SELECT `%warp_data%`.`uuid` AS `warp_uuid`, `name`, `description`, `tags`, `timestamp`,
+                        `x`, `y`, `z`, `yaw`, `pitch`, `world_name`, `world_uuid`, `server_name`
+                    FROM `%warp_data%`
+                    INNER JOIN `%saved_position_data%`
+                        ON `%warp_data%`.`saved_position_id`=`%saved_position_data%`.`id`
+                    INNER JOIN `%position_data%`
+                        ON `%saved_position_data%`.`position_id`=`%position_data%`.`id`
+                    {names}
+                    ORDER BY `name`, `%warp_data%`.`uuid`
+                    LIMIT ? OFFSET ?;"""
+                        .replace("{names}", names == null ? ""
+                                : "WHERE `name` IN (" + getPlaceholders(names.size()) + ")")))) {
+                int index = 1;
+                if (names != null) {
+                    for (String name : names) {
+                        statement.setString(index++, name);
+                    }
+                }
+                statement.setInt(index++, limit);
+                statement.setInt(index, offset);
+
+                final ResultSet resultSet = statement.executeQuery();
+                while (resultSet.next()) {
+                    warps.add(Warp.from(resultSet.getDouble("x"),
+                            resultSet.getDouble("y"),
+                            resultSet.getDouble("z"),
+                            resultSet.getFloat("yaw"),
+                            resultSet.getFloat("pitch"),
+                            World.from(resultSet.getString("world_name"),
+                                    UUID.fromString(resultSet.getString("world_uuid"))),
+                            resultSet.getString("server_name"),
+                            PositionMeta.from(resultSet.getString("name"),
+                                    resultSet.getString("description"),
+                                    resultSet.getTimestamp("timestamp").toInstant(),
+                                    resultSet.getString("tags")),
+                            UUID.fromString(resultSet.getString("warp_uuid"))));
+                }
+            }
+        } catch (SQLException e) {
+            logFailure("Failed to query the database for a page of warp data.", e);
         }
         return warps;
     }
 
     @Override
-    public List<Home> getPublicHomes() {
+    public Optional<List<Home>> loadPublicHomes() {
+        if (isUnavailable()) {
+            return Optional.empty();
+        }
         final List<Home> userHomes = new ArrayList<>();
         try (Connection connection = getConnection()) {
             try (PreparedStatement statement = connection.prepareStatement(format("""
@@ -621,15 +775,225 @@ public class MySqlDatabase extends Database {
                 }
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to query the database for public home data");
+            logFailure("Failed to query the database for public home data", e);
+            return Optional.empty();
+        }
+        return Optional.of(userHomes);
+    }
+
+    @Override
+    public Optional<List<Home>> getPublicHomes(@Nullable Home after, int limit,
+                                               @Nullable String server, @Nullable String world) {
+        if (isUnavailable()) {
+            return Optional.empty();
+        }
+        final List<Home> userHomes = new ArrayList<>();
+        try (Connection connection = getReadConnection(null)) {
+            try (PreparedStatement statement = connection.prepareStatement(format("""
+                    SELECT `%home_data%`.`uuid` AS `home_uuid`, `owner_uuid`, `username` AS `owner_username`, `name`,
+                        `description`, `tags`, `timestamp`, `x`, `y`, `z`, `yaw`, `pitch`, `world_name`, `world_uuid`,
+                        `server_name`, `public`
+                    FROM `%home_data%`
+                    INNER JOIN `%saved_position_data%`
+                        ON `%home_data%`.`saved_position_id`=`%saved_position_data%`.`id`
+                    INNER JOIN `%position_data%`
+                        ON `%saved_position_data%`.`position_id`=`%position_data%`.`id`
+                    INNER JOIN `%player_data%`
+                        ON `%home_data%`.`owner_uuid`=`%player_data%`.`uuid`
+                    WHERE `public`=true
+                    AND (`name`>? OR (`name`=? AND `%home_data%`.`uuid`>?))
+                    {server}
+                    {world}
+                    ORDER BY `name`, `%home_data%`.`uuid`
+                    LIMIT ?;"""
+                        .replace("{server}", server == null ? "" : "AND `server_name`=?")
+                        .replace("{world}", world == null ? "" : "AND `world_name`=?")))) {
+                int index = 1;
+                statement.setString(index++, after == null ? "" : after.getName());
+                statement.setString(index++, after == null ? "" : after.getName());
+                statement.setString(index++, (after == null ? new UUID(0, 0) : after.getUuid()).toString());
+                if (server != null) {
+                    statement.setString(index++, server);
+                }
+                if (world != null) {
+                    statement.setString(index++, world);
+                }
+                statement.setInt(index, limit);
+
+                final ResultSet resultSet = statement.executeQuery();
+                while (resultSet.next()) {
+                    userHomes.add(Home.from(resultSet.getDouble("x"),
+                            resultSet.getDouble("y"),
+                            resultSet.getDouble("z"),
+                            resultSet.getFloat("yaw"),
+                            resultSet.getFloat("pitch"),
+                            World.from(resultSet.getString("world_name"),
+                                    UUID.fromString(resultSet.getString("world_uuid"))),
+                            resultSet.getString("server_name"),
+                            PositionMeta.from(resultSet.getString("name"),
+                                    resultSet.getString("description"),
+                                    resultSet.getTimestamp("timestamp").toInstant(),
+                                    resultSet.getString("tags")),
+                            UUID.fromString(resultSet.getString("home_uuid")),
+                            User.of(UUID.fromString(resultSet.getString("owner_uuid")),
+                                    resultSet.getString("owner_username")),
+                            resultSet.getBoolean("public")));
+                }
+            }
+        } catch (SQLException e) {
+            logFailure("Failed to query the database for a page of public home data", e);
+            return Optional.empty();
+        }
+        return Optional.of(userHomes);
+    }
+
+    @Override
+    public List<Home> getPublicHomes(int offset, int limit) {
+        if (isUnavailable()) {
+            return getCachedPage(getCachedPublicHomes(), offset, limit);
+        }
+        final List<Home> userHomes = new ArrayList<>();
+        try (Connection connection = getReadConnection(null)) {
+            try (PreparedStatement statement = connection.prepareStatement(format("""
+                    SELECT `%home_data%`.`uuid` AS `home_uuid`, `owner_uuid`, `username` AS `owner_username`, `name`,
+                        `description`, `tags`, `timestamp`, `x`, `y`, `z`, `yaw`, `pitch`, `world_name`, `world_uuid`,
+                        `server_name`, `public`
+                    FROM `%home_data%`
+                    INNER JOIN `%saved_position_data%`
+                        ON `%home_data%`.`saved_position_id`=`%saved_position_data%`.`id`
+                    INNER JOIN `%position_data%`
+                        ON `%saved_position_data%`.`position_id`=`%position_data%`.`id`
+                    INNER JOIN `%player_data%`
+                        ON `%home_data%`.`owner_uuid`=`%player_data%`.`uuid`
+                    WHERE `public`=true
+                    ORDER BY `name`, `%home_data%`.`uuid`
+                    LIMIT ? OFFSET ?;"""))) {
+                statement.setInt(1, limit);
+                statement.setInt(2, offset);
+
+                final ResultSet resultSet = statement.executeQuery();
+                while (resultSet.next()) {
+                    userHomes.add(Home.from(resultSet.getDouble("x"),
+                            resultSet.getDouble("y"),
+                            resultSet.getDouble("z"),
+                            resultSet.getFloat("yaw"),
+                            resultSet.getFloat("pitch"),
+                            World.from(resultSet.getString("world_name"),
+                                    UUID.fromString(resultSet.getString("world_uuid"))),
+                            resultSet.getString("server_name"),
+                            PositionMeta.from(resultSet.getString("name"),
+                                    resultSet.getString("description"),
+                                    resultSet.getTimestamp("timestamp").toInstant(),
+                                    resultSet.getString("tags")),
+                            UUID.fromString(resultSet.getString("home_uuid")),
+                            User.of(UUID.fromString(resultSet.getString("owner_uuid")),
+                                    resultSet.getString("owner_username")),
+                            resultSet.getBoolean("public")));
+                }
+            }
+        } catch (SQLException e) {
+            logFailure("Failed to query the database for a page of public home data", e);
         }
         return userHomes;
     }
 
+    @Override
+    public Optional<List<Home>> getHomes(@Nullable Home after, int limit) {
+        if (isUnavailable()) {
+            return Optional.empty();
+        }
+        final List<Home> homes = new ArrayList<>();
+        try (Connection connection = getReadConnection(null)) {
+            try (PreparedStatement statement = connection.prepareStatement(format("""
+                    SELECT `%home_data%`.`uuid` AS `home_uuid`, `owner_uuid`, `username` AS `owner_username`, `name`,
+                        `description`, `tags`, `timestamp`, `x`, `y`, `z`, `yaw`, `pitch`, `world_name`, `world_uuid`,
+                        `server_name`, `public`
+                    FROM `%home_data%`
+                    INNER JOIN `%saved_position_data%`
+                        ON `%home_data%`.`saved_position_id`=`%saved_position_data%`.`id`
+                    INNER JOIN `%position_data%`
+                        ON `%saved_position_data%`.`position_id`=`%position_data%`.`id`
+                    INNER JOIN `%player_data%`
+                        ON `%home_data%`.`owner_uuid`=`%player_data%`.`uuid`
+                    WHERE `%home_data%`.`uuid`>?
+                    ORDER BY `%home_data%`.`uuid`
+                    LIMIT ?;"""))) {
+                statement.setString(1, (after == null ? new UUID(0, 0) : after.getUuid()).toString());
+                statement.setInt(2, limit);
+
+                final ResultSet resultSet = statement.executeQuery();
+                while (resultSet.next()) {
+                    homes.add(Home.from(resultSet.getDouble("x"),
+                            resultSet.getDouble("y"),
+                            resultSet.getDouble("z"),
+                            resultSet.getFloat("yaw"),
+                            resultSet.getFloat("pitch"),
+                            World.from(resultSet.getString("world_name"),
+                                    UUID.fromString(resultSet.getString("world_uuid"))),
+                            resultSet.getString("server_name"),
+                            PositionMeta.from(resultSet.getString("name"),
+                                    resultSet.getString("description"),
+                                    resultSet.getTimestamp("timestamp").toInstant(),
+                                    resultSet.getString("tags")),
+                            UUID.fromString(resultSet.getString("home_uuid")),
+                            User.of(UUID.fromString(resultSet.getString("owner_uuid")),
+                                    resultSet.getString("owner_username")),
+                            resultSet.getBoolean("public")));
+                }
+            }
+        } catch (SQLException e) {
+            logFailure("Failed to query the database for a page of home data", e);
+            return Optional.empty();
+        }
+        return Optional.of(homes);
+    }
+
+    @Override
+    public Optional<List<UserPositions>> getUsersWithPositions(@Nullable SavedUser after, int limit) {
+        if (isUnavailable()) {
+            return Optional.empty();
+        }
+        final List<UserPositions> users = new ArrayList<>();
+        try (Connection connection = getReadConnection(null)) {
+            try (PreparedStatement statement = connection.prepareStatement(format("""
+                    SELECT `%player_data%`.`uuid`, `username`, `home_slots`, `ignoring_requests`, {positions}
+                    FROM `%player_data%`
+                    LEFT JOIN `%position_data%` `last` ON `%player_data%`.`last_position`=`last`.`id`
+                    LEFT JOIN `%position_data%` `offline` ON `%player_data%`.`offline_position`=`offline`.`id`
+                    LEFT JOIN `%position_data%` `respawn` ON `%player_data%`.`respawn_position`=`respawn`.`id`
+                    WHERE `%player_data%`.`uuid`>?
+                    ORDER BY `%player_data%`.`uuid`
+                    LIMIT ?;"""
+                        .replace("{positions}", getUserPositionColumns('`'))))) {
+                statement.setString(1, (after == null ? new UUID(0, 0) : after.getUserUuid()).toString());
+                statement.setInt(2, limit);
+
+                final ResultSet resultSet = statement.executeQuery();
+                while (resultSet.next()) {
+                    users.add(readUserPositions(resultSet, new SavedUser(
+                            User.of(UUID.fromString(resultSet.getString("uuid")),
+                                    resultSet.getString("username")),
+                            resultSet.getInt("home_slots"),
+                            resultSet.getBoolean("ignoring_requests")
+                    )));
+                }
+            }
+        } catch (SQLException e) {
+            logFailure("Failed to query the database for a page of user data", e);
+            return Optional.empty();
+        }
+        return Optional.of(users);
+    }
+
     @Override
     public List<Home> getPublicHomes(@NotNull String name, boolean caseInsensitive) {
+        if (isUnavailable()) {
+            return getCachedPublicHomes().stream()
+                    .filter(home -> isNamed(home, name, caseInsensitive))
+                    .toList();
+        }
         final List<Home> userHomes = new ArrayList<>();
-        try (Connection connection = getConnection()) {
+        try (Connection connection = getReadConnection(null)) {
             try (PreparedStatement statement = connection.prepareStatement(format("""
                     SELECT `%home_data%`.`uuid` AS `home_uuid`, `owner_uuid`, `username` AS `owner_username`, `name`,
                         `description`, `tags`, `timestamp`, `x`, `y`, `z`, `yaw`, `pitch`, `world_name`, `world_uuid`,
@@ -669,14 +1033,19 @@ public class MySqlDatabase extends Database {
                 }
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to query the database for public home data");
+            logFailure("Failed to query the database for public home data", e);
         }
         return userHomes;
     }
 
     @Override
     public Optional<Home> getHome(@NotNull User user, @NotNull String homeName, boolean caseInsensitive) {
-        try (Connection connection = getConnection()) {
+        if (isUnavailable()) {
+            return getCachedHomes(user).stream()
+                    .filter(home -> isNamed(home, homeName, caseInsensitive))
+                    .findFirst();
+        }
+        try (Connection connection = getReadConnection(user.getUuid())) {
             try (PreparedStatement statement = connection.prepareStatement(format("""
                     SELECT `%home_data%`.`uuid` AS `home_uuid`, `owner_uuid`, `username` AS `owner_username`,
                         `name`, `description`, `tags`, `timestamp`, `x`, `y`, `z`, `yaw`, `pitch`, `world_name`,
@@ -715,13 +1084,16 @@ public class MySqlDatabase extends Database {
                 }
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to query a player's home", e);
+            logFailure("Failed to query a player's home", e);
         }
         return Optional.empty();
     }
 
     @Override
     public Optional<Home> getHome(@NotNull UUID uuid) {
+        if (isUnavailable()) {
+            return getCachedHome(uuid);
+        }
         try (Connection connection = getConnection()) {
             try (PreparedStatement statement = connection.prepareStatement(format("""
                     SELECT `%home_data%`.`uuid` AS `home_uuid`, `owner_uuid`, `username` AS `owner_username`,
@@ -758,14 +1130,71 @@ public class MySqlDatabase extends Database {
                 }
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to query a player's home by uuid", e);
+            logFailure("Failed to query a player's home by uuid", e);
         }
         return Optional.empty();
     }
 
     @Override
-    public Optional<Warp> getWarp(@NotNull String warpName, boolean caseInsensitive) {
+    public Optional<List<Home>> getHomes(@NotNull Collection<UUID> uuids) {
+        if (isUnavailable()) {
+            return Optional.empty();
+        }
+        final List<Home> homes = new ArrayList<>();
         try (Connection connection = getConnection()) {
+            for (List<UUID> chunk : Lists.partition(List.copyOf(uuids), PAGE_SIZE)) {
+                try (PreparedStatement statement = connection.prepareStatement(format("""
+                        SELECT `%home_data%`.`uuid` AS `home_uuid`, `owner_uuid`, `username` AS `owner_username`,
+                            `name`, `description`, `tags`, `timestamp`, `x`, `y`, `z`, `yaw`, `pitch`, `world_name`,
+                            `world_uuid`, `server_name`, `public`
+                        FROM `%home_data%`
+                        INNER JOIN `%saved_position_data%`
+                            ON `%home_data%`.`saved_position_id`=`%saved_position_data%`.`id`
+                        INNER JOIN `%position_data%`
+                            ON `%saved_position_data%`.`position_id`=`%position_data%`.`id`
+                        INNER JOIN `%player_data%`
+                            ON `%home_data%`.`owner_uuid`=`%player_data%`.`uuid`
+                        WHERE `%home_data%`.`uuid` IN (""" + getPlaceholders(chunk.size()) + ");"))) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        statement.setString(i + 1, chunk.get(i).toString());
+                    }
+
+                    final ResultSet resultSet = statement.executeQuery();
+                    while (resultSet.next()) {
+                        homes.add(Home.from(resultSet.getDouble("x"),
+                                resultSet.getDouble("y"),
+                                resultSet.getDouble("z"),
+                                resultSet.getFloat("yaw"),
+                                resultSet.getFloat("pitch"),
+                                World.from(resultSet.getString("world_name"),
+                                        UUID.fromString(resultSet.getString("world_uuid"))),
+                                resultSet.getString("server_name"),
+                                PositionMeta.from(resultSet.getString("name"),
+                                        resultSet.getString("description"),
+                                        resultSet.getTimestamp("timestamp").toInstant(),
+                                        resultSet.getString("tags")),
+                                UUID.fromString(resultSet.getString("home_uuid")),
+                                User.of(UUID.fromString(resultSet.getString("owner_uuid")),
+                                        resultSet.getString("owner_username")),
+                                resultSet.getBoolean("public")));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            logFailure("Failed to query homes by uuid", e);
+            return Optional.empty();
+        }
+        return Optional.of(homes);
+    }
+
+    @Override
+    public Optional<Warp> getWarp(@NotNull String warpName, boolean caseInsensitive) {
+        if (isUnavailable()) {
+            return getCachedWarps().stream()
+                    .filter(warp -> isNamed(warp, warpName, caseInsensitive))
+                    .findFirst();
+        }
+        try (Connection connection = getReadConnection(null)) {
             try (PreparedStatement statement = connection.prepareStatement(format("""
                     SELECT `%warp_data%`.`uuid` AS `warp_uuid`, `name`, `description`, `tags`, `timestamp`,
                         `x`, `y`, `z`, `yaw`, `pitch`, `world_name`, `world_uuid`, `server_name`
@@ -797,13 +1226,18 @@ public class MySqlDatabase extends Database {
                 }
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to query a server warp", e);
+            logFailure("Failed to query a server warp", e);
         }
         return Optional.empty();
     }
 
     @Override
     public Optional<Warp> getWarp(@NotNull UUID uuid) {
+        if (isUnavailable()) {
+            return getCachedWarps().stream()
+                    .filter(warp -> warp.getUuid().equals(uuid))
+                    .findFirst();
+        }
         try (Connection connection = getConnection()) {
             try (PreparedStatement statement = connection.prepareStatement(format("""
                     SELECT `%warp_data%`.`uuid` AS `warp_uuid`, `name`, `description`, `tags`, `timestamp`,
@@ -834,11 +1268,57 @@ public class MySqlDatabase extends Database {
                 }
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to query a server warp", e);
+            logFailure("Failed to query a server warp", e);
         }
         return Optional.empty();
     }
 
+    @Override
+    public Optional<List<Warp>> getWarps(@NotNull Collection<UUID> uuids) {
+        if (isUnavailable()) {
+            return Optional.empty();
+        }
+        final List<Warp> warps = new ArrayList<>();
+        try (Connection connection = getConnection()) {
+            for (List<UUID> chunk : Lists.partition(List.copyOf(uuids), PAGE_SIZE)) {
+                try (PreparedStatement statement = connection.prepareStatement(format("""
+                        SELECT `%warp_data%`.`uuid` AS `warp_uuid`, `name`, `description`, `tags`, `timestamp`,
+                            `x`, `y`, `z`, `yaw`, `pitch`, `world_name`, `world_uuid`, `server_name`
+                        FROM `%warp_data%`
+                        INNER JOIN `%saved_position_data%`
+                            ON `%warp_data%`.`saved_position_id`=`%saved_position_data%`.`id`
+                        INNER JOIN `%position_data%`
+                            ON `%saved_position_data%`.`position_id`=`%position_data%`.`id`
+                        WHERE `%warp_data%`.uuid IN (""" + getPlaceholders(chunk.size()) + ");"))) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        statement.setString(i + 1, chunk.get(i).toString());
+                    }
+
+                    final ResultSet resultSet = statement.executeQuery();
+                    while (resultSet.next()) {
+                        warps.add(Warp.from(resultSet.getDouble("x"),
+                                resultSet.getDouble("y"),
+                                resultSet.getDouble("z"),
+                                resultSet.getFloat("yaw"),
+                                resultSet.getFloat("pitch"),
+                                World.from(resultSet.getString("world_name"),
+                                        UUID.fromString(resultSet.getString("world_uuid"))),
+                                resultSet.getString("server_name"),
+                                PositionMeta.from(resultSet.getString("name"),
+                                        resultSet.getString("description"),
+                                        resultSet.getTimestamp("timestamp").toInstant(),
+                                        resultSet.getString("tags")),
+                                UUID.fromString(resultSet.getString("warp_uuid"))));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            logFailure("Failed to query warps by uuid", e);
+            return Optional.empty();
+        }
+        return Optional.of(warps);
+    }
+
     @Override
     public Optional<Teleport> getCurrentTeleport(@NotNull OnlineUser onlineUser) {
         try (Connection connection = getConnection()) {
@@ -868,7 +1348,7 @@ public class MySqlDatabase extends Database {
                 }
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to query the current teleport of " + onlineUser.getName(), e);
+            logFailure("Failed to query the current teleport of " + onlineUser.getName(), e);
         } catch (TeleportationException e) {
             e.displayMessage(onlineUser);
         }
@@ -877,6 +1357,7 @@ public class MySqlDatabase extends Database {
 
     @Override
     public void updateUserData(@NotNull SavedUser savedUser) {
+        markWritten(savedUser.getUserUuid());
         try (Connection connection = getConnection()) {
             try (PreparedStatement statement = connection.prepareStatement(format("""
                     UPDATE `%player_data%`
@@ -889,7 +1370,7 @@ public class MySqlDatabase extends Database {
                 statement.executeUpdate();
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to update user data for " + savedUser.getUsername(), e);
+            logWriteFailure("Failed to update user data for " + savedUser.getUsername(), e);
         }
     }
 
@@ -924,13 +1405,13 @@ public class MySqlDatabase extends Database {
                 }
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to clear the current teleport of " + user.getName(), e);
+            logFailure("Failed to clear the current teleport of " + user.getName(), e);
         }
     }
 
     @Override
     public Optional<Position> getLastPosition(@NotNull User user) {
-        try (Connection connection = getConnection()) {
+        try (Connection connection = getReadConnection(user.getUuid())) {
             try (PreparedStatement statement = connection.prepareStatement(format("""
                     SELECT `x`, `y`, `z`, `yaw`, `pitch`, `world_name`, `world_uuid`, `server_name`
                     FROM `%player_data%`
@@ -951,13 +1432,17 @@ public class MySqlDatabase extends Database {
                 }
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to query the last teleport position of " + user.getName(), e);
+            logFailure("Failed to query the last teleport position of " + user.getName(), e);
         }
         return Optional.empty();
     }
 
     @Override
     public void setLastPosition(@NotNull User user, @NotNull Position position) {
+        if (journal(PositionJournal.Type.LAST, user, position)) {
+            return;
+        }
+        markWritten(user.getUuid());
         try (Connection connection = getConnection()) {
             try (PreparedStatement queryStatement = connection.prepareStatement(format("""
                     SELECT `last_position`
@@ -983,13 +1468,13 @@ public class MySqlDatabase extends Database {
                 }
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to set the last position of " + user.getName(), e);
+            logWriteFailure("Failed to set the last position of " + user.getName(), e);
         }
     }
 
     @Override
     public Optional<Position> getOfflinePosition(@NotNull User user) {
-        try (Connection connection = getConnection()) {
+        try (Connection connection = getReadConnection(user.getUuid())) {
             try (PreparedStatement statement = connection.prepareStatement(format("""
                     SELECT `x`, `y`, `z`, `yaw`, `pitch`, `world_name`, `world_uuid`, `server_name`
                     FROM `%player_data%`
@@ -1010,13 +1495,17 @@ public class MySqlDatabase extends Database {
                 }
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to query the offline position of " + user.getName(), e);
+            logFailure("Failed to query the offline position of " + user.getName(), e);
         }
         return Optional.empty();
     }
 
     @Override
     public void setOfflinePosition(@NotNull User user, @NotNull Position position) {
+        if (journal(PositionJournal.Type.OFFLINE, user, position)) {
+            return;
+        }
+        markWritten(user.getUuid());
         try (Connection connection = getConnection()) {
             try (PreparedStatement queryStatement = connection.prepareStatement(format("""
                     SELECT `offline_position` FROM `%player_data%`
@@ -1041,13 +1530,13 @@ public class MySqlDatabase extends Database {
                 }
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to set the offline position of " + user.getName(), e);
+            logWriteFailure("Failed to set the offline position of " + user.getName(), e);
         }
     }
 
     @Override
     public Optional<Position> getRespawnPosition(@NotNull User user) {
-        try (Connection connection = getConnection()) {
+        try (Connection connection = getReadConnection(user.getUuid())) {
             try (PreparedStatement statement = connection.prepareStatement(format("""
                     SELECT `x`, `y`, `z`, `yaw`, `pitch`, `world_name`, `world_uuid`, `server_name`
                     FROM `%player_data%`
@@ -1068,13 +1557,17 @@ public class MySqlDatabase extends Database {
                 }
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to query the respawn position of " + user.getName(), e);
+            logFailure("Failed to query the respawn position of " + user.getName(), e);
         }
         return Optional.empty();
     }
 
     @Override
     public void setRespawnPosition(@NotNull User user, @Nullable Position position) {
+        if (journal(PositionJournal.Type.RESPAWN, user, position)) {
+            return;
+        }
+        markWritten(user.getUuid());
         try (Connection connection = getConnection()) {
             try (PreparedStatement queryStatement = connection.prepareStatement(format("""
                     SELECT `respawn_position` FROM `%player_data%`
@@ -1115,12 +1608,14 @@ public class MySqlDatabase extends Database {
                 }
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to set the respawn position of " + user.getName(), e);
+            logWriteFailure("Failed to set the respawn position of " + user.getName(), e);
         }
     }
 
     @Override
     public void saveHome(@NotNull Home home) {
+        markWritten(home.getOwner().getUuid());
+        markWritten(null);
         getHome(home.getUuid()).ifPresentOrElse(presentHome -> {
             try (Connection connection = getConnection()) {
                 // Update the home's saved position, including metadata
@@ -1145,8 +1640,7 @@ public class MySqlDatabase extends Database {
                     statement.executeUpdate();
                 }
             } catch (SQLException e) {
-                plugin.log(Level.SEVERE,
-                        "Failed to update a home in the database for " + home.getOwner().getName(), e);
+                logWriteFailure("Failed to update a home in the database for " + home.getOwner().getName(), e);
             }
         }, () -> {
             try (Connection connection = getConnection()) {
@@ -1161,14 +1655,14 @@ public class MySqlDatabase extends Database {
                     statement.executeUpdate();
                 }
             } catch (SQLException e) {
-                plugin.log(Level.SEVERE,
-                        "Failed to set a home to the database for " + home.getOwner().getName(), e);
+                logWriteFailure("Failed to set a home to the database for " + home.getOwner().getName(), e);
             }
         });
     }
 
     @Override
     public void saveWarp(@NotNull Warp warp) {
+        markWritten(null);
         getWarp(warp.getUuid()).ifPresentOrElse(presentWarp -> {
             try (Connection connection = getConnection()) {
                 try (PreparedStatement statement = connection.prepareStatement(format("""
@@ -1182,7 +1676,7 @@ public class MySqlDatabase extends Database {
                     }
                 }
             } catch (SQLException e) {
-                plugin.log(Level.SEVERE, "Failed to update a warp in the database", e);
+                logWriteFailure("Failed to update a warp in the database", e);
             }
         }, () -> {
             try (Connection connection = getConnection()) {
@@ -1195,13 +1689,14 @@ public class MySqlDatabase extends Database {
                     statement.executeUpdate();
                 }
             } catch (SQLException e) {
-                plugin.log(Level.SEVERE, "Failed to add a warp to the database", e);
+                logWriteFailure("Failed to add a warp to the database", e);
             }
         });
     }
 
     @Override
     public void deleteHome(@NotNull UUID uuid) {
+        markWritten(null);
         try (Connection connection = getConnection()) {
             try (PreparedStatement statement = connection.prepareStatement(format("""
                     DELETE FROM `%position_data%`
@@ -1219,12 +1714,14 @@ public class MySqlDatabase extends Database {
                 statement.executeUpdate();
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to delete a home from the database", e);
+            logWriteFailure("Failed to delete a home from the database", e);
         }
     }
 
     @Override
     public int deleteAllHomes(@NotNull User user) {
+        markWritten(user.getUuid());
+        markWritten(null);
         try (Connection connection = getConnection()) {
             try (PreparedStatement statement = connection.prepareStatement(format("""
                     DELETE FROM `%position_data%`
@@ -1242,25 +1739,24 @@ public class MySqlDatabase extends Database {
                 return statement.executeUpdate();
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to delete all homes for " + user.getName() + " from the database", e);
+            logWriteFailure("Failed to delete all homes for " + user.getName() + " from the database", e);
         }
         return 0;
     }
 
     @Override
     public int deleteAllHomes(@NotNull String worldName, @NotNull String serverName) {
+        markWritten(null);
         try (Connection connection = getConnection()) {
             try (PreparedStatement statement = connection.prepareStatement(format("""
                     DELETE FROM `%position_data%`
-                    WHERE `%position_data%`.`id` IN (
+                    WHERE `world_name`=?
+                    AND `server_name`=?
+                    AND `%position_data%`.`id` IN (
                         SELECT `position_id`
                         FROM `%saved_position_data%`
-                        WHERE `%saved_position_data%`.`id` IN (
-                            SELECT `saved_position_id`
-                            FROM `%home_data%`
-                            WHERE `world_name`=?
-                            AND `server_name`=?
-                        )
+                        INNER JOIN `%home_data%`
+                            ON `%home_data%`.`saved_position_id`=`%saved_position_data%`.`id`
                     );"""))) {
                 statement.setString(1, worldName);
                 statement.setString(2, serverName);
@@ -1268,7 +1764,7 @@ public class MySqlDatabase extends Database {
                 return statement.executeUpdate();
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to delete homes in the world " + worldName + " on the server "
+            logWriteFailure("Failed to delete homes in the world " + worldName + " on the server "
                                      + serverName + " from the database", e);
         }
         return 0;
@@ -1276,6 +1772,7 @@ public class MySqlDatabase extends Database {
 
     @Override
     public void deleteWarp(@NotNull UUID uuid) {
+        markWritten(null);
         try (Connection connection = getConnection()) {
             try (PreparedStatement statement = connection.prepareStatement(format("""
                     DELETE FROM `%position_data%`
@@ -1293,12 +1790,13 @@ public class MySqlDatabase extends Database {
                 statement.executeUpdate();
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to delete a warp from the database", e);
+            logWriteFailure("Failed to delete a warp from the database", e);
         }
     }
 
     @Override
     public int deleteAllWarps() {
+        markWritten(null);
         try (Connection connection = getConnection()) {
             try (PreparedStatement statement = connection.prepareStatement(format("""
                     DELETE FROM `%position_data%`
@@ -1313,25 +1811,24 @@ public class MySqlDatabase extends Database {
                 return statement.executeUpdate();
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to delete all warps from the database", e);
+            logWriteFailure("Failed to delete all warps from the database", e);
         }
         return 0;
     }
 
     @Override
     public int deleteAllWarps(@NotNull String worldName, @NotNull String serverName) {
+        markWritten(null);
         try (Connection connection = getConnection()) {
             try (PreparedStatement statement = connection.prepareStatement(format("""
                     DELETE FROM `%position_data%`
-                    WHERE `%position_data%`.`id` IN (
+                    WHERE `world_name`=?
+                    AND `server_name`=?
+                    AND `%position_data%`.`id` IN (
                         SELECT `position_id`
                         FROM `%saved_position_data%`
-                        WHERE `%saved_position_data%`.`id` IN (
-                            SELECT `saved_position_id`
-                            FROM `%warp_data%`
-                            WHERE `world_name`=?
-                            AND `server_name`=?
-                        )
+                        INNER JOIN `%warp_data%`
+                            ON `%warp_data%`.`saved_position_id`=`%saved_position_data%`.`id`
                     );"""))) {
                 statement.setString(1, worldName);
                 statement.setString(2, serverName);
@@ -1339,14 +1836,92 @@ public class MySqlDatabase extends Database {
                 return statement.executeUpdate();
             }
         } catch (SQLException e) {
-            plugin.log(Level.SEVERE, "Failed to delete warps in the world " + worldName + " on the server "
+            logWriteFailure("Failed to delete warps in the world " + worldName + " on the server "
                                      + serverName + " from the database", e);
         }
         return 0;
     }
 
+    @Override
+    public long getHomeCount(@NotNull UUID owner, boolean publicOnly) {
+        try (Connection connection = getReadConnection(owner)) {
+            try (PreparedStatement statement = connection.prepareStatement(format("""
+                    SELECT COUNT(*)
+                    FROM `%home_data%`
+                    WHERE `owner_uuid`=?
+                    AND (? OR `public`=true);"""))) {
+                statement.setString(1, owner.toString());
+                statement.setBoolean(2, !publicOnly);
+
+                final ResultSet resultSet = statement.executeQuery();
+                if (resultSet.next()) {
+                    return resultSet.getLong(1);
+                }
+            }
+        } catch (SQLException e) {
+            logFailure("Failed to query the database for the home count of: " + owner, e);
+        }
+        return 0;
+    }
+
+    @Override
+    public Map<String, Long> getHomeCountsByWorld(@Nullable String server, boolean publicOnly) {
+        return countSavedPositions(true, "world_name", server, publicOnly);
+    }
+
+    @Override
+    public Map<String, Long> getWarpCountsByWorld(@Nullable String server) {
+        return countSavedPositions(false, "world_name", server, false);
+    }
+
+    @Override
+    public Map<String, Long> getHomeCountsByServer(boolean publicOnly) {
+        return countSavedPositions(true, "server_name", null, publicOnly);
+    }
+
+    @Override
+    public Map<String, Long> getWarpCountsByServer() {
+        return countSavedPositions(false, "server_name", null, false);
+    }
+
+    // Count homes or warps, grouped by a column of the position table
+    @NotNull
+    private Map<String, Long> countSavedPositions(boolean homes, @NotNull String column,
+                                                  @Nullable String server, boolean publicOnly) {
+        final Map<String, Long> counts = new TreeMap<>();
+        try (Connection connection = getReadConnection(null)) {
+            try (PreparedStatement statement = connection.prepareStatement(format("""
+                    SELECT `%position_data%`.`{column}`, COUNT(*)
+                    FROM `{table}`
+                    INNER JOIN `%saved_position_data%`
+                        ON `{table}`.`saved_position_id`=`%saved_position_data%`.`id`
+                    INNER JOIN `%position_data%`
+                        ON `%saved_position_data%`.`position_id`=`%position_data%`.`id`
+                    WHERE (? OR `server_name`=?)
+                    AND {public}
+                    GROUP BY `%position_data%`.`{column}`;"""
+                    .replace("{column}", column)
+                    .replace("{table}", homes ? "%home_data%" : "%warp_data%")
+                    .replace("{public}", homes && publicOnly ? "`public`=true" : "true")))) {
+                statement.setBoolean(1, server == null);
+                statement.setString(2, server == null ? "" : server);
+
+                final ResultSet resultSet = statement.executeQuery();
+                while (resultSet.next()) {
+                    counts.merge(resultSet.getString(1), resultSet.getLong(2), Long::sum);
+                }
+            }
+        } catch (SQLException e) {
+            logFailure("Failed to query the database for saved position counts", e);
+        }
+        return counts;
+    }
+
     @Override
     public void close() {
+        if (readReplica != null) {
+            readReplica.close();
+        }
         if (dataSource != null) {
             if (!dataSource.isClosed()) {
                 dataSource.close();
@@ -0,0 +1,138 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.database;
+
+import net.william278.huskhomes.position.Position;
+import net.william278.huskhomes.user.User;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.UUID;
+
+/**
+ * A bounded journal of position updates held while the database is unavailable, to be replayed once it recovers.
+ *
+ * <p>Only the latest update of each type is kept per user. Once full, the oldest updates are dropped. While held
+ * updates are being replayed, new updates are held too, so an older update can't overwrite them.
+ */
+final class PositionJournal {
+
+    private final int capacity;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>();
+    private int dropped;
+    @Nullable
+    private Thread replayer;
+
+    PositionJournal(int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    synchronized void add(@NotNull Type type, @NotNull User user, @Nullable Position position) {
+        final Key key = new Key(type, user.getUuid());
+        entries.remove(key);
+        entries.put(key, new Entry(type, User.of(user.getUuid(), user.getName()), position));
+        if (entries.size() > capacity) {
+            final Iterator<Entry> eldest = entries.values().iterator();
+            eldest.next();
+            eldest.remove();
+            dropped++;
+        }
+    }
+
+    /**
+     * Hold an update if the database is unavailable, or if held updates are being replayed by another thread.
+     *
+     * @param unavailable whether the database is unavailable
+     * @param type        the type of position
+     * @param user        the user the position is for
+     * @param position    the position, or {@code null} to clear it
+     * @return {@code true} if the update was held, {@code false} if it should be written now
+     */
+    synchronized boolean hold(boolean unavailable, @NotNull Type type, @NotNull User user,
+                              @Nullable Position position) {
+        if (!unavailable && (replayer == null || replayer == Thread.currentThread())) {
+            return false;
+        }
+        add(type, user, position);
+        return true;
+    }
+
+    /**
+     * Start replaying held updates on the current thread.
+     *
+     * @return {@code false} if another thread is already replaying them
+     */
+    synchronized boolean startReplay() {
+        if (replayer != null) {
+            return false;
+        }
+        replayer = Thread.currentThread();
+        return true;
+    }
+
+    /**
+     * Remove the oldest held update to replay. Replaying finishes once none are left, or if the database is
+     * unavailable again.
+     *
+     * @param unavailable whether the database is unavailable
+     * @return the update, or {@code null} if replaying has finished
+     */
+    @Nullable
+    synchronized Entry poll(boolean unavailable) {
+        if (unavailable || entries.isEmpty()) {
+            replayer = null;
+            return null;
+        }
+        final Iterator<Entry> eldest = entries.values().iterator();
+        final Entry entry = eldest.next();
+        eldest.remove();
+        return entry;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Get the number of updates dropped since the last call, as the journal was full.
+     *
+     * @return the number of dropped updates
+     */
+    synchronized int takeDropped() {
+        final int count = dropped;
+        dropped = 0;
+        return count;
+    }
+
+    enum Type {
+        LAST,
+        OFFLINE,
+        RESPAWN
+    }
+
+    private record Key(@NotNull Type type, @NotNull UUID user) {
+    }
+
+    record Entry(@NotNull Type type, @NotNull User user, @Nullable Position position) {
+    }
+
+}
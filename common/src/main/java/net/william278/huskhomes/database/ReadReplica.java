@@ -0,0 +1,131 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.database;
+
+import com.zaxxer.hikari.HikariDataSource;
+import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.config.Settings.DatabaseSettings.ReadReplicaOptions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Routes read-only queries to a read replica of the main database.
+ *
+ * <p>Reads of a user's data are kept on the main database for a short window after that data is written, and the
+ * same goes for shared data (warps and public homes), so changes are seen straight away despite replication lag.
+ * Writes that aren't attributed to a user, such as deleting a home by its ID or every home in a world, may have changed
+ * any user's data, so they keep reads of all data on the main database for the window. If the replica can't be
+ * reached, reads fall back to the main database for a while before it is tried again.
+ */
+final class ReadReplica {
+
+    // Don't hold up reads for long waiting on a replica that is down
+    private static final long CONNECTION_TIMEOUT = 3000;
+    // Recent writes are pruned once this many users are tracked
+    private static final int PRUNE_THRESHOLD = 256;
+
+    private final HuskHomes plugin;
+    private final HikariDataSource dataSource;
+    private final long window;
+    private final long retryAfter;
+    private final Map<UUID, Long> userWrites = new ConcurrentHashMap<>();
+    private volatile long sharedWrite;
+    private volatile long unavailableUntil;
+
+    ReadReplica(@NotNull HuskHomes plugin, @NotNull HikariDataSource dataSource,
+                @NotNull ReadReplicaOptions options) {
+        this.plugin = plugin;
+        this.dataSource = dataSource;
+        this.window = TimeUnit.SECONDS.toNanos(Math.max(0, options.getReadYourWritesWindow()));
+        this.retryAfter = TimeUnit.SECONDS.toNanos(Math.max(1, options.getRetryAfter()));
+        this.dataSource.setReadOnly(true);
+        this.dataSource.setConnectionTimeout(Math.min(dataSource.getConnectionTimeout(), CONNECTION_TIMEOUT));
+
+        final long now = System.nanoTime();
+        this.sharedWrite = now - window;
+        this.unavailableUntil = now;
+    }
+
+    /**
+     * Get a replica connection for a read, if it should be served by the replica.
+     *
+     * @param user the user whose data is being read, or {@code null} if reading shared data
+     * @return the connection, or empty if the read should go to the main database
+     */
+    Optional<Connection> getConnection(@Nullable UUID user) {
+        final long now = System.nanoTime();
+        if (now - unavailableUntil < 0 || isRecentlyWritten(user, now)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(dataSource.getConnection());
+        } catch (SQLException e) {
+            unavailableUntil = System.nanoTime() + retryAfter;
+            plugin.log(Level.WARNING, "Failed to connect to the database read replica; using the main database "
+                                      + "for reads for the next " + TimeUnit.NANOSECONDS.toSeconds(retryAfter)
+                                      + " seconds", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Note that data has been written, so reads of it are kept on the main database for a while.
+     *
+     * @param user the user whose data was written, or {@code null} if shared data, or data of any user, was written
+     */
+    void markWritten(@Nullable UUID user) {
+        final long now = System.nanoTime();
+        if (user == null) {
+            sharedWrite = now;
+            return;
+        }
+        userWrites.put(user, now);
+        if (userWrites.size() > PRUNE_THRESHOLD) {
+            userWrites.values().removeIf(written -> now - written >= window);
+        }
+    }
+
+    private boolean isRecentlyWritten(@Nullable UUID user, long now) {
+        if (now - sharedWrite < window) {
+            return true;
+        }
+        if (user == null) {
+            return false;
+        }
+        final Long written = userWrites.get(user);
+        return written != null && now - written < window;
+    }
+
+    void close() {
+        if (!dataSource.isClosed()) {
+            dataSource.close();
+        }
+    }
+
+}
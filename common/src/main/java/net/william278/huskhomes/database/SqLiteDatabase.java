@@ -19,6 +19,7 @@
 
 package net.william278.huskhomes.database;
 
+import com.google.common.collect.Lists;
 import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.position.*;
 import net.william278.huskhomes.teleport.Teleport;
@@ -65,11 +66,22 @@ public class SqLiteDatabase extends Database {
     }
 
     @NotNull
-    private Connection getConnection() throws SQLException {
+    @Override
+    protected Connection getConnection() throws SQLException {
         if (connection == null || connection.isClosed()) {
             setConnection();
         }
-        return connection;
+        return instrument(connection);
+    }
+
+    // Other tasks share the persistent connection, so open a separate one
+    @NotNull
+    @Override
+    protected Connection getDedicatedConnection() throws SQLException {
+        if (connection == null || connection.isClosed()) {
+            setConnection();
+        }
+        return instrument(DriverManager.getConnection(getUrl(), getConfig().toProperties()));
     }
 
     private void setConnection() {
@@ -82,17 +94,8 @@ public class SqLiteDatabase extends Database {
             // Specify use of the JDBC SQLite driver for legacy compatibility
             Class.forName("org.sqlite.JDBC");
 
-            // Set SQLite database properties
-            SQLiteConfig config = new SQLiteConfig();
-            config.enforceForeignKeys(true);
-            config.setEncoding(SQLiteConfig.Encoding.UTF8);
-            config.setSynchronous(SQLiteConfig.SynchronousMode.FULL);
-
             // Establish the connection
-            connection = DriverManager.getConnection(
-                    String.format("jdbc:sqlite:%s", databaseFile.toAbsolutePath()),
-                    config.toProperties()
-            );
+            connection = DriverManager.getConnection(getUrl(), getConfig().toProperties());
         } catch (IOException e) {
             plugin.log(Level.SEVERE, "An exception occurred creating the database file", e);
         } catch (SQLException e) {
@@ -102,6 +105,21 @@ public class SqLiteDatabase extends Database {
         }
     }
 
+    @NotNull
+    private String getUrl() {
+        return String.format("jdbc:sqlite:%s", databaseFile.toAbsolutePath());
+    }
+
+    // Set SQLite database properties
+    @NotNull
+    private static SQLiteConfig getConfig() {
+        final SQLiteConfig config = new SQLiteConfig();
+        config.enforceForeignKeys(true);
+        config.setEncoding(SQLiteConfig.Encoding.UTF8);
+        config.setSynchronous(SQLiteConfig.SynchronousMode.FULL);
+        return config;
+    }
+
     @SuppressWarnings("SqlSourceToSinkFlow")
     @Override
     protected void executeScript(@NotNull Connection connection, @NotNull String name) throws SQLException {
@@ -316,6 +334,7 @@ public class SqLiteDatabase extends Database {
 
     @Override
     public void ensureUser(@NotNull User onlineUser) {
+        userDirectory.put(onlineUser);
         getUser(onlineUser.getUuid()).ifPresentOrElse(
                 existingUser -> {
                     if (!existingUser.getUsername().equals(onlineUser.getName())) {
@@ -357,7 +376,7 @@ public class SqLiteDatabase extends Database {
         try (PreparedStatement statement = getConnection().prepareStatement(format("""
                 SELECT `uuid`, `username`, `home_slots`, `ignoring_requests`
                 FROM `%player_data%`
-                WHERE `username`=?"""))) {
+                WHERE `username`=? COLLATE NOCASE"""))) {
             statement.setString(1, name);
 
             final ResultSet resultSet = statement.executeQuery();
@@ -401,6 +420,7 @@ public class SqLiteDatabase extends Database {
 
     @Override
     public void deleteUser(@NotNull UUID uuid) {
+        userDirectory.remove(uuid);
         try (PreparedStatement statement = getConnection().prepareStatement(format("""
                 DELETE FROM `%position_data%`
                 WHERE `id`
@@ -477,7 +497,7 @@ public class SqLiteDatabase extends Database {
     }
 
     @Override
-    public List<Home> getHomes(@NotNull User user) {
+    public Optional<List<Home>> loadHomes(@NotNull User user) {
         final List<Home> userHomes = new ArrayList<>();
         try (PreparedStatement statement = getConnection().prepareStatement(format("""
                 SELECT `%home_data%`.`uuid` AS `home_uuid`, `owner_uuid`, `name`, `description`, `tags`, `timestamp`,
@@ -514,12 +534,13 @@ public class SqLiteDatabase extends Database {
 
         } catch (SQLException e) {
             plugin.log(Level.SEVERE, "Failed to query the database for home data for:" + user.getName());
+            return Optional.empty();
         }
-        return userHomes;
+        return Optional.of(userHomes);
     }
 
     @Override
-    public List<Warp> getWarps() {
+    public Optional<List<Warp>> loadWarps() {
         final List<Warp> warps = new ArrayList<>();
         try (PreparedStatement statement = getConnection().prepareStatement(format("""
                 SELECT `%warp_data%`.`uuid` AS `warp_uuid`, `name`, `description`, `tags`, `timestamp`,
@@ -548,12 +569,120 @@ public class SqLiteDatabase extends Database {
             }
         } catch (SQLException e) {
             plugin.log(Level.SEVERE, "Failed to query the database for warp data.");
+            return Optional.empty();
+        }
+        return Optional.of(warps);
+    }
+
+    @Override
+    public Optional<List<Warp>> getWarps(@Nullable Warp after, int limit,
+                                         @Nullable String server, @Nullable String world) {
+        if (isUnavailable()) {
+            return Optional.empty();
+        }
+        final List<Warp> warps = new ArrayList<>();
+        try (PreparedStatement statement = getConnection().prepareStatement(format("""
+                SELECT `%warp_data%`.`uuid` AS `warp_uuid`, `name`, `description`, `tags`, `timestamp`,
+                    `x`, `y`, `z`, `yaw`, `pitch`, `world_name`, `world_uuid`, `server_name`
+                FROM `%warp_data%`
+                INNER JOIN `%saved_position_data%`
+                    ON `%warp_data%`.`saved_position_id`=`%saved_position_data%`.`id`
+                INNER JOIN `%position_data%`
+                    ON `%saved_position_data%`.`position_id`=`%position_data%`.`id`
+                WHERE (`name`>? OR (`name`=? AND `%warp_data%`.`uuid`>?))
+                {server}
+                {world}
+                ORDER BY `name`, `%warp_data%`.`uuid`
+                LIMIT ?;"""
+                    .replace("{server}", server == null ? "" : "AND `server_name`=?")
+                    .replace("{world}", world == null ? "" : "AND `world_name`=?")))) {
+            int index = 1;
+            statement.setString(index++, after == null ? "" : after.getName());
+            statement.setString(index++, after == null ? "" : after.getName());
+            statement.setString(index++, (after == null ? new UUID(0, 0) : after.getUuid()).toString());
+            if (server != null) {
+                statement.setString(index++, server);
+            }
+            if (world != null) {
+                statement.setString(index++, world);
+            }
+            statement.setInt(index, limit);
+
+            final ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                warps.add(Warp.from(resultSet.getDouble("x"),
+                        resultSet.getDouble("y"),
+                        resultSet.getDouble("z"),
+                        resultSet.getFloat("yaw"),
+                        resultSet.getFloat("pitch"),
+                        World.from(resultSet.getString("world_name"),
+                                UUID.fromString(resultSet.getString("world_uuid"))),
+                        resultSet.getString("server_name"),
+                        PositionMeta.from(resultSet.getString("name"),
+                                resultSet.getString("description"),
+                                resultSet.getTimestamp("timestamp").toInstant(),
+                                resultSet.getString("tags")),
+                        UUID.fromString(resultSet.getString("warp_uuid"))));
+            }
+        } catch (SQLException e) {
+            plugin.log(Level.SEVERE, "Failed to query the database for a page of warp data.", e);
+            return Optional.empty();
+        }
+        return Optional.of(warps);
+    }
+
+    @Override
+    public List<Warp> getWarps(@Nullable Collection<String> names, int offset, int limit) {
+        if (names != null && names.isEmpty()) {
+            return List.of();
+        }
+        final List<Warp> warps = new ArrayList<>();
+        try (PreparedStatement statement = getConnection().prepareStatement(format("""
+                SELECT `%warp_data%`.`uuid` AS `warp_uuid`, `name`, `description`, `tags`, `timestamp`,
+                    `x`, `y`, `z`, `yaw`, `pitch`, `world_name`, `world_uuid`, `server_name`
+                FROM `%warp_data%`
+                INNER JOIN `%saved_position_data%`
+                    ON `%warp_data%`.`saved_position_id`=`%saved_position_data%`.`id`
+                INNER JOIN `%position_data%`
+                    ON `%saved_position_data%`.`position_id`=`%position_data%`.`id`
+                {names}
+                ORDER BY `name`, `%warp_data%`.`uuid`
+                LIMIT ? OFFSET ?;"""
+                    .replace("{names}", names == null ? ""
+                            : "WHERE `name` IN (" + getPlaceholders(names.size()) + ")")))) {
+            int index = 1;
+            if (names != null) {
+                for (String name : names) {
+                    statement.setString(index++, name);
+                }
+            }
+            statement.setInt(index++, limit);
+            statement.setInt(index, offset);
+
+            final ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                warps.add(Warp.from(resultSet.getDouble("x"),
+                        resultSet.getDouble("y"),
+                        resultSet.getDouble("z"),
+                        resultSet.getFloat("yaw"),
+                        resultSet.getFloat("pitch"),
+                        World.from(resultSet.getString("world_name"),
+                                UUID.fromString(resultSet.getString("world_uuid"))),
+                        resultSet.getString("server_name"),
+                        PositionMeta.from(resultSet.getString("name"),
+                                resultSet.getString("description"),
+                                resultSet.getTimestamp("timestamp").toInstant(),
+                                resultSet.getString("tags")),
+                        UUID.fromString(resultSet.getString("warp_uuid"))));
+            }
+        } catch (SQLException e) {
+            plugin.log(Level.SEVERE, "Failed to query the database for a page of warp data.", e);
         }
         return warps;
     }
 
     @Override
-    public List<Home> getPublicHomes() {
+    public Optional<List<Home>> loadPublicHomes() {
         final List<Home> userHomes = new ArrayList<>();
         try (PreparedStatement statement = getConnection().prepareStatement(format("""
                 SELECT `%home_data%`.`uuid` AS `home_uuid`, `owner_uuid`, `username` AS `owner_username`,
@@ -590,10 +719,207 @@ public class SqLiteDatabase extends Database {
 
         } catch (SQLException e) {
             plugin.log(Level.SEVERE, "Failed to query the database for public home data");
+            return Optional.empty();
+        }
+        return Optional.of(userHomes);
+    }
+
+    @Override
+    public Optional<List<Home>> getPublicHomes(@Nullable Home after, int limit,
+                                               @Nullable String server, @Nullable String world) {
+        if (isUnavailable()) {
+            return Optional.empty();
+        }
+        final List<Home> userHomes = new ArrayList<>();
+        try (PreparedStatement statement = getConnection().prepareStatement(format("""
+                SELECT `%home_data%`.`uuid` AS `home_uuid`, `owner_uuid`, `username` AS `owner_username`,
+                    `name`, `description`, `tags`, `timestamp`, `x`, `y`, `z`, `yaw`, `pitch`, `world_name`,
+                    `world_uuid`, `server_name`, `public`
+                FROM `%home_data%`
+                INNER JOIN `%saved_position_data%`
+                    ON `%home_data%`.`saved_position_id`=`%saved_position_data%`.`id`
+                INNER JOIN `%position_data%`
+                    ON `%saved_position_data%`.`position_id`=`%position_data%`.`id`
+                INNER JOIN `%player_data%`
+                    ON `%home_data%`.`owner_uuid`=`%player_data%`.`uuid`
+                WHERE `public`=true
+                AND (`name`>? OR (`name`=? AND `%home_data%`.`uuid`>?))
+                {server}
+                {world}
+                ORDER BY `name`, `%home_data%`.`uuid`
+                LIMIT ?;"""
+                    .replace("{server}", server == null ? "" : "AND `server_name`=?")
+                    .replace("{world}", world == null ? "" : "AND `world_name`=?")))) {
+            int index = 1;
+            statement.setString(index++, after == null ? "" : after.getName());
+            statement.setString(index++, after == null ? "" : after.getName());
+            statement.setString(index++, (after == null ? new UUID(0, 0) : after.getUuid()).toString());
+            if (server != null) {
+                statement.setString(index++, server);
+            }
+            if (world != null) {
+                statement.setString(index++, world);
+            }
+            statement.setInt(index, limit);
+
+            final ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                userHomes.add(Home.from(resultSet.getDouble("x"),
+                        resultSet.getDouble("y"),
+                        resultSet.getDouble("z"),
+                        resultSet.getFloat("yaw"),
+                        resultSet.getFloat("pitch"),
+                        World.from(resultSet.getString("world_name"),
+                                UUID.fromString(resultSet.getString("world_uuid"))),
+                        resultSet.getString("server_name"),
+                        PositionMeta.from(resultSet.getString("name"),
+                                resultSet.getString("description"),
+                                resultSet.getTimestamp("timestamp").toInstant(),
+                                resultSet.getString("tags")),
+                        UUID.fromString(resultSet.getString("home_uuid")),
+                        User.of(UUID.fromString(resultSet.getString("owner_uuid")),
+                                resultSet.getString("owner_username")),
+                        resultSet.getBoolean("public")));
+            }
+
+        } catch (SQLException e) {
+            plugin.log(Level.SEVERE, "Failed to query the database for a page of public home data", e);
+            return Optional.empty();
+        }
+        return Optional.of(userHomes);
+    }
+
+    @Override
+    public List<Home> getPublicHomes(int offset, int limit) {
+        final List<Home> userHomes = new ArrayList<>();
+        try (PreparedStatement statement = getConnection().prepareStatement(format("""
+                SELECT `%home_data%`.`uuid` AS `home_uuid`, `owner_uuid`, `username` AS `owner_username`,
+                    `name`, `description`, `tags`, `timestamp`, `x`, `y`, `z`, `yaw`, `pitch`, `world_name`,
+                    `world_uuid`, `server_name`, `public`
+                FROM `%home_data%`
+                INNER JOIN `%saved_position_data%`
+                    ON `%home_data%`.`saved_position_id`=`%saved_position_data%`.`id`
+                INNER JOIN `%position_data%`
+                    ON `%saved_position_data%`.`position_id`=`%position_data%`.`id`
+                INNER JOIN `%player_data%`
+                    ON `%home_data%`.`owner_uuid`=`%player_data%`.`uuid`
+                WHERE `public`=true
+                ORDER BY `name`, `%home_data%`.`uuid`
+                LIMIT ? OFFSET ?;"""))) {
+            statement.setInt(1, limit);
+            statement.setInt(2, offset);
+
+            final ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                userHomes.add(Home.from(resultSet.getDouble("x"),
+                        resultSet.getDouble("y"),
+                        resultSet.getDouble("z"),
+                        resultSet.getFloat("yaw"),
+                        resultSet.getFloat("pitch"),
+                        World.from(resultSet.getString("world_name"),
+                                UUID.fromString(resultSet.getString("world_uuid"))),
+                        resultSet.getString("server_name"),
+                        PositionMeta.from(resultSet.getString("name"),
+                                resultSet.getString("description"),
+                                resultSet.getTimestamp("timestamp").toInstant(),
+                                resultSet.getString("tags")),
+                        UUID.fromString(resultSet.getString("home_uuid")),
+                        User.of(UUID.fromString(resultSet.getString("owner_uuid")),
+                                resultSet.getString("owner_username")),
+                        resultSet.getBoolean("public")));
+            }
+
+        } catch (SQLException e) {
+            plugin.log(Level.SEVERE, "Failed to query the database for a page of public home data", e);
         }
         return userHomes;
     }
 
+    @Override
+    public Optional<List<Home>> getHomes(@Nullable Home after, int limit) {
+        if (isUnavailable()) {
+            return Optional.empty();
+        }
+        final List<Home> homes = new ArrayList<>();
+        try (PreparedStatement statement = getConnection().prepareStatement(format("""
+                SELECT `%home_data%`.`uuid` AS `home_uuid`, `owner_uuid`, `username` AS `owner_username`,
+                    `name`, `description`, `tags`, `timestamp`, `x`, `y`, `z`, `yaw`, `pitch`, `world_name`,
+                    `world_uuid`, `server_name`, `public`
+                FROM `%home_data%`
+                INNER JOIN `%saved_position_data%`
+                    ON `%home_data%`.`saved_position_id`=`%saved_position_data%`.`id`
+                INNER JOIN `%position_data%`
+                    ON `%saved_position_data%`.`position_id`=`%position_data%`.`id`
+                INNER JOIN `%player_data%`
+                    ON `%home_data%`.`owner_uuid`=`%player_data%`.`uuid`
+                WHERE `%home_data%`.`uuid`>?
+                ORDER BY `%home_data%`.`uuid`
+                LIMIT ?;"""))) {
+            statement.setString(1, (after == null ? new UUID(0, 0) : after.getUuid()).toString());
+            statement.setInt(2, limit);
+
+            final ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                homes.add(Home.from(resultSet.getDouble("x"),
+                        resultSet.getDouble("y"),
+                        resultSet.getDouble("z"),
+                        resultSet.getFloat("yaw"),
+                        resultSet.getFloat("pitch"),
+                        World.from(resultSet.getString("world_name"),
+                                UUID.fromString(resultSet.getString("world_uuid"))),
+                        resultSet.getString("server_name"),
+                        PositionMeta.from(resultSet.getString("name"),
+                                resultSet.getString("description"),
+                                resultSet.getTimestamp("timestamp").toInstant(),
+                                resultSet.getString("tags")),
+                        UUID.fromString(resultSet.getString("home_uuid")),
+                        User.of(UUID.fromString(resultSet.getString("owner_uuid")),
+                                resultSet.getString("owner_username")),
+                        resultSet.getBoolean("public")));
+            }
+
+        } catch (SQLException e) {
+            plugin.log(Level.SEVERE, "Failed to query the database for a page of home data", e);
+            return Optional.empty();
+        }
+        return Optional.of(homes);
+    }
+
+    @Override
+    public Optional<List<UserPositions>> getUsersWithPositions(@Nullable SavedUser after, int limit) {
+        if (isUnavailable()) {
+            return Optional.empty();
+        }
+        final List<UserPositions> users = new ArrayList<>();
+        try (PreparedStatement statement = getConnection().prepareStatement(format("""
+                SELECT `%player_data%`.`uuid`, `username`, `home_slots`, `ignoring_requests`, {positions}
+                FROM `%player_data%`
+                LEFT JOIN `%position_data%` `last` ON `%player_data%`.`last_position`=`last`.`id`
+                LEFT JOIN `%position_data%` `offline` ON `%player_data%`.`offline_position`=`offline`.`id`
+                LEFT JOIN `%position_data%` `respawn` ON `%player_data%`.`respawn_position`=`respawn`.`id`
+                WHERE `%player_data%`.`uuid`>?
+                ORDER BY `%player_data%`.`uuid`
+                LIMIT ?;"""
+                    .replace("{positions}", getUserPositionColumns('`'))))) {
+            statement.setString(1, (after == null ? new UUID(0, 0) : after.getUserUuid()).toString());
+            statement.setInt(2, limit);
+
+            final ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                users.add(readUserPositions(resultSet, new SavedUser(
+                        User.of(UUID.fromString(resultSet.getString("uuid")),
+                                resultSet.getString("username")),
+                        resultSet.getInt("home_slots"),
+                        resultSet.getBoolean("ignoring_requests")
+                )));
+            }
+        } catch (SQLException e) {
+            plugin.log(Level.SEVERE, "Failed to query the database for a page of user data", e);
+            return Optional.empty();
+        }
+        return Optional.of(users);
+    }
+
     @Override
     public List<Home> getPublicHomes(@NotNull String name, boolean caseInsensitive) {
         final List<Home> userHomes = new ArrayList<>();
@@ -725,6 +1051,53 @@ public class SqLiteDatabase extends Database {
         return Optional.empty();
     }
 
+    @Override
+    public Optional<List<Home>> getHomes(@NotNull Collection<UUID> uuids) {
+        final List<Home> homes = new ArrayList<>();
+        for (List<UUID> chunk : Lists.partition(List.copyOf(uuids), PAGE_SIZE)) {
+            try (PreparedStatement statement = getConnection().prepareStatement(format("""
+                    SELECT `%home_data%`.`uuid` AS `home_uuid`, `owner_uuid`, `username` AS `owner_username`,
+                        `name`, `description`, `tags`, `timestamp`, `x`, `y`, `z`, `yaw`, `pitch`, `world_name`,
+                        `world_uuid`, `server_name`, `public`
+                    FROM `%home_data%`
+                    INNER JOIN `%saved_position_data%`
+                        ON `%home_data%`.`saved_position_id`=`%saved_position_data%`.`id`
+                    INNER JOIN `%position_data%`
+                        ON `%saved_position_data%`.`position_id`=`%position_data%`.`id`
+                    INNER JOIN `%player_data%`
+                        ON `%home_data%`.`owner_uuid`=`%player_data%`.`uuid`
+                    WHERE `%home_data%`.`uuid` IN (""" + getPlaceholders(chunk.size()) + ");"))) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    statement.setString(i + 1, chunk.get(i).toString());
+                }
+
+                final ResultSet resultSet = statement.executeQuery();
+                while (resultSet.next()) {
+                    homes.add(Home.from(resultSet.getDouble("x"),
+                            resultSet.getDouble("y"),
+                            resultSet.getDouble("z"),
+                            resultSet.getFloat("yaw"),
+                            resultSet.getFloat("pitch"),
+                            World.from(resultSet.getString("world_name"),
+                                    UUID.fromString(resultSet.getString("world_uuid"))),
+                            resultSet.getString("server_name"),
+                            PositionMeta.from(resultSet.getString("name"),
+                                    resultSet.getString("description"),
+                                    resultSet.getTimestamp("timestamp").toInstant(),
+                                    resultSet.getString("tags")),
+                            UUID.fromString(resultSet.getString("home_uuid")),
+                            User.of(UUID.fromString(resultSet.getString("owner_uuid")),
+                                    resultSet.getString("owner_username")),
+                            resultSet.getBoolean("public")));
+                }
+            } catch (SQLException e) {
+                plugin.log(Level.SEVERE, "Failed to query homes by uuid", e);
+                return Optional.empty();
+            }
+        }
+        return Optional.of(homes);
+    }
+
     @Override
     public Optional<Warp> getWarp(@NotNull String warpName, boolean caseInsensitive) {
         try (PreparedStatement statement = getConnection().prepareStatement(format("""
@@ -797,6 +1170,47 @@ public class SqLiteDatabase extends Database {
         return Optional.empty();
     }
 
+    @Override
+    public Optional<List<Warp>> getWarps(@NotNull Collection<UUID> uuids) {
+        final List<Warp> warps = new ArrayList<>();
+        for (List<UUID> chunk : Lists.partition(List.copyOf(uuids), PAGE_SIZE)) {
+            try (PreparedStatement statement = getConnection().prepareStatement(format("""
+                    SELECT `%warp_data%`.`uuid` AS `warp_uuid`, `name`, `description`, `tags`, `timestamp`,
+                        `x`, `y`, `z`, `yaw`, `pitch`, `world_name`, `world_uuid`, `server_name`
+                    FROM `%warp_data%`
+                    INNER JOIN `%saved_position_data%`
+                        ON `%warp_data%`.`saved_position_id`=`%saved_position_data%`.`id`
+                    INNER JOIN `%position_data%`
+                        ON `%saved_position_data%`.`position_id`=`%position_data%`.`id`
+                    WHERE `%warp_data%`.uuid IN (""" + getPlaceholders(chunk.size()) + ");"))) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    statement.setString(i + 1, chunk.get(i).toString());
+                }
+
+                final ResultSet resultSet = statement.executeQuery();
+                while (resultSet.next()) {
+                    warps.add(Warp.from(resultSet.getDouble("x"),
+                            resultSet.getDouble("y"),
+                            resultSet.getDouble("z"),
+                            resultSet.getFloat("yaw"),
+                            resultSet.getFloat("pitch"),
+                            World.from(resultSet.getString("world_name"),
+                                    UUID.fromString(resultSet.getString("world_uuid"))),
+                            resultSet.getString("server_name"),
+                            PositionMeta.from(resultSet.getString("name"),
+                                    resultSet.getString("description"),
+                                    resultSet.getTimestamp("timestamp").toInstant(),
+                                    resultSet.getString("tags")),
+                            UUID.fromString(resultSet.getString("warp_uuid"))));
+                }
+            } catch (SQLException e) {
+                plugin.log(Level.SEVERE, "Failed to query warps by uuid", e);
+                return Optional.empty();
+            }
+        }
+        return Optional.of(warps);
+    }
+
     @Override
     public Optional<Teleport> getCurrentTeleport(@NotNull OnlineUser onlineUser) {
         try (PreparedStatement statement = getConnection().prepareStatement(format("""
@@ -1179,15 +1593,13 @@ public class SqLiteDatabase extends Database {
     public int deleteAllHomes(@NotNull String worldName, @NotNull String serverName) {
         try (PreparedStatement statement = getConnection().prepareStatement(format("""
                 DELETE FROM `%position_data%`
-                WHERE `%position_data%`.`id` IN (
+                WHERE `world_name`=?
+                AND `server_name`=?
+                AND `%position_data%`.`id` IN (
                     SELECT `position_id`
                     FROM `%saved_position_data%`
-                    WHERE `%saved_position_data%`.`id` IN (
-                        SELECT `saved_position_id`
-                        FROM `%home_data%`
-                        WHERE `world_name`=?
-                        AND `server_name`=?
-                    )
+                    INNER JOIN `%home_data%`
+                        ON `%home_data%`.`saved_position_id`=`%saved_position_data%`.`id`
                 );"""))) {
             statement.setString(1, worldName);
             statement.setString(2, serverName);
@@ -1242,15 +1654,13 @@ public class SqLiteDatabase extends Database {
     public int deleteAllWarps(@NotNull String worldName, @NotNull String serverName) {
         try (PreparedStatement statement = getConnection().prepareStatement(format("""
                 DELETE FROM `%position_data%`
-                WHERE `%position_data%`.`id` IN (
+                WHERE `world_name`=?
+                AND `server_name`=?
+                AND `%position_data%`.`id` IN (
                     SELECT `position_id`
                     FROM `%saved_position_data%`
-                    WHERE `%saved_position_data%`.`id` IN (
-                        SELECT `saved_position_id`
-                        FROM `%warp_data%`
-                        WHERE `world_name`=?
-                        AND `server_name`=?
-                    )
+                    INNER JOIN `%warp_data%`
+                        ON `%warp_data%`.`saved_position_id`=`%saved_position_data%`.`id`
                 );"""))) {
             statement.setString(1, worldName);
             statement.setString(2, serverName);
@@ -1262,6 +1672,77 @@ public class SqLiteDatabase extends Database {
         return 0;
     }
 
+    @Override
+    public long getHomeCount(@NotNull UUID owner, boolean publicOnly) {
+        try (PreparedStatement statement = getConnection().prepareStatement(format("""
+                SELECT COUNT(*)
+                FROM `%home_data%`
+                WHERE `owner_uuid`=?
+                AND (? OR `public`=true);"""))) {
+            statement.setString(1, owner.toString());
+            statement.setBoolean(2, !publicOnly);
+
+            final ResultSet resultSet = statement.executeQuery();
+            if (resultSet.next()) {
+                return resultSet.getLong(1);
+            }
+        } catch (SQLException e) {
+            plugin.log(Level.SEVERE, "Failed to query the database for the home count of: " + owner, e);
+        }
+        return 0;
+    }
+
+    @Override
+    public Map<String, Long> getHomeCountsByWorld(@Nullable String server, boolean publicOnly) {
+        return countSavedPositions(true, "world_name", server, publicOnly);
+    }
+
+    @Override
+    public Map<String, Long> getWarpCountsByWorld(@Nullable String server) {
+        return countSavedPositions(false, "world_name", server, false);
+    }
+
+    @Override
+    public Map<String, Long> getHomeCountsByServer(boolean publicOnly) {
+        return countSavedPositions(true, "server_name", null, publicOnly);
+    }
+
+    @Override
+    public Map<String, Long> getWarpCountsByServer() {
+        return countSavedPositions(false, "server_name", null, false);
+    }
+
+    // Count homes or warps, grouped by a column of the position table
+    @NotNull
+    private Map<String, Long> countSavedPositions(boolean homes, @NotNull String column,
+                                                  @Nullable String server, boolean publicOnly) {
+        final Map<String, Long> counts = new TreeMap<>();
+        try (PreparedStatement statement = getConnection().prepareStatement(format("""
+                SELECT `%position_data%`.`{column}`, COUNT(*)
+                FROM `{table}`
+                INNER JOIN `%saved_position_data%`
+                    ON `{table}`.`saved_position_id`=`%saved_position_data%`.`id`
+                INNER JOIN `%position_data%`
+                    ON `%saved_position_data%`.`position_id`=`%position_data%`.`id`
+                WHERE (? OR `server_name`=?)
+                AND {public}
+                GROUP BY `%position_data%`.`{column}`;"""
+                .replace("{column}", column)
+                .replace("{table}", homes ? "%home_data%" : "%warp_data%")
+                .replace("{public}", homes && publicOnly ? "`public`=true" : "true")))) {
+            statement.setBoolean(1, server == null);
+            statement.setString(2, server == null ? "" : server);
+
+            final ResultSet resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                counts.merge(resultSet.getString(1), resultSet.getLong(2), Long::sum);
+            }
+        } catch (SQLException e) {
+            plugin.log(Level.SEVERE, "Failed to query the database for saved position counts", e);
+        }
+        return counts;
+    }
+
     @Override
     public void close() {
         try {
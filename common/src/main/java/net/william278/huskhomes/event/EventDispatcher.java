@@ -43,18 +43,62 @@ import static net.william278.huskhomes.event.ITeleportWarmupCancelledEvent.Cance
 public interface EventDispatcher {
 
     /**
-     * Fire an event synchronously, then run a callback asynchronously.
+     * Fire an event, then run a callback if it wasn't canceled.
+     *
+     * <p>If any listener needs to be called on the server thread, the event is fired there. Otherwise, the event is
+     * fired on the calling thread. The callback is always run off the server thread: on the calling thread if that
+     * isn't the server thread, and asynchronously if it is.
      *
      * @param event    The event to fire
      * @param callback The callback to run after the event has been fired
      * @param <T>      The type of event to fire
      */
     default <T extends Event> void fireEvent(@NotNull T event, @Nullable Consumer<T> callback) {
-        getPlugin().runSync(() -> {
-            if (!fireIsCancelled(event) && callback != null) {
-                getPlugin().runAsync(() -> callback.accept(event));
-            }
-        });
+        final Listeners listeners = getListeners(event);
+        if (listeners == Listeners.SYNC) {
+            getPlugin().runSync(() -> {
+                if (!fireIsCancelled(event) && callback != null) {
+                    getPlugin().runAsync(() -> callback.accept(event));
+                }
+            });
+            return;
+        }
+
+        if (listeners == Listeners.THREAD_SAFE && fireIsCancelled(event)) {
+            return;
+        }
+        if (callback == null) {
+            return;
+        }
+        if (isServerThread()) {
+            getPlugin().runAsync(() -> callback.accept(event));
+        } else {
+            callback.accept(event);
+        }
+    }
+
+    /**
+     * Get whether the calling thread is the server thread, so event callbacks, which may send messages to other
+     * servers or write to the database, shouldn't be run on it.
+     *
+     * @return {@code true} if the calling thread is (or may be) the server thread
+     * @since 4.10
+     */
+    default boolean isServerThread() {
+        return true;
+    }
+
+    /**
+     * Get which kind of listeners are registered to an event.
+     *
+     * @param event The event
+     * @param <T>   The type of event
+     * @return The kind of listeners registered to the event
+     * @since 4.10
+     */
+    @NotNull
+    default <T extends Event> Listeners getListeners(@NotNull T event) {
+        return Listeners.SYNC;
     }
 
     /**
@@ -90,6 +134,10 @@ public interface EventDispatcher {
     IReplyTeleportRequestEvent getReplyTeleportRequestEvent(@NotNull OnlineUser recipient,
                                                             @NotNull TeleportRequest request);
 
+    @NotNull
+    IExpireTeleportRequestEvent getExpireTeleportRequestEvent(@NotNull User recipient,
+                                                              @NotNull TeleportRequest request);
+
     @NotNull
     IHomeCreateEvent getHomeCreateEvent(@NotNull User owner, @NotNull String name, @NotNull Position position,
                                         @NotNull CommandUser creator);
@@ -127,4 +175,25 @@ public interface EventDispatcher {
     @NotNull
     HuskHomes getPlugin();
 
+    /**
+     * Kinds of listeners registered to an event, determining which thread it must be fired on.
+     *
+     * @since 4.10
+     */
+    enum Listeners {
+        /**
+         * No listeners are registered, so the event doesn't need firing.
+         */
+        NONE,
+        /**
+         * Only {@link ThreadSafeListener thread-safe listeners} are registered, so the event can be fired on any
+         * thread.
+         */
+        THREAD_SAFE,
+        /**
+         * Listeners that must be called on the server thread are registered.
+         */
+        SYNC
+    }
+
 }
@@ -33,6 +33,9 @@ public interface IHomeListEvent extends Cancellable {
     /**
      * Get the list of homes to be displayed.
      *
+     * <p>For the public home list, when it is not filtered by a home name, only the homes on the page being viewed are
+     * loaded, so this list holds just that page rather than every home in the list
+     *
      * @return the list of homes
      */
     @NotNull
@@ -33,6 +33,9 @@ public interface IWarpListEvent extends Cancellable {
     /**
      * Get the list of warps to be displayed.
      *
+     * <p>Only the warps on the page being viewed are loaded, so this list holds just that page rather than every warp
+     * in the list
+     *
      * @return the list of warps
      */
     @NotNull
@@ -0,0 +1,32 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.event;
+
+/**
+ * Marks a listener to HuskHomes events as safe to be called off the server thread.
+ *
+ * <p>Events are normally fired on the server thread. When every listener registered to an event implements this
+ * interface, the event is instead fired on the thread that triggered it, saving a wait for the next server tick.
+ * On Bukkit, implement this on your {@code Listener}; on Fabric, implement it on your callback.
+ *
+ * @since 4.10
+ */
+public interface ThreadSafeListener {
+}
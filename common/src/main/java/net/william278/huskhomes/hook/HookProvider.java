@@ -22,6 +22,7 @@ package net.william278.huskhomes.hook;
 import com.google.common.collect.Lists;
 import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.config.Settings;
+import net.william278.huskhomes.importer.HuskHomesImporter;
 import net.william278.huskhomes.importer.Importer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
@@ -111,6 +112,7 @@ public interface HookProvider extends MapHookProvider {
         final Settings settings = getPlugin().getSettings();
 
         // Common hooks
+        hooks.add(new HuskHomesImporter(getPlugin()));
         if (isDependencyAvailable("Plan") && settings.getPlan().isEnabled()) {
             hooks.add(new PlanHook(getPlugin()));
         }
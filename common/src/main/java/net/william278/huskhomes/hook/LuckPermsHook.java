@@ -21,6 +21,9 @@ package net.william278.huskhomes.hook;
 
 import net.luckperms.api.LuckPerms;
 import net.luckperms.api.LuckPermsProvider;
+import net.luckperms.api.event.EventSubscription;
+import net.luckperms.api.event.group.GroupDataRecalculateEvent;
+import net.luckperms.api.event.user.UserDataRecalculateEvent;
 import net.luckperms.api.model.user.User;
 import net.luckperms.api.node.Node;
 import net.luckperms.api.query.QueryOptions;
@@ -28,6 +31,7 @@ import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.user.OnlineUser;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -38,6 +42,7 @@ import java.util.List;
 public class LuckPermsHook extends Hook {
 
     private LuckPerms api;
+    private final List<EventSubscription<?>> subscriptions = new ArrayList<>();
 
     public LuckPermsHook(@NotNull HuskHomes plugin) {
         super(plugin);
@@ -46,10 +51,18 @@ public class LuckPermsHook extends Hook {
     @Override
     public void load() {
         this.api = LuckPermsProvider.get();
+
+        // Invalidate cached usable warps when permissions are recalculated
+        subscriptions.add(api.getEventBus().subscribe(UserDataRecalculateEvent.class, event -> plugin
+                .getManager().warps().invalidateUsableWarps(event.getUser().getUniqueId())));
+        subscriptions.add(api.getEventBus().subscribe(GroupDataRecalculateEvent.class, event -> plugin
+                .getManager().warps().invalidateUsableWarps()));
     }
 
     @Override
     public void unload() {
+        subscriptions.forEach(EventSubscription::close);
+        subscriptions.clear();
         this.api = null;
     }
 
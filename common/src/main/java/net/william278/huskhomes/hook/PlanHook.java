@@ -31,7 +31,6 @@ import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.database.Database;
-import net.william278.huskhomes.position.Home;
 import net.william278.huskhomes.position.Position;
 import net.william278.huskhomes.user.SavedUser;
 import org.jetbrains.annotations.NotNull;
@@ -126,9 +125,7 @@ public class PlanHook extends Hook {
         )
         @Conditional("hasData")
         public long getHomeCount(@NotNull UUID uuid) {
-            return database.getUser(uuid)
-                    .map(userData -> (long) database.getHomes(userData.getUser()).size())
-                    .orElse(0L);
+            return database.getHomeCount(uuid, false);
         }
 
         @NumberProvider(
@@ -140,10 +137,7 @@ public class PlanHook extends Hook {
         )
         @Conditional("hasData")
         public long getPublicHomeCount(@NotNull UUID uuid) {
-            return database.getUser(uuid)
-                    .map(userData -> database.getHomes(userData.getUser()).stream()
-                            .filter(Home::isPublic).count())
-                    .orElse(0L);
+            return database.getHomeCount(uuid, true);
         }
 
         @NumberProvider(
@@ -0,0 +1,152 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.importer;
+
+import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.database.Database;
+import net.william278.huskhomes.position.Home;
+import net.william278.huskhomes.position.Warp;
+import net.william278.huskhomes.user.CommandUser;
+import net.william278.huskhomes.util.TaskLogger;
+import org.jetbrains.annotations.Blocking;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Exports all users, homes and warps to a gzip-compressed JSON lines file, which can be read back in with the
+ * {@link HuskHomesImporter}.
+ *
+ * <p>Data is streamed from the database a page at a time, so exports use constant memory and each query is short
+ * enough not to hold up the server's own database access.
+ *
+ * @since 4.10
+ */
+public class DataExporter {
+
+    static final String EXPORTS_DIRECTORY = "exports";
+    static final String FILE_EXTENSION = ".jsonl.gz";
+    private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+    // Minimum time between progress reports (in seconds)
+    private static final long PROGRESS_INTERVAL = 5;
+
+    private final HuskHomes plugin;
+    private final TaskLogger logger;
+    private LocalDateTime lastReport;
+
+    public DataExporter(@NotNull HuskHomes plugin) {
+        this.plugin = plugin;
+        this.logger = new TaskLogger(plugin, "Exporter");
+    }
+
+    /**
+     * Export all data to a new file in the exports directory.
+     *
+     * @param executor the user to report progress to
+     * @return the exported file, if the export succeeded
+     */
+    @Blocking
+    public Optional<Path> export(@NotNull CommandUser executor) {
+        final LocalDateTime startTime = LocalDateTime.now();
+        final Path directory = plugin.getConfigDirectory().resolve(EXPORTS_DIRECTORY);
+        final Path file = directory.resolve("huskhomes-" + FILE_DATE_FORMAT.format(startTime) + FILE_EXTENSION);
+        final Path partial = directory.resolve(file.getFileName() + ".partial");
+        log(executor, Level.INFO, "⌚ Starting data export...");
+
+        final Database database = plugin.getDatabase();
+        this.lastReport = startTime;
+        try {
+            Files.createDirectories(directory);
+            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(partial)), StandardCharsets.UTF_8))) {
+                write(writer, ExportEntry.header());
+
+                int users = 0;
+                for (Iterator<Database.UserPositions> it = database.streamUsersWithPositions().iterator();
+                     it.hasNext(); ) {
+                    final Database.UserPositions user = it.next();
+                    write(writer, ExportEntry.user(user.user(),
+                            user.lastPosition(), user.offlinePosition(), user.respawnPosition()));
+                    reportProgress(executor, "users", ++users);
+                }
+                log(executor, Level.INFO, "✔ Exported users (" + users + " entries)");
+
+                int homes = 0;
+                for (Iterator<Home> it = database.streamHomes().iterator(); it.hasNext(); ) {
+                    write(writer, ExportEntry.home(it.next()));
+                    reportProgress(executor, "homes", ++homes);
+                }
+                log(executor, Level.INFO, "✔ Exported homes (" + homes + " entries)");
+
+                int warps = 0;
+                for (Iterator<Warp> it = database.streamWarps(null, null).iterator(); it.hasNext(); ) {
+                    write(writer, ExportEntry.warp(it.next()));
+                    reportProgress(executor, "warps", ++warps);
+                }
+                log(executor, Level.INFO, "✔ Exported warps (" + warps + " entries)");
+            }
+            Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | IllegalStateException e) {
+            // Don't keep a truncated export if the file couldn't be written or the database couldn't be read
+            log(executor, Level.WARNING, "❌ Failed to export data: " + e.getMessage(), e);
+            try {
+                Files.deleteIfExists(partial);
+            } catch (IOException ignored) {
+            }
+            return Optional.empty();
+        }
+
+        final long timeTaken = startTime.until(LocalDateTime.now(), ChronoUnit.SECONDS);
+        log(executor, Level.INFO, "✔ Completed export to " + EXPORTS_DIRECTORY + "/" + file.getFileName()
+                                  + " (took " + timeTaken + "s)");
+        return Optional.of(file);
+    }
+
+    private void write(@NotNull BufferedWriter writer, @NotNull ExportEntry entry) throws IOException {
+        writer.write(plugin.getGson().toJson(entry));
+        writer.newLine();
+    }
+
+    private void reportProgress(@NotNull CommandUser executor, @NotNull String data, int exported) {
+        if (lastReport.until(LocalDateTime.now(), ChronoUnit.SECONDS) >= PROGRESS_INTERVAL) {
+            log(executor, Level.INFO, "⌚ Exporting " + data + "... (" + exported + " entries)");
+            lastReport = LocalDateTime.now();
+        }
+    }
+
+    private void log(@NotNull CommandUser user, @NotNull Level level, @NotNull String message,
+                     @NotNull Throwable... e) {
+        logger.log(user, level, message, e);
+    }
+
+}
@@ -0,0 +1,203 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.importer;
+
+import com.google.gson.annotations.Expose;
+import com.google.gson.annotations.SerializedName;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import net.william278.huskhomes.position.Home;
+import net.william278.huskhomes.position.Position;
+import net.william278.huskhomes.position.PositionMeta;
+import net.william278.huskhomes.position.SavedPosition;
+import net.william278.huskhomes.position.Warp;
+import net.william278.huskhomes.user.SavedUser;
+import net.william278.huskhomes.user.User;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * A line of a HuskHomes data export; either the header, a user, a home or a warp.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+class ExportEntry {
+
+    static final int FORMAT_VERSION = 1;
+
+    @Getter
+    @Expose
+    private Type type;
+
+    // Header
+    @Getter
+    @Expose
+    @SerializedName("format_version")
+    private int formatVersion;
+
+    // Users
+    @Expose
+    private User user;
+    @Expose
+    @SerializedName("home_slots")
+    private int homeSlots;
+    @Expose
+    @SerializedName("ignoring_requests")
+    private boolean ignoringRequests;
+    @Nullable
+    @Expose
+    @SerializedName("last_position")
+    private Position lastPosition;
+    @Nullable
+    @Expose
+    @SerializedName("offline_position")
+    private Position offlinePosition;
+    @Nullable
+    @Expose
+    @SerializedName("respawn_position")
+    private Position respawnPosition;
+
+    // Homes and warps
+    @Expose
+    private Position position;
+    @Expose
+    private UUID uuid;
+    @Expose
+    private String name;
+    @Expose
+    private String description;
+    @Expose
+    private String tags;
+    @Expose
+    @SerializedName("creation_time")
+    private long creationTime;
+    @Expose
+    private User owner;
+    @Expose
+    @SerializedName("public")
+    private boolean isPublic;
+
+    @NotNull
+    static ExportEntry header() {
+        final ExportEntry entry = new ExportEntry();
+        entry.type = Type.HEADER;
+        entry.formatVersion = FORMAT_VERSION;
+        return entry;
+    }
+
+    @NotNull
+    static ExportEntry user(@NotNull SavedUser user, @Nullable Position lastPosition,
+                            @Nullable Position offlinePosition, @Nullable Position respawnPosition) {
+        final ExportEntry entry = new ExportEntry();
+        entry.type = Type.USER;
+        entry.user = user.getUser();
+        entry.homeSlots = user.getHomeSlots();
+        entry.ignoringRequests = user.isIgnoringTeleports();
+        entry.lastPosition = lastPosition;
+        entry.offlinePosition = offlinePosition;
+        entry.respawnPosition = respawnPosition;
+        return entry;
+    }
+
+    @NotNull
+    static ExportEntry home(@NotNull Home home) {
+        final ExportEntry entry = savedPosition(Type.HOME, home);
+        entry.owner = home.getOwner();
+        entry.isPublic = home.isPublic();
+        return entry;
+    }
+
+    @NotNull
+    static ExportEntry warp(@NotNull Warp warp) {
+        return savedPosition(Type.WARP, warp);
+    }
+
+    @NotNull
+    private static ExportEntry savedPosition(@NotNull Type type, @NotNull SavedPosition saved) {
+        final ExportEntry entry = new ExportEntry();
+        entry.type = type;
+        entry.position = Position.at(saved, saved.getServer());
+        entry.uuid = saved.getUuid();
+        entry.name = saved.getMeta().getName();
+        entry.description = saved.getMeta().getDescription();
+        entry.tags = saved.getMeta().getSerializedTags();
+        entry.creationTime = saved.getMeta().getCreationTime().toEpochMilli();
+        return entry;
+    }
+
+    @NotNull
+    SavedUser getSavedUser() {
+        return new SavedUser(Objects.requireNonNull(user, "Missing user"), homeSlots, ignoringRequests);
+    }
+
+    Optional<Position> getLastPosition() {
+        return Optional.ofNullable(lastPosition);
+    }
+
+    Optional<Position> getOfflinePosition() {
+        return Optional.ofNullable(offlinePosition);
+    }
+
+    Optional<Position> getRespawnPosition() {
+        return Optional.ofNullable(respawnPosition);
+    }
+
+    @NotNull
+    Home getHome() {
+        return Home.from(
+                position.getX(), position.getY(), position.getZ(), position.getYaw(), position.getPitch(),
+                position.getWorld(), position.getServer(), getMeta(), uuid,
+                Objects.requireNonNull(owner, "Missing home owner"), isPublic
+        );
+    }
+
+    @NotNull
+    Warp getWarp() {
+        return Warp.from(
+                position.getX(), position.getY(), position.getZ(), position.getYaw(), position.getPitch(),
+                position.getWorld(), position.getServer(), getMeta(), uuid
+        );
+    }
+
+    @NotNull
+    private PositionMeta getMeta() {
+        return PositionMeta.from(name, description, Instant.ofEpochMilli(creationTime), tags);
+    }
+
+    /**
+     * Types of export entries.
+     */
+    enum Type {
+        @SerializedName("header")
+        HEADER,
+        @SerializedName("user")
+        USER,
+        @SerializedName("home")
+        HOME,
+        @SerializedName("warp")
+        WARP
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.importer;
+
+import com.google.gson.JsonSyntaxException;
+import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.database.Database;
+import net.william278.huskhomes.hook.PluginHook;
+import net.william278.huskhomes.network.Broker;
+import net.william278.huskhomes.user.SavedUser;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Imports data from the latest file exported by the {@link DataExporter}, reading it a line at a time.
+ *
+ * <p>Entries keep their UUIDs, so importing the same file again updates existing homes and warps rather than
+ * duplicating them.
+ */
+@PluginHook(
+        name = "HuskHomes",
+        register = PluginHook.Register.ON_ENABLE
+)
+public class HuskHomesImporter extends Importer {
+
+    public HuskHomesImporter(@NotNull HuskHomes plugin) {
+        super(List.of(ImportData.USERS, ImportData.HOMES, ImportData.WARPS), plugin);
+    }
+
+    @Override
+    protected int importData(@NotNull ImportData importData) throws Throwable {
+        final Database database = plugin.getDatabase();
+        return switch (importData) {
+            case USERS -> readEntries(ExportEntry.Type.USER, entry -> {
+                final SavedUser user = entry.getSavedUser();
+                database.ensureUser(user.getUser());
+                database.updateUserData(user);
+                entry.getLastPosition().ifPresent(position -> database.setLastPosition(user.getUser(), position));
+                entry.getOfflinePosition().ifPresent(position -> database.setOfflinePosition(user.getUser(), position));
+                entry.getRespawnPosition().ifPresent(position -> database.setRespawnPosition(user.getUser(), position));
+            });
+            case HOMES -> {
+                final int homes = readEntries(ExportEntry.Type.HOME, entry -> database.saveHome(entry.getHome()));
+                plugin.getBroker().ifPresent(broker -> {
+                    broker.invalidatePublicHomes();
+                    broker.invalidateHomes(null);
+                });
+                plugin.getManager().homes().updatePublicHomeCache();
+                plugin.getOnlineUsers().forEach(plugin.getManager().homes()::cacheUserHomes);
+                plugin.getManager().propagateCacheUpdate();
+                yield homes;
+            }
+            case WARPS -> {
+                final int warps = readEntries(ExportEntry.Type.WARP, entry -> database.saveWarp(entry.getWarp()));
+                plugin.getBroker().ifPresent(Broker::invalidateWarps);
+                plugin.getManager().warps().updateWarpCache();
+                plugin.getManager().propagateCacheUpdate();
+                yield warps;
+            }
+        };
+    }
+
+    // Stream the entries of a type from the latest export, passing each to a consumer
+    private int readEntries(@NotNull ExportEntry.Type type, @NotNull Consumer<ExportEntry> consumer)
+            throws IOException, IllegalStateException {
+        final Path file = getLatestExport().orElseThrow(() -> new IllegalStateException(
+                "No exported data (*" + DataExporter.FILE_EXTENSION + ") found in the "
+                + DataExporter.EXPORTS_DIRECTORY + " folder"
+        ));
+
+        int imported = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                final ExportEntry entry;
+                try {
+                    entry = plugin.getGson().fromJson(line, ExportEntry.class);
+                } catch (JsonSyntaxException e) {
+                    throw new IllegalStateException("Invalid entry on line " + lineNumber
+                                                    + " of " + file.getFileName());
+                }
+                if (entry.getType() == ExportEntry.Type.HEADER
+                    && entry.getFormatVersion() > ExportEntry.FORMAT_VERSION) {
+                    throw new IllegalStateException("The export " + file.getFileName()
+                                                    + " was created by a newer version of HuskHomes");
+                }
+                if (entry.getType() == type) {
+                    consumer.accept(entry);
+                    imported++;
+                }
+            }
+        }
+        return imported;
+    }
+
+    // Get the most recently modified export in the exports directory
+    private Optional<Path> getLatestExport() throws IOException {
+        final Path directory = plugin.getConfigDirectory().resolve(DataExporter.EXPORTS_DIRECTORY);
+        if (!Files.isDirectory(directory)) {
+            return Optional.empty();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(DataExporter.FILE_EXTENSION))
+                    .max(Comparator.comparing(file -> file.toFile().lastModified()));
+        }
+    }
+
+}
@@ -19,12 +19,10 @@
 
 package net.william278.huskhomes.importer;
 
-import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.TextColor;
 import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.hook.Hook;
 import net.william278.huskhomes.user.CommandUser;
-import net.william278.huskhomes.user.OnlineUser;
+import net.william278.huskhomes.util.TaskLogger;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.LocalDateTime;
@@ -36,11 +34,13 @@ public abstract class Importer extends Hook {
 
     protected final HuskHomes plugin;
     private final List<ImportData> supportedImportData;
+    private final TaskLogger logger;
 
     protected Importer(@NotNull List<ImportData> supportedData, @NotNull HuskHomes plugin) {
         super(plugin);
         this.supportedImportData = supportedData;
         this.plugin = plugin;
+        this.logger = new TaskLogger(plugin, "Importer");
     }
 
     @Override
@@ -76,14 +76,7 @@ public abstract class Importer extends Hook {
 
     protected final void log(@NotNull CommandUser user, @NotNull Level level, @NotNull String message,
                              @NotNull Throwable... e) {
-        message = "[Importer] " + message;
-        if (user instanceof OnlineUser online) {
-            final TextColor color = level == Level.SEVERE || level == Level.WARNING
-                    ? TextColor.color(0xff3300)
-                    : TextColor.color(0xC3C3C3);
-            online.sendMessage(Component.text(message, color));
-        }
-        plugin.log(level, message, e);
+        logger.log(user, level, message, e);
     }
 
     @NotNull
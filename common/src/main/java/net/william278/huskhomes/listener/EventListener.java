@@ -25,7 +25,6 @@ import lombok.AllArgsConstructor;
 import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.command.BackCommand;
 import net.william278.huskhomes.config.Settings;
-import net.william278.huskhomes.network.Broker;
 import net.william278.huskhomes.network.Message;
 import net.william278.huskhomes.network.Payload;
 import net.william278.huskhomes.position.Position;
@@ -67,13 +66,11 @@ public abstract class EventListener {
             if (plugin.getSettings().getCrossServer().isEnabled()) {
                 this.handleInboundTeleport(onlineUser);
 
-                // Synchronize the global player list
-                plugin.runSyncDelayed(() -> this.updateUserList(
-                                onlineUser,
-                                plugin.getOnlineUsers().stream().map(u -> (User) u).toList()),
-                        onlineUser,
-                        40L
-                );
+                // Send messages queued while no players were online, then synchronize the global player list
+                plugin.runSyncDelayed(() -> {
+                    plugin.getBroker().ifPresent(b -> b.onCarrierAvailable(onlineUser));
+                    this.updateUserList(onlineUser, plugin.getOnlineUsers().stream().map(u -> (User) u).toList());
+                }, onlineUser, 40L);
 
                 // Request updated player lists from other servers
                 if (plugin.getOnlineUsers().size() == 1) {
@@ -112,13 +109,14 @@ public abstract class EventListener {
             // Set offline position
             plugin.getDatabase().setOfflinePosition(online, online.getPosition());
 
-            // Remove this user's home cache
+            // Remove this user's home and usable warp caches
             plugin.getManager().homes().removeUserHomes(online);
+            plugin.getManager().warps().invalidateUsableWarps(online.getUuid());
 
             // Update global lists
             if (plugin.getSettings().getCrossServer().isEnabled()) {
                 final List<User> users = plugin.getOnlineUsers().stream().map(u -> (User) u).toList();
-                if (plugin.getSettings().getCrossServer().getBrokerType() == Broker.Type.REDIS) {
+                if (plugin.getSettings().getCrossServer().getBrokerType().isRedis()) {
                     this.updateUserList(online, users);
                     return;
                 }
@@ -137,7 +135,7 @@ public abstract class EventListener {
      * @param teleporter user to handle the checks for
      */
     private void handleInboundTeleport(@NotNull OnlineUser teleporter) {
-        plugin.getDatabase().getCurrentTeleport(teleporter).ifPresent(teleport -> {
+        plugin.getBroker().flatMap(b -> b.getCurrentTeleport(teleporter)).ifPresent(teleport -> {
             if (teleport.getType() == Teleport.Type.RESPAWN) {
                 handleInboundRespawn(teleporter);
                 return;
@@ -151,7 +149,7 @@ public abstract class EventListener {
             } catch (TeleportationException e) {
                 e.displayMessage(teleporter);
             }
-            plugin.getDatabase().clearCurrentTeleport(teleporter);
+            plugin.getBroker().ifPresent(b -> b.clearCurrentTeleport(teleporter));
             teleport.displayTeleportingComplete(teleporter);
             teleporter.handleInvulnerability();
         });
@@ -189,7 +187,7 @@ public abstract class EventListener {
                 e.displayMessage(teleporter);
             }
         }
-        plugin.getDatabase().clearCurrentTeleport(teleporter);
+        plugin.getBroker().ifPresent(b -> b.clearCurrentTeleport(teleporter));
         plugin.getDatabase().setRespawnPosition(teleporter, bedPosition.orElse(null));
     }
 
@@ -21,14 +21,14 @@ package net.william278.huskhomes.manager;
 
 import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.command.ListCommand;
-import net.william278.huskhomes.network.Message;
-import net.william278.huskhomes.network.Payload;
+import net.william278.huskhomes.network.Broker;
 import net.william278.huskhomes.position.Home;
 import net.william278.huskhomes.position.Position;
 import net.william278.huskhomes.position.PositionMeta;
 import net.william278.huskhomes.user.OnlineUser;
 import net.william278.huskhomes.user.SavedUser;
 import net.william278.huskhomes.user.User;
+import net.william278.huskhomes.util.SuggestionIndex;
 import net.william278.huskhomes.util.TransactionResolver;
 import net.william278.huskhomes.util.ValidationException;
 import org.jetbrains.annotations.NotNull;
@@ -37,17 +37,41 @@ import org.jetbrains.annotations.Nullable;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
 
 public class HomesManager {
 
     private final HuskHomes plugin;
     private final ConcurrentLinkedQueue<Home> publicHomes;
     private final ConcurrentHashMap<String, ConcurrentLinkedQueue<Home>> userHomes;
+    // Public home names/identifiers as they were when cached, and indexes of them for tab completion.
+    // The name index counts how many cached public homes share each name
+    private final Map<UUID, IndexedHome> publicHomeNameIndex;
+    private final SuggestionIndex publicHomeNameSuggestions;
+    private final SuggestionIndex publicHomeIdentifierSuggestions;
+    @Nullable
+    private volatile List<String> publicHomeNames;
+    // Tab completion indexes of cached user home names, per owner name, and of all cached user home identifiers
+    private final Map<String, SuggestionIndex> userHomeSuggestions;
+    private final SuggestionIndex userHomeIdentifierSuggestions;
+    // Names of each owner's cached homes and public homes, rebuilt when they change so placeholders can read them
+    private final Map<String, HomeNames> userHomeNames;
+    private final Map<String, HomeNames> userPublicHomeNames;
+    private final Map<String, Map<UUID, String>> publicHomesByOwner;
 
     protected HomesManager(@NotNull HuskHomes plugin) {
         this.plugin = plugin;
-        this.publicHomes = new ConcurrentLinkedQueue<>(plugin.getDatabase().getPublicHomes());
+        this.publicHomes = new ConcurrentLinkedQueue<>(fetchPublicHomes());
         this.userHomes = new ConcurrentHashMap<>();
+        this.publicHomeNameIndex = new HashMap<>();
+        this.publicHomeNameSuggestions = new SuggestionIndex();
+        this.publicHomeIdentifierSuggestions = new SuggestionIndex();
+        this.userHomeSuggestions = new ConcurrentHashMap<>();
+        this.userHomeIdentifierSuggestions = new SuggestionIndex();
+        this.userHomeNames = new ConcurrentHashMap<>();
+        this.userPublicHomeNames = new ConcurrentHashMap<>();
+        this.publicHomesByOwner = new HashMap<>();
+        this.publicHomes.forEach(this::indexPublicHome);
         plugin.runAsync(() -> plugin.getOnlineUsers()
                 .forEach(this::cacheUserHomes));
     }
@@ -59,9 +83,59 @@ public class HomesManager {
      */
     @NotNull
     public Map<String, List<String>> getUserHomes() {
-        return userHomes.entrySet().stream()
-                .collect(HashMap::new, (m, e) -> m.put(e.getKey(), e.getValue().stream().map(Home::getName).toList()),
-                        HashMap::putAll);
+        return userHomeNames.entrySet().stream()
+                .collect(HashMap::new, (m, e) -> m.put(e.getKey(), e.getValue().names()), HashMap::putAll);
+    }
+
+    /**
+     * Get the names of a user's cached homes.
+     *
+     * <p>Unlike {@link #getUserHomes()}, this doesn't copy the cache, so is cheap enough to call for every placeholder
+     * request.
+     *
+     * @param owner the name of the home owner
+     * @return the names of the owner's homes; empty if their homes aren't cached
+     * @since 4.10
+     */
+    @NotNull
+    public HomeNames getUserHomeNames(@NotNull String owner) {
+        return userHomeNames.getOrDefault(owner, HomeNames.EMPTY);
+    }
+
+    /**
+     * Get a user's cached homes.
+     *
+     * @param user the home owner
+     * @return the owner's homes, if they are cached
+     * @since 4.10
+     */
+    @NotNull
+    public Optional<List<Home>> getCachedHomes(@NotNull User user) {
+        return Optional.ofNullable(userHomes.get(user.getName())).map(List::copyOf);
+    }
+
+    /**
+     * Get a cached home by its ID, whether it is cached as a user home or a public home.
+     *
+     * @param homeId the ID of the home
+     * @return the home, if it is cached
+     * @since 4.10
+     */
+    public Optional<Home> getCachedHome(@NotNull UUID homeId) {
+        return Stream.concat(userHomes.values().stream().flatMap(Collection::stream), publicHomes.stream())
+                .filter(home -> home.getUuid().equals(homeId))
+                .findFirst();
+    }
+
+    /**
+     * Get all cached public homes.
+     *
+     * @return the cached public homes
+     * @since 4.10
+     */
+    @NotNull
+    public List<Home> getCachedPublicHomes() {
+        return List.copyOf(publicHomes);
     }
 
     /**
@@ -81,11 +155,23 @@ public class HomesManager {
      */
     @NotNull
     public Map<String, List<String>> getPublicHomes() {
-        return publicHomes.stream().collect(
-                HashMap::new,
-                (m, e) -> m.put(e.getOwner().getName(), List.of(e.getName())),
-                HashMap::putAll
-        );
+        return userPublicHomeNames.entrySet().stream()
+                .collect(HashMap::new, (m, e) -> m.put(e.getKey(), e.getValue().names()), HashMap::putAll);
+    }
+
+    /**
+     * Get the names of a user's cached public homes.
+     *
+     * <p>Unlike {@link #getPublicHomes()}, this doesn't copy the cache, so is cheap enough to call for every
+     * placeholder request.
+     *
+     * @param owner the name of the home owner
+     * @return the names of the owner's public homes; empty if they have none
+     * @since 4.10
+     */
+    @NotNull
+    public HomeNames getUserPublicHomeNames(@NotNull String owner) {
+        return userPublicHomeNames.getOrDefault(owner, HomeNames.EMPTY);
     }
 
     /**
@@ -107,14 +193,187 @@ public class HomesManager {
      */
     @NotNull
     public List<String> getPublicHomeNames() {
-        return publicHomes.stream()
-                .map(home -> {
-                    if (publicHomes.stream().filter(h -> h.getName().equals(home.getName())).count() > 1) {
-                        return home.getIdentifier();
-                    }
-                    return home.getName();
-                })
-                .toList();
+        final List<String> names = publicHomeNames;
+        return names != null ? names : buildPublicHomeNames();
+    }
+
+    /**
+     * Get whether more than one cached public home has a name, in which case those homes should be referred to by
+     * their full identifier.
+     *
+     * @param name the name of the public home
+     * @return {@code true} if the name is shared by multiple public homes
+     * @since 4.10
+     */
+    public synchronized boolean isPublicHomeNameShared(@NotNull String name) {
+        return publicHomeNameSuggestions.count(name) > 1;
+    }
+
+    @NotNull
+    private synchronized List<String> buildPublicHomeNames() {
+        if (publicHomeNames == null) {
+            publicHomeNames = publicHomes.stream()
+                    .map(home -> publicHomeNameSuggestions.count(home.getName()) > 1
+                            ? home.getIdentifier() : home.getName())
+                    .toList();
+        }
+        return publicHomeNames;
+    }
+
+    // Record a cached public home's name, replacing any name it was previously cached under
+    private synchronized void indexPublicHome(@NotNull Home home) {
+        final String owner = home.getOwner().getName();
+        final IndexedHome previous = publicHomeNameIndex.put(
+                home.getUuid(), new IndexedHome(owner, home.getName(), home.getIdentifier())
+        );
+        if (previous != null) {
+            publicHomeNameSuggestions.remove(previous.name());
+            publicHomeIdentifierSuggestions.remove(previous.identifier());
+            this.removeOwnedPublicHome(previous.owner(), home.getUuid());
+        }
+        publicHomeNameSuggestions.add(home.getName());
+        publicHomeIdentifierSuggestions.add(home.getIdentifier());
+        publicHomesByOwner.computeIfAbsent(owner, o -> new LinkedHashMap<>()).put(home.getUuid(), home.getName());
+        userPublicHomeNames.put(owner, HomeNames.of(publicHomesByOwner.get(owner).values()));
+        publicHomeNames = null;
+    }
+
+    // Forget a public home that has been removed from the cache
+    private synchronized void unIndexPublicHome(@NotNull UUID homeId) {
+        final IndexedHome indexed = publicHomeNameIndex.remove(homeId);
+        if (indexed != null) {
+            publicHomeNameSuggestions.remove(indexed.name());
+            publicHomeIdentifierSuggestions.remove(indexed.identifier());
+            this.removeOwnedPublicHome(indexed.owner(), homeId);
+            publicHomeNames = null;
+        }
+    }
+
+    // Remove a public home from the names of its owner's public homes
+    private void removeOwnedPublicHome(@NotNull String owner, @NotNull UUID homeId) {
+        final Map<UUID, String> owned = publicHomesByOwner.get(owner);
+        if (owned == null || owned.remove(homeId) == null) {
+            return;
+        }
+        if (owned.isEmpty()) {
+            publicHomesByOwner.remove(owner);
+            userPublicHomeNames.remove(owner);
+        } else {
+            userPublicHomeNames.put(owner, HomeNames.of(owned.values()));
+        }
+    }
+
+    /**
+     * Get public home suggestions starting with a prefix, for tab completion.
+     *
+     * <p>As with {@link #getPublicHomeNames()}, homes that share their name with another public home are suggested by
+     * their full identifier.
+     *
+     * @param prefix the prefix suggestions must start with, ignoring case
+     * @param limit  the maximum number of suggestions to return
+     * @return up to {@code limit} matching public home suggestions
+     * @since 4.10
+     */
+    @NotNull
+    public List<String> suggestPublicHomes(@NotNull String prefix, int limit) {
+        final List<String> suggestions = new ArrayList<>(publicHomeNameSuggestions.find(
+                prefix, limit, name -> publicHomeNameSuggestions.count(name) == 1
+        ));
+        suggestions.addAll(publicHomeIdentifierSuggestions.find(
+                prefix, limit, id -> publicHomeNameSuggestions.count(id.substring(id.indexOf(Home.getDelimiter())
+                        + Home.getDelimiter().length())) > 1
+        ));
+        return suggestions.size() > limit ? suggestions.subList(0, limit) : suggestions;
+    }
+
+    /**
+     * Get public home identifier suggestions starting with a prefix, for tab completion.
+     *
+     * @param prefix the prefix suggestions must start with, ignoring case
+     * @param limit  the maximum number of suggestions to return
+     * @return up to {@code limit} matching public home identifiers
+     * @since 4.10
+     */
+    @NotNull
+    public List<String> suggestPublicHomeIdentifiers(@NotNull String prefix, int limit) {
+        return publicHomeIdentifierSuggestions.find(prefix, limit);
+    }
+
+    /**
+     * Get suggestions for the names of a user's cached homes starting with a prefix, for tab completion.
+     *
+     * @param owner  the name of the home owner
+     * @param prefix the prefix suggestions must start with, ignoring case
+     * @param limit  the maximum number of suggestions to return
+     * @return up to {@code limit} matching home names, or an empty list if the owner's homes aren't cached
+     * @since 4.10
+     */
+    @NotNull
+    public List<String> suggestUserHomes(@NotNull String owner, @NotNull String prefix, int limit) {
+        final SuggestionIndex index = userHomeSuggestions.get(owner);
+        return index != null ? index.find(prefix, limit) : List.of();
+    }
+
+    /**
+     * Get suggestions for the identifiers of all cached user homes starting with a prefix, for tab completion.
+     *
+     * @param prefix the prefix suggestions must start with, ignoring case
+     * @param limit  the maximum number of suggestions to return
+     * @return up to {@code limit} matching home identifiers
+     * @since 4.10
+     */
+    @NotNull
+    public List<String> suggestUserHomeIdentifiers(@NotNull String prefix, int limit) {
+        return userHomeIdentifierSuggestions.find(prefix, limit);
+    }
+
+    // Rebuild the tab completion index for an owner's cached homes, or remove it if they're no longer cached
+    private synchronized void indexUserHomes(@NotNull String owner) {
+        final ConcurrentLinkedQueue<Home> homes = userHomes.get(owner);
+        final SuggestionIndex previous = homes != null
+                ? userHomeSuggestions.put(owner, SuggestionIndex.of(homes.stream().map(Home::getName).toList()))
+                : userHomeSuggestions.remove(owner);
+        if (previous != null) {
+            previous.find("", Integer.MAX_VALUE)
+                    .forEach(name -> userHomeIdentifierSuggestions.remove(owner + Home.getDelimiter() + name));
+        }
+        if (homes != null) {
+            homes.forEach(home -> userHomeIdentifierSuggestions.add(home.getIdentifier()));
+            userHomeNames.put(owner, HomeNames.of(homes.stream().map(Home::getName).toList()));
+        } else {
+            userHomeNames.remove(owner);
+        }
+    }
+
+    // A public home's owner name, name and identifier, as indexed
+    private record IndexedHome(@NotNull String owner, @NotNull String name, @NotNull String identifier) {
+    }
+
+    /**
+     * The names of a user's homes, along with the names joined into a comma-separated list.
+     *
+     * @param names  the home names
+     * @param joined the home names, separated by commas
+     * @since 4.10
+     */
+    public record HomeNames(@NotNull List<String> names, @NotNull String joined) {
+
+        private static final HomeNames EMPTY = new HomeNames(List.of(), "");
+
+        @NotNull
+        private static HomeNames of(@NotNull Collection<String> names) {
+            return names.isEmpty() ? EMPTY : new HomeNames(List.copyOf(names), String.join(", ", names));
+        }
+
+        /**
+         * Get the number of homes.
+         *
+         * @return the number of homes
+         */
+        public int count() {
+            return names.size();
+        }
+
     }
 
     /**
@@ -123,7 +382,8 @@ public class HomesManager {
      * @param user the user to cache homes for
      */
     public void cacheUserHomes(@NotNull User user) {
-        userHomes.put(user.getName(), new ConcurrentLinkedQueue<>(plugin.getDatabase().getHomes(user)));
+        userHomes.put(user.getName(), new ConcurrentLinkedQueue<>(fetchHomes(user)));
+        this.indexUserHomes(user.getName());
     }
 
     /**
@@ -133,16 +393,21 @@ public class HomesManager {
      * @param propagate whether to propagate the cache update to other servers (if cross-server is enabled)
      */
     public void cacheHome(@NotNull Home home, boolean propagate) {
-        userHomes.computeIfPresent(home.getOwner().getName(), (k, v) -> {
+        if (userHomes.computeIfPresent(home.getOwner().getName(), (k, v) -> {
             v.remove(home);
             v.add(home);
             return v;
-        });
-        if (publicHomes.remove(home) && !home.isPublic()) {
+        }) != null) {
+            this.indexUserHomes(home.getOwner().getName());
+        }
+        final boolean wasPublic = publicHomes.remove(home);
+        if (wasPublic && !home.isPublic()) {
+            this.unIndexPublicHome(home.getUuid());
             plugin.removeMappedHome(home);
         }
         if (home.isPublic()) {
             publicHomes.add(home);
+            this.indexPublicHome(home);
             plugin.addMappedHome(home);
         }
 
@@ -151,14 +416,20 @@ public class HomesManager {
                 .map(command -> (ListCommand) command)
                 .forEach(ListCommand::invalidateCaches);
         if (propagate) {
+            this.invalidateSharedCaches(home.getOwner(), wasPublic || home.isPublic());
             propagateCacheUpdate(home.getUuid());
         }
     }
 
     public void unCacheHome(@NotNull UUID homeId, boolean propagate) {
-        userHomes.values().forEach(homes -> homes.removeIf(home -> home.getUuid().equals(homeId)));
+        userHomes.forEach((owner, homes) -> {
+            if (homes.removeIf(home -> home.getUuid().equals(homeId))) {
+                this.indexUserHomes(owner);
+            }
+        });
         publicHomes.removeIf(home -> {
             if (home.getUuid().equals(homeId)) {
+                this.unIndexPublicHome(homeId);
                 plugin.removeMappedHome(home);
                 return true;
             }
@@ -178,24 +449,43 @@ public class HomesManager {
      * Propagate the update of a home/warp to other servers (if cross-server is enabled).
      *
      * <p>This works by broking a message requesting that other servers fetch the updated home from the database.
+     * Updates made in quick succession are batched into one message by the {@link Broker}.
      *
      * @param homeId the UUID of the home/warp to update
      */
     private void propagateCacheUpdate(@NotNull UUID homeId) {
-        plugin.getBroker().ifPresent(b -> plugin.getOnlineUsers().stream().findAny()
-                .ifPresent(user -> Message.builder()
-                        .type(Message.MessageType.UPDATE_HOME)
-                        .target(Message.TARGET_ALL, Message.TargetType.SERVER)
-                        .payload(Payload.string(homeId.toString()))
-                        .build().send(b, user)));
+        plugin.getBroker().ifPresent(b -> b.propagateHomeUpdate(homeId));
+    }
+
+    // Fetch public homes through the broker, which may serve them from a cache shared across the network
+    @NotNull
+    private List<Home> fetchPublicHomes() {
+        return plugin.getBroker().map(Broker::getPublicHomes).orElseGet(() -> plugin.getDatabase().getPublicHomes());
+    }
+
+    // Fetch a user's homes through the broker, which may serve them from a cache shared across the network
+    @NotNull
+    private List<Home> fetchHomes(@NotNull User user) {
+        return plugin.getBroker().map(b -> b.getHomes(user)).orElseGet(() -> plugin.getDatabase().getHomes(user));
+    }
+
+    // Mark the broker's shared caches of an owner's homes (or all homes), and of public homes if changed, as stale
+    private void invalidateSharedCaches(@Nullable User owner, boolean publicHomesChanged) {
+        plugin.getBroker().ifPresent(broker -> {
+            broker.invalidateHomes(owner);
+            if (publicHomesChanged) {
+                broker.invalidatePublicHomes();
+            }
+        });
     }
 
     public void updatePublicHomeCache() {
-        plugin.getDatabase().getPublicHomes().forEach(home -> cacheHome(home, false));
+        fetchPublicHomes().forEach(home -> cacheHome(home, false));
     }
 
     public void removeUserHomes(@NotNull User user) {
-        userHomes.remove(user.getUuid().toString());
+        userHomes.remove(user.getName());
+        this.indexUserHomes(user.getName());
     }
 
     @NotNull
@@ -203,6 +493,7 @@ public class HomesManager {
                            boolean overwrite, boolean buyAdditionalSlots, boolean ignoreMaxHomes,
                            boolean ignoreHomeSlots)
             throws ValidationException {
+        this.validateDatabaseAvailable();
         final Optional<Home> existingHome = plugin.getDatabase().getHome(owner, name);
         if (existingHome.isPresent() && !overwrite) {
             throw new ValidationException(ValidationException.Type.NAME_TAKEN);
@@ -265,32 +556,52 @@ public class HomesManager {
     }
 
     public void deleteHome(@NotNull Home home) {
+        this.validateDatabaseAvailable();
         plugin.getDatabase().deleteHome(home.getUuid());
+        this.invalidateSharedCaches(home.getOwner(), home.isPublic());
         this.unCacheHome(home.getUuid(), true);
     }
 
     public int deleteAllHomes(@NotNull User owner) {
+        this.validateDatabaseAvailable();
         final int deleted = plugin.getDatabase().deleteAllHomes(owner);
         userHomes.computeIfPresent(owner.getName(), (k, v) -> {
             v.clear();
             return v;
         });
-        publicHomes.removeIf(h -> h.getOwner().getUuid().equals(owner.getUuid()));
+        this.indexUserHomes(owner.getName());
+        publicHomes.removeIf(h -> {
+            if (h.getOwner().getUuid().equals(owner.getUuid())) {
+                this.unIndexPublicHome(h.getUuid());
+                return true;
+            }
+            return false;
+        });
         plugin.removeAllMappedHomes(owner);
         plugin.getCommands().stream()
                 .filter(command -> command instanceof ListCommand)
                 .map(command -> (ListCommand) command)
                 .forEach(ListCommand::invalidateCaches);
+        this.invalidateSharedCaches(owner, true);
         plugin.getManager().propagateCacheUpdate();
         return deleted;
     }
 
     public int deleteAllHomes(@NotNull String worldName, @NotNull String serverName) {
+        this.validateDatabaseAvailable();
         final int deleted = plugin.getDatabase().deleteAllHomes(worldName, serverName);
-        userHomes.values().forEach(homes -> homes.removeIf(
-                h -> h.getWorld().getName().equals(worldName) && h.getServer().equals(serverName)
-        ));
-        publicHomes.removeIf(h -> h.getWorld().getName().equals(worldName) && h.getServer().equals(serverName));
+        userHomes.forEach((owner, homes) -> {
+            if (homes.removeIf(h -> h.getWorld().getName().equals(worldName) && h.getServer().equals(serverName))) {
+                this.indexUserHomes(owner);
+            }
+        });
+        publicHomes.removeIf(h -> {
+            if (h.getWorld().getName().equals(worldName) && h.getServer().equals(serverName)) {
+                this.unIndexPublicHome(h.getUuid());
+                return true;
+            }
+            return false;
+        });
         if (plugin.getSettings().getCrossServer().isEnabled() && serverName.equals(plugin.getServerName())) {
             plugin.removeAllMappedHomes(worldName);
         }
@@ -298,6 +609,7 @@ public class HomesManager {
                 .filter(command -> command instanceof ListCommand)
                 .map(command -> (ListCommand) command)
                 .forEach(ListCommand::invalidateCaches);
+        this.invalidateSharedCaches(null, true);
         plugin.getManager().propagateCacheUpdate();
         return deleted;
     }
@@ -313,6 +625,7 @@ public class HomesManager {
     }
 
     public void setHomePosition(@NotNull Home home, @NotNull Position position) throws ValidationException {
+        this.validateDatabaseAvailable();
         home.update(position);
         plugin.getDatabase().saveHome(home);
         this.cacheHome(home, true);
@@ -329,6 +642,7 @@ public class HomesManager {
     }
 
     public void setHomeName(@NotNull Home home, @NotNull String newName) throws ValidationException {
+        this.validateDatabaseAvailable();
         if (plugin.getDatabase().getHome(home.getOwner(), newName).isPresent()) {
             throw new ValidationException(ValidationException.Type.NAME_TAKEN);
         }
@@ -349,6 +663,7 @@ public class HomesManager {
     }
 
     public void setHomeDescription(@NotNull Home home, @NotNull String description) {
+        this.validateDatabaseAvailable();
         plugin.validateDescription(description);
         home.getMeta().setDescription(description);
         plugin.getDatabase().saveHome(home);
@@ -369,6 +684,7 @@ public class HomesManager {
     }
 
     public void setHomePrivacy(@NotNull User owner, @NotNull Home home, boolean isPublic) {
+        this.validateDatabaseAvailable();
         if (isPublic && owner instanceof OnlineUser online) {
             int publicHomes = plugin.getDatabase().getHomes(owner).stream().filter(Home::isPublic).toList().size();
             if (publicHomes >= getMaxPublicHomes(online)) {
@@ -392,11 +708,19 @@ public class HomesManager {
     }
 
     public void setHomeMetaTags(@NotNull Home home, @NotNull Map<String, String> tags) {
+        this.validateDatabaseAvailable();
         home.getMeta().setTags(tags);
         plugin.getDatabase().saveHome(home);
         this.cacheHome(home, true);
     }
 
+    // Refuse changes while the database is unavailable, as they would be lost once it recovers and caches reload
+    private void validateDatabaseAvailable() throws ValidationException {
+        if (plugin.getDatabase().isUnavailable()) {
+            throw new ValidationException(ValidationException.Type.DATABASE_UNAVAILABLE);
+        }
+    }
+
     public int getMaxHomes(@Nullable User user) {
         return user instanceof OnlineUser online ? online.getMaxHomes(
                 plugin.getSettings().getGeneral().getMaxHomes(),
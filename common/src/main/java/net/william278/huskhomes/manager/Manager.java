@@ -52,12 +52,11 @@ public class Manager {
         return requests;
     }
 
-    // Update caches on all servers
-    protected void propagateCacheUpdate() {
-        plugin.getBroker().ifPresent(b -> plugin.getOnlineUsers().stream()
-                .findAny().ifPresent(user -> Message.builder()
-                        .type(Message.MessageType.UPDATE_CACHES)
-                        .target(Message.TARGET_ALL, Message.TargetType.SERVER)
-                        .build().send(b, user)));
+    // Update caches on all servers; queued until a player joins if none are online to send it
+    public void propagateCacheUpdate() {
+        plugin.getBroker().ifPresent(b -> Message.builder()
+                .type(Message.MessageType.UPDATE_CACHES)
+                .target(Message.TARGET_ALL, Message.TargetType.SERVER)
+                .build().send(b, plugin.getOnlineUsers().stream().findAny().orElse(null)));
     }
 }
@@ -0,0 +1,205 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.manager;
+
+import net.william278.huskhomes.teleport.TeleportRequest;
+import net.william278.huskhomes.user.User;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Pending teleport requests, indexed by recipient and then requester.
+ *
+ * <p>Requests are also placed on a hashed timing wheel with one-second slots, so expired requests can be found and
+ * removed each second by checking only the slot for that second, rather than every pending request.
+ */
+class PendingRequests {
+
+    // Number of one-second slots on the timing wheel; must be a power of two
+    private static final int WHEEL_SLOTS = 64;
+
+    // Recipient UUIDs to received requests, keyed by lowercase requester name, from oldest to newest
+    private final Map<UUID, LinkedHashMap<String, Entry>> requests = new HashMap<>();
+    private final List<Set<Entry>> wheel = new ArrayList<>(WHEEL_SLOTS);
+    private long lastTick;
+
+    PendingRequests(long now) {
+        for (int i = 0; i < WHEEL_SLOTS; i++) {
+            wheel.add(new HashSet<>());
+        }
+        this.lastTick = now;
+    }
+
+    /**
+     * Add a request, replacing any pending request from the same requester.
+     *
+     * @param recipient the recipient of the request
+     * @param request   the request
+     * @param limit     the most requests the recipient may have pending; the oldest are dropped beyond this
+     */
+    synchronized void add(@NotNull User recipient, @NotNull TeleportRequest request, int limit) {
+        final LinkedHashMap<String, Entry> received = requests.computeIfAbsent(
+                recipient.getUuid(), uuid -> new LinkedHashMap<>()
+        );
+        final String requester = key(request.getRequesterName());
+        final Entry replaced = received.remove(requester);
+        if (replaced != null) {
+            unschedule(replaced);
+        }
+        final Entry entry = new Entry(recipient, requester, request, request.getExpiry().getEpochSecond());
+        received.put(requester, entry);
+        schedule(entry);
+
+        // Drop the oldest requests if the recipient has too many; the new request is last, so is always kept
+        final Iterator<Entry> oldest = received.values().iterator();
+        while (received.size() > Math.max(limit, 1)) {
+            unschedule(oldest.next());
+            oldest.remove();
+        }
+    }
+
+    synchronized Optional<TeleportRequest> get(@NotNull UUID recipient, @NotNull String requesterName) {
+        final Map<String, Entry> received = requests.get(recipient);
+        return Optional.ofNullable(received != null ? received.get(key(requesterName)) : null).map(Entry::request);
+    }
+
+    synchronized Optional<TeleportRequest> getLatest(@NotNull UUID recipient) {
+        final Map<String, Entry> received = requests.get(recipient);
+        if (received == null) {
+            return Optional.empty();
+        }
+        Entry latest = null;
+        for (Entry entry : received.values()) {
+            latest = entry;
+        }
+        return Optional.ofNullable(latest).map(Entry::request);
+    }
+
+    synchronized void remove(@NotNull UUID recipient, @NotNull String requesterName) {
+        final Map<String, Entry> received = requests.get(recipient);
+        if (received == null) {
+            return;
+        }
+        final Entry removed = received.remove(key(requesterName));
+        if (removed != null) {
+            unschedule(removed);
+        }
+        if (received.isEmpty()) {
+            requests.remove(recipient);
+        }
+    }
+
+    /**
+     * Get the total number of pending requests.
+     *
+     * @return the number of pending requests
+     */
+    synchronized int size() {
+        return requests.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * Advance the timing wheel to the current time, removing and returning requests that have expired.
+     *
+     * @param now the current epoch second
+     * @return the expired requests
+     */
+    @NotNull
+    synchronized List<Entry> expire(long now) {
+        final List<Entry> expired = new ArrayList<>();
+        final long ticks = Math.min(now - lastTick, WHEEL_SLOTS);
+        for (long tick = 1; tick <= ticks; tick++) {
+            wheel.get(slot(lastTick + tick)).removeIf(entry -> {
+                if (entry.deadline() >= now) {
+                    return false;
+                }
+                final Map<String, Entry> received = requests.get(entry.recipient().getUuid());
+                if (received != null && received.remove(entry.requester(), entry) && received.isEmpty()) {
+                    requests.remove(entry.recipient().getUuid());
+                }
+                expired.add(entry);
+                return true;
+            });
+        }
+        lastTick = Math.max(lastTick, now);
+        return expired;
+    }
+
+    // Requests expire once the second after their expiry time has started, so are checked in that second's slot
+    private void schedule(@NotNull Entry entry) {
+        entry.slot = slot(Math.max(entry.deadline(), lastTick) + 1);
+        wheel.get(entry.slot).add(entry);
+    }
+
+    private void unschedule(@NotNull Entry entry) {
+        wheel.get(entry.slot).remove(entry);
+    }
+
+    private static int slot(long second) {
+        return (int) (second & (WHEEL_SLOTS - 1));
+    }
+
+    @NotNull
+    private static String key(@NotNull String requesterName) {
+        return requesterName.toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * A pending request. Entries are compared by identity, so the same request is never confused with another.
+     */
+    static final class Entry {
+
+        private final User recipient;
+        private final String requester;
+        private final TeleportRequest request;
+        private final long deadline;
+        private int slot;
+
+        private Entry(@NotNull User recipient, @NotNull String requester, @NotNull TeleportRequest request,
+                      long deadline) {
+            this.recipient = recipient;
+            this.requester = requester;
+            this.request = request;
+            this.deadline = deadline;
+        }
+
+        @NotNull
+        User recipient() {
+            return recipient;
+        }
+
+        @NotNull
+        String requester() {
+            return requester;
+        }
+
+        @NotNull
+        TeleportRequest request() {
+            return request;
+        }
+
+        long deadline() {
+            return deadline;
+        }
+
+    }
+
+}
@@ -29,13 +29,13 @@ import net.william278.huskhomes.teleport.TeleportRequest;
 import net.william278.huskhomes.user.OnlineUser;
 import net.william278.huskhomes.user.SavedUser;
 import net.william278.huskhomes.user.User;
+import net.william278.huskhomes.util.Task;
 import net.william278.huskhomes.util.TransactionResolver;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Instant;
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.Optional;
 
 /**
  * Manages {@link TeleportRequest}s between players.
@@ -44,12 +44,14 @@ public class RequestsManager {
 
     private final HuskHomes plugin;
 
-    // Map of user UUIDs to a queue of received teleport requests
-    private final Map<UUID, Deque<TeleportRequest>> requests;
+    // Received teleport requests, indexed by recipient and requester
+    private final PendingRequests requests;
+    @Nullable
+    private Task.Repeating expiryTask;
 
     public RequestsManager(@NotNull HuskHomes plugin) {
         this.plugin = plugin;
-        this.requests = new ConcurrentHashMap<>();
+        this.requests = new PendingRequests(Instant.now().getEpochSecond());
     }
 
     /**
@@ -69,7 +71,8 @@ public class RequestsManager {
      * @param recipient the {@link User} recipient of the request
      */
     public void addTeleportRequest(@NotNull TeleportRequest request, @NotNull User recipient) {
-        this.requests.computeIfAbsent(recipient.getUuid(), uuid -> new ConcurrentLinkedDeque<>()).addFirst(request);
+        this.requests.add(recipient, request, plugin.getSettings().getGeneral().getMaxPendingTeleportRequests());
+        this.startExpiryTask();
     }
 
     /**
@@ -79,10 +82,7 @@ public class RequestsManager {
      * @param recipient     the {@link User} recipient of the request
      */
     public void removeTeleportRequest(@NotNull String requesterName, @NotNull User recipient) {
-        this.requests.computeIfPresent(recipient.getUuid(), (uuid, requests) -> {
-            requests.removeIf(teleportRequest -> teleportRequest.getRequesterName().equalsIgnoreCase(requesterName));
-            return requests.isEmpty() ? null : requests;
-        });
+        this.requests.remove(recipient.getUuid(), requesterName);
     }
 
     /**
@@ -92,28 +92,46 @@ public class RequestsManager {
      * @return the last received request, if present
      */
     public Optional<TeleportRequest> getLastTeleportRequest(@NotNull User recipient) {
-        return this.requests.getOrDefault(recipient.getUuid(), new ConcurrentLinkedDeque<>()).stream().findFirst();
+        return this.requests.getLatest(recipient.getUuid());
     }
 
     /**
-     * Returns the last non-expired teleport request received from a requester.
-     * <ol>
-     * <li>If there are no unexpired requests sent by the requester, then the last expired request is returned.</li>
-     * <li>If there are no requests at all from the requester, then an empty optional is returned.</li>
-     * </ol>
+     * Returns the last teleport request received from a requester.
+     *
+     * <p>Expired requests are removed shortly after they expire, so the returned request may have
+     * {@link TeleportRequest#hasExpired() just expired}.
      *
      * @param requesterName the name of the requester
      * @param recipient     the recipient {@link User}
-     * @return the last unexpired teleport request received from the requester, if present
+     * @return the last teleport request received from the requester, if present
      */
     public Optional<TeleportRequest> getTeleportRequest(@NotNull String requesterName, @NotNull User recipient) {
-        return this.requests.getOrDefault(recipient.getUuid(), new ConcurrentLinkedDeque<>()).stream()
-                .filter(request -> request.getRequesterName().equalsIgnoreCase(requesterName))
-                .filter(request -> !request.hasExpired())
-                .findFirst()
-                .or(() -> this.requests.getOrDefault(recipient.getUuid(), new ConcurrentLinkedDeque<>()).stream()
-                        .filter(request -> request.getRequesterName().equalsIgnoreCase(requesterName))
-                        .findFirst());
+        return this.requests.get(recipient.getUuid(), requesterName);
+    }
+
+    /**
+     * Get the number of teleport requests pending on this server.
+     *
+     * @return the number of pending requests
+     * @since 4.10
+     */
+    public int getPendingRequestCount() {
+        return this.requests.size();
+    }
+
+    // Start removing expired requests every second, if not already
+    private synchronized void startExpiryTask() {
+        if (expiryTask == null) {
+            expiryTask = plugin.getRepeatingTask(this::expireRequests, 20L);
+            expiryTask.run();
+        }
+    }
+
+    // Remove requests that have expired, firing an event for each
+    private void expireRequests() {
+        requests.expire(Instant.now().getEpochSecond()).forEach(expired -> plugin.fireEvent(
+                plugin.getExpireTeleportRequestEvent(expired.recipient(), expired.request()), null
+        ));
     }
 
     public void sendTeleportAllRequest(@NotNull OnlineUser requester) {
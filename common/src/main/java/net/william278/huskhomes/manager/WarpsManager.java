@@ -21,40 +21,58 @@ package net.william278.huskhomes.manager;
 
 import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.command.ListCommand;
-import net.william278.huskhomes.network.Message;
-import net.william278.huskhomes.network.Payload;
+import net.william278.huskhomes.command.WarpListCommand;
+import net.william278.huskhomes.network.Broker;
 import net.william278.huskhomes.position.Position;
 import net.william278.huskhomes.position.PositionMeta;
 import net.william278.huskhomes.position.Warp;
 import net.william278.huskhomes.user.CommandUser;
+import net.william278.huskhomes.user.OnlineUser;
+import net.william278.huskhomes.util.SuggestionIndex;
 import net.william278.huskhomes.util.ValidationException;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
 
 public class WarpsManager {
     private final HuskHomes plugin;
     private final ConcurrentLinkedQueue<Warp> warps;
+    // Warp names as they were when cached, and a tab completion index of them
+    private final Map<UUID, String> warpNames;
+    private final SuggestionIndex warpSuggestions;
+    // Names of the cached warps each online user has permission to use, when warps are permission restricted
+    private final Map<UUID, Set<String>> usableWarps;
 
     protected WarpsManager(@NotNull HuskHomes plugin) {
         this.plugin = plugin;
-        this.warps = new ConcurrentLinkedQueue<>(plugin.getDatabase().getWarps());
+        this.warps = new ConcurrentLinkedQueue<>(fetchWarps());
+        this.warpNames = new HashMap<>();
+        this.warpSuggestions = new SuggestionIndex();
+        this.usableWarps = new ConcurrentHashMap<>();
+        this.warps.forEach(this::indexWarp);
     }
 
     public void cacheWarp(@NotNull Warp warp, boolean propagate) {
         warps.remove(warp);
         warps.add(warp);
+        this.indexWarp(warp);
         plugin.addMappedWarp(warp);
 
         plugin.getCommands().stream()
                 .filter(command -> command instanceof ListCommand)
                 .map(command -> (ListCommand) command)
                 .forEach(ListCommand::invalidateCaches);
+        usableWarps.clear();
         if (propagate) {
+            plugin.getBroker().ifPresent(Broker::invalidateWarps);
             this.propagateCacheUpdate(warp.getUuid());
         }
     }
@@ -62,6 +80,7 @@ public class WarpsManager {
     public void unCacheWarp(@NotNull UUID warpId, boolean propagate) {
         warps.removeIf(warp -> {
             if (warp.getUuid().equals(warpId)) {
+                this.unIndexWarp(warpId);
                 plugin.removeMappedWarp(warp);
                 return true;
             }
@@ -72,22 +91,36 @@ public class WarpsManager {
                 .filter(command -> command instanceof ListCommand)
                 .map(command -> (ListCommand) command)
                 .forEach(ListCommand::invalidateCaches);
+        usableWarps.clear();
         if (propagate) {
+            plugin.getBroker().ifPresent(Broker::invalidateWarps);
             this.propagateCacheUpdate(warpId);
         }
     }
 
     private void propagateCacheUpdate(@NotNull UUID warpId) {
-        plugin.getOnlineUsers().stream().findAny().ifPresent(user -> plugin.getBroker()
-                .ifPresent(b -> Message.builder()
-                        .type(Message.MessageType.UPDATE_WARP)
-                        .target(Message.TARGET_ALL, Message.TargetType.SERVER)
-                        .payload(Payload.string(warpId.toString()))
-                        .build().send(b, user)));
+        plugin.getBroker().ifPresent(b -> b.propagateWarpUpdate(warpId));
+    }
+
+    // Fetch warps through the broker, which may serve them from a cache shared across the network
+    @NotNull
+    private List<Warp> fetchWarps() {
+        return plugin.getBroker().map(Broker::getWarps).orElseGet(() -> plugin.getDatabase().getWarps());
     }
 
     public void updateWarpCache() {
-        plugin.getDatabase().getWarps().forEach(warp -> cacheWarp(warp, false));
+        fetchWarps().forEach(warp -> cacheWarp(warp, false));
+    }
+
+    /**
+     * Get all cached warps.
+     *
+     * @return the cached warps
+     * @since 4.10
+     */
+    @NotNull
+    public List<Warp> getCachedWarps() {
+        return List.copyOf(warps);
     }
 
     /**
@@ -104,14 +137,100 @@ public class WarpsManager {
             return getWarps();
         }
         return warps.stream()
-                .filter(warp -> warp.hasPermission(user))
                 .map(Warp::getName)
+                .filter(name -> canUseWarp(user, name))
                 .toList();
     }
 
+    /**
+     * Get whether a user can use a warp, respecting the {@code permission_restrict_warps} setting.
+     *
+     * <p>For online users, the result is answered from a per-user cache of usable warps, which is invalidated when
+     * warps change or when the user's permissions are recalculated.
+     *
+     * @param user     the user
+     * @param warpName the name of the warp
+     * @return {@code true} if the user can use the warp
+     * @since 4.10
+     */
+    public boolean canUseWarp(@NotNull CommandUser user, @NotNull String warpName) {
+        if (!plugin.getSettings().getGeneral().isPermissionRestrictWarps()) {
+            return true;
+        }
+        if (user instanceof OnlineUser online) {
+            return usableWarps.computeIfAbsent(online.getUuid(), uuid -> warps.stream()
+                    .map(Warp::getName)
+                    .filter(name -> Warp.hasPermission(online, name))
+                    .collect(Collectors.toUnmodifiableSet())
+            ).contains(warpName);
+        }
+        return Warp.hasPermission(user, warpName);
+    }
+
+    /**
+     * Invalidate the cached set of warps a user can use, for when their permissions change.
+     *
+     * @param user the UUID of the user
+     * @since 4.10
+     */
+    public void invalidateUsableWarps(@NotNull UUID user) {
+        usableWarps.remove(user);
+        plugin.getCommand(WarpListCommand.class).ifPresent(command -> command.invalidateCaches(user));
+    }
+
+    /**
+     * Invalidate the cached sets of warps all users can use, for when group permissions change.
+     *
+     * @since 4.10
+     */
+    public void invalidateUsableWarps() {
+        usableWarps.clear();
+        plugin.getCommand(WarpListCommand.class).ifPresent(ListCommand::invalidateCaches);
+    }
+
+    /**
+     * Get suggestions for the names of cached warps a user can use starting with a prefix, for tab completion.
+     *
+     * @param user   the user to get suggestions for
+     * @param prefix the prefix suggestions must start with, ignoring case
+     * @param limit  the maximum number of suggestions to return
+     * @return up to {@code limit} matching warp names
+     * @since 4.10
+     */
+    @NotNull
+    public List<String> suggestUsableWarps(@NotNull CommandUser user, @NotNull String prefix, int limit) {
+        if (!plugin.getSettings().getGeneral().isPermissionRestrictWarps()) {
+            return warpSuggestions.find(prefix, limit);
+        }
+        return warpSuggestions.find(prefix, limit, name -> canUseWarp(user, name));
+    }
+
+    // Record a cached warp's name, replacing any name it was previously cached under
+    private synchronized void indexWarp(@NotNull Warp warp) {
+        final String previous = warpNames.put(warp.getUuid(), warp.getName());
+        if (previous != null) {
+            warpSuggestions.remove(previous);
+        }
+        warpSuggestions.add(warp.getName());
+    }
+
+    // Forget a warp that has been removed from the cache
+    private synchronized void unIndexWarp(@NotNull UUID warpId) {
+        final String name = warpNames.remove(warpId);
+        if (name != null) {
+            warpSuggestions.remove(name);
+        }
+    }
+
+    private synchronized void clearWarpIndex() {
+        warpNames.clear();
+        warpSuggestions.clear();
+    }
+
     @NotNull
     public Warp createWarp(@NotNull String name, @NotNull Position position,
                            boolean overwrite) throws ValidationException {
+        this.validateDatabaseAvailable();
         final Optional<Warp> existingWarp = plugin.getDatabase().getWarp(name);
         if (existingWarp.isPresent() && !overwrite) {
             throw new ValidationException(ValidationException.Type.NAME_TAKEN);
@@ -147,25 +266,37 @@ public class WarpsManager {
     }
 
     public void deleteWarp(@NotNull Warp warp) {
+        this.validateDatabaseAvailable();
         plugin.getDatabase().deleteWarp(warp.getUuid());
         this.unCacheWarp(warp.getUuid(), true);
     }
 
     public int deleteAllWarps() {
+        this.validateDatabaseAvailable();
         final int deleted = plugin.getDatabase().deleteAllWarps();
         warps.clear();
+        this.clearWarpIndex();
         plugin.removeAllMappedWarps();
         plugin.getCommands().stream()
                 .filter(command -> command instanceof ListCommand)
                 .map(command -> (ListCommand) command)
                 .forEach(ListCommand::invalidateCaches);
+        usableWarps.clear();
+        plugin.getBroker().ifPresent(Broker::invalidateWarps);
         plugin.getManager().propagateCacheUpdate();
         return deleted;
     }
 
     public int deleteAllWarps(@NotNull String worldName, @NotNull String serverName) {
+        this.validateDatabaseAvailable();
         final int deleted = plugin.getDatabase().deleteAllWarps(worldName, serverName);
-        warps.removeIf(warp -> warp.getServer().equals(serverName) && warp.getWorld().getName().equals(worldName));
+        warps.removeIf(warp -> {
+            if (warp.getServer().equals(serverName) && warp.getWorld().getName().equals(worldName)) {
+                this.unIndexWarp(warp.getUuid());
+                return true;
+            }
+            return false;
+        });
         if (plugin.getSettings().getCrossServer().isEnabled() && plugin.getServerName().equals(serverName)) {
             plugin.removeAllMappedWarps(worldName);
         }
@@ -173,6 +304,8 @@ public class WarpsManager {
                 .filter(command -> command instanceof ListCommand)
                 .map(command -> (ListCommand) command)
                 .forEach(ListCommand::invalidateCaches);
+        usableWarps.clear();
+        plugin.getBroker().ifPresent(Broker::invalidateWarps);
         plugin.getManager().propagateCacheUpdate();
         return deleted;
     }
@@ -187,6 +320,7 @@ public class WarpsManager {
     }
 
     public void setWarpPosition(@NotNull Warp warp, @NotNull Position position) {
+        this.validateDatabaseAvailable();
         warp.update(position);
         plugin.getDatabase().saveWarp(warp);
         this.cacheWarp(warp, true);
@@ -202,6 +336,7 @@ public class WarpsManager {
     }
 
     public void setWarpName(@NotNull Warp warp, @NotNull String newName) throws ValidationException {
+        this.validateDatabaseAvailable();
         if (plugin.getDatabase().getWarp(newName).isPresent()) {
             throw new ValidationException(ValidationException.Type.NAME_TAKEN);
         }
@@ -221,6 +356,7 @@ public class WarpsManager {
     }
 
     public void setWarpDescription(@NotNull Warp warp, @NotNull String description) {
+        this.validateDatabaseAvailable();
         plugin.validateDescription(description);
         warp.getMeta().setDescription(description);
         plugin.getDatabase().saveWarp(warp);
@@ -237,9 +373,17 @@ public class WarpsManager {
     }
 
     public void setWarpMetaTags(@NotNull Warp warp, @NotNull Map<String, String> tags) {
+        this.validateDatabaseAvailable();
         warp.getMeta().setTags(tags);
         plugin.getDatabase().saveWarp(warp);
         this.cacheWarp(warp, true);
     }
 
+    // Refuse changes while the database is unavailable, as they would be lost once it recovers and caches reload
+    private void validateDatabaseAvailable() throws ValidationException {
+        if (plugin.getDatabase().isUnavailable()) {
+            throw new ValidationException(ValidationException.Type.DATABASE_UNAVAILABLE);
+        }
+    }
+
 }
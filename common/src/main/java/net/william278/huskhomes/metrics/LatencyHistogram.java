@@ -0,0 +1,141 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of latencies, in microseconds.
+ *
+ * <p>Each power of two is split into four buckets, so recorded values are accurate to within 25%. Recording a
+ * value is a few atomic increments, so histograms are cheap enough to update on every call.
+ *
+ * @since 4.10
+ */
+public class LatencyHistogram {
+
+    // Buckets per power of two
+    private static final int SUB_BUCKETS = 4;
+    // Enough buckets for latencies up to 2^26 microseconds (about a minute); longer latencies share the last bucket
+    private static final int BUCKETS = 100;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Record a latency.
+     *
+     * @param nanos the latency, in nanoseconds
+     */
+    public void record(long nanos) {
+        final long micros = Math.max(0, nanos / 1000);
+        buckets.incrementAndGet(getBucket(micros));
+        count.increment();
+        totalMicros.add(micros);
+        if (micros > maxMicros.get()) {
+            maxMicros.accumulateAndGet(micros, Math::max);
+        }
+    }
+
+    /**
+     * Clear all recorded latencies.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        totalMicros.reset();
+        maxMicros.set(0);
+    }
+
+    /**
+     * Take a snapshot of the recorded latencies.
+     *
+     * @return the snapshot
+     */
+    @NotNull
+    public Snapshot snapshot() {
+        final long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        return new Snapshot(
+                total, total == 0 ? 0 : totalMicros.sum() / Math.max(count.sum(), 1),
+                getPercentile(counts, total, 0.5), getPercentile(counts, total, 0.95),
+                getPercentile(counts, total, 0.99), maxMicros.get()
+        );
+    }
+
+    // Get the upper bound of the bucket containing a percentile
+    private static long getPercentile(long @NotNull [] counts, long total, double percentile) {
+        final long rank = (long) Math.ceil(total * percentile);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank && seen > 0) {
+                return getUpperBound(i);
+            }
+        }
+        return 0;
+    }
+
+    // Get the bucket for a latency; values below four are exact, then each power of two has four buckets
+    static int getBucket(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        final int mantissa = (int) (micros >>> (exponent - 2)) & (SUB_BUCKETS - 1);
+        return Math.min((exponent - 1) * SUB_BUCKETS + mantissa, BUCKETS - 1);
+    }
+
+    // Get the highest latency that falls in a bucket
+    static long getUpperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final int exponent = bucket / SUB_BUCKETS + 1;
+        final long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - 2);
+        return lower + (1L << (exponent - 2)) - 1;
+    }
+
+    /**
+     * A snapshot of recorded latencies. Latencies are in microseconds.
+     *
+     * @param count the number of recorded latencies
+     * @param mean  the mean latency
+     * @param p50   the median latency
+     * @param p95   the 95th percentile latency
+     * @param p99   the 99th percentile latency
+     * @param max   the highest latency
+     */
+    public record Snapshot(long count, long mean, long p50, long p95, long p99, long max) {
+    }
+
+}
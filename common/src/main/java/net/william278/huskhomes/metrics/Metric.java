@@ -0,0 +1,78 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.commons.text.WordUtils;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Metrics recorded by HuskHomes about the time taken by, and outcomes of, frequently run operations.
+ *
+ * @since 4.10
+ */
+@Getter
+@AllArgsConstructor
+public enum Metric {
+    DATABASE_CONNECTION(Kind.TIMER, "Time waiting for a database connection from the pool"),
+    DATABASE_QUERY(Kind.TIMER, "Time executing a database statement"),
+    BROKER_SEND(Kind.TIMER, "Time sending a cross-server message"),
+    BROKER_RECEIVE(Kind.TIMER, "Time handling a received cross-server message"),
+    TELEPORT_EVENT(Kind.TIMER, "Time from firing a teleport event until the teleport continues"),
+    TELEPORT_MOVE(Kind.TIMER, "Time moving a player, including waiting for the main thread and chunks to load"),
+    RTP_SEARCH(Kind.TIMER, "Time finding a safe random teleport location"),
+    RTP_ATTEMPTS(Kind.COUNTER, "Locations checked while finding safe random teleport locations"),
+    RTP_FAILURES(Kind.COUNTER, "Random teleport searches that found no safe location"),
+    REDIS_CACHE(Kind.CACHE, "Reads of homes and warps served from the Redis cache"),
+    SAFE_GROUND_CACHE(Kind.CACHE, "Safe ground checks served from the cache of checked block columns");
+
+    private final Kind kind;
+    private final String description;
+
+    /**
+     * Get the name of the metric for display.
+     *
+     * @return the display name
+     */
+    @NotNull
+    public String getDisplayName() {
+        return WordUtils.capitalizeFully(name().replaceAll("_", " "));
+    }
+
+    /**
+     * Kinds of metrics.
+     */
+    public enum Kind {
+        /**
+         * A histogram of how long an operation takes.
+         */
+        TIMER,
+        /**
+         * A count of how many times something has happened.
+         */
+        COUNTER,
+        /**
+         * A count of cache hits and misses.
+         */
+        CACHE
+    }
+
+}
@@ -0,0 +1,195 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+import java.util.OptionalDouble;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds the {@link Metric}s recorded by the plugin since it was enabled, or since they were last reset.
+ *
+ * @since 4.10
+ */
+public class MetricsRegistry {
+
+    private final LatencyHistogram[] timers = new LatencyHistogram[Metric.values().length];
+    private final LongAdder[] counters = new LongAdder[Metric.values().length];
+    private final LongAdder[] misses = new LongAdder[Metric.values().length];
+
+    public MetricsRegistry() {
+        for (Metric metric : Metric.values()) {
+            switch (metric.getKind()) {
+                case TIMER -> timers[metric.ordinal()] = new LatencyHistogram();
+                case COUNTER -> counters[metric.ordinal()] = new LongAdder();
+                case CACHE -> {
+                    counters[metric.ordinal()] = new LongAdder();
+                    misses[metric.ordinal()] = new LongAdder();
+                }
+            }
+        }
+    }
+
+    /**
+     * Record the time taken by an operation, from when it started until now.
+     *
+     * @param metric     the timer metric
+     * @param startNanos the {@link System#nanoTime()} when the operation started
+     */
+    public void record(@NotNull Metric metric, long startNanos) {
+        getTimer(metric).record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Increment a counter metric.
+     *
+     * @param metric the counter metric
+     */
+    public void increment(@NotNull Metric metric) {
+        counters[metric.ordinal()].increment();
+    }
+
+    /**
+     * Record a cache hit.
+     *
+     * @param metric the cache metric
+     */
+    public void hit(@NotNull Metric metric) {
+        counters[metric.ordinal()].increment();
+    }
+
+    /**
+     * Record a cache miss.
+     *
+     * @param metric the cache metric
+     */
+    public void miss(@NotNull Metric metric) {
+        misses[metric.ordinal()].increment();
+    }
+
+    /**
+     * Get the histogram of a timer metric.
+     *
+     * @param metric the timer metric
+     * @return the histogram
+     * @throws IllegalArgumentException if the metric is not a timer
+     */
+    @NotNull
+    public LatencyHistogram getTimer(@NotNull Metric metric) throws IllegalArgumentException {
+        final LatencyHistogram timer = timers[metric.ordinal()];
+        if (timer == null) {
+            throw new IllegalArgumentException(metric + " is not a timer");
+        }
+        return timer;
+    }
+
+    /**
+     * Get the value of a counter metric, or the number of hits of a cache metric.
+     *
+     * @param metric the counter or cache metric
+     * @return the count
+     */
+    public long getCount(@NotNull Metric metric) {
+        final LongAdder counter = counters[metric.ordinal()];
+        return counter != null ? counter.sum() : getTimer(metric).snapshot().count();
+    }
+
+    /**
+     * Get the proportion of lookups of a cache metric that were hits.
+     *
+     * @param metric the cache metric
+     * @return the hit rate between 0 and 1, or empty if there have been no lookups
+     */
+    public OptionalDouble getHitRate(@NotNull Metric metric) {
+        final long hits = counters[metric.ordinal()].sum();
+        final long total = hits + misses[metric.ordinal()].sum();
+        return total == 0 ? OptionalDouble.empty() : OptionalDouble.of((double) hits / total);
+    }
+
+    /**
+     * Check whether anything has been recorded for a metric.
+     *
+     * @param metric the metric
+     * @return {@code true} if the metric has been recorded
+     */
+    public boolean hasData(@NotNull Metric metric) {
+        return switch (metric.getKind()) {
+            case TIMER -> getTimer(metric).snapshot().count() > 0;
+            case COUNTER -> getCount(metric) > 0;
+            case CACHE -> getHitRate(metric).isPresent();
+        };
+    }
+
+    /**
+     * Summarize a metric as text for display, such as in {@code /huskhomes status}.
+     *
+     * @param metric the metric
+     * @return the summary
+     */
+    @NotNull
+    public String describe(@NotNull Metric metric) {
+        return switch (metric.getKind()) {
+            case TIMER -> {
+                final LatencyHistogram.Snapshot snapshot = getTimer(metric).snapshot();
+                yield snapshot.count() == 0 ? "No data" : String.format(
+                        Locale.ENGLISH, "p50 %s, p95 %s, p99 %s, max %s (%,d samples)",
+                        formatMicros(snapshot.p50()), formatMicros(snapshot.p95()),
+                        formatMicros(snapshot.p99()), formatMicros(snapshot.max()), snapshot.count()
+                );
+            }
+            case COUNTER -> String.format(Locale.ENGLISH, "%,d", getCount(metric));
+            case CACHE -> getHitRate(metric).stream()
+                    .mapToObj(rate -> String.format(Locale.ENGLISH, "%.1f%% hits (%,d lookups)", rate * 100,
+                            counters[metric.ordinal()].sum() + misses[metric.ordinal()].sum()))
+                    .findFirst().orElse("No data");
+        };
+    }
+
+    /**
+     * Clear all recorded metrics.
+     */
+    public void reset() {
+        for (Metric metric : Metric.values()) {
+            if (timers[metric.ordinal()] != null) {
+                timers[metric.ordinal()].reset();
+            }
+            if (counters[metric.ordinal()] != null) {
+                counters[metric.ordinal()].reset();
+            }
+            if (misses[metric.ordinal()] != null) {
+                misses[metric.ordinal()].reset();
+            }
+        }
+    }
+
+    @NotNull
+    private static String formatMicros(long micros) {
+        if (micros < 1000) {
+            return micros + "µs";
+        }
+        if (micros < 1_000_000) {
+            return String.format(Locale.ENGLISH, "%.1fms", micros / 1000d);
+        }
+        return String.format(Locale.ENGLISH, "%.2fs", micros / 1_000_000d);
+    }
+
+}
@@ -19,21 +19,43 @@
 
 package net.william278.huskhomes.network;
 
+import com.google.common.collect.Lists;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.metrics.Metric;
+import net.william278.huskhomes.position.Home;
+import net.william278.huskhomes.position.Warp;
+import net.william278.huskhomes.teleport.Teleport;
 import net.william278.huskhomes.user.OnlineUser;
+import net.william278.huskhomes.user.User;
+import org.jetbrains.annotations.Blocking;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 @Getter
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class Broker implements MessageHandler {
 
+    // The most home or warp IDs to send in one update message, keeping plugin messages well within their size limit
+    private static final int MAX_UPDATE_BATCH = 250;
+
     protected final HuskHomes plugin;
+    private final RtpServerSelector rtpServerSelector = new RtpServerSelector(this);
+    @Getter(AccessLevel.NONE)
+    private final Map<Message.MessageType, Set<UUID>> pendingUpdates = new EnumMap<>(Message.MessageType.class);
 
     /**
      * Handle an inbound {@link Message}.
@@ -45,6 +67,7 @@ public abstract class Broker implements MessageHandler {
         if (message.getSourceServer().equals(getServer())) {
             return;
         }
+        final long start = System.nanoTime();
         switch (message.getType()) {
             case REQUEST_USER_LIST -> handleRequestUserList(message, receiver);
             case UPDATE_USER_LIST -> handleUpdateUserList(message);
@@ -55,10 +78,14 @@ public abstract class Broker implements MessageHandler {
             case TELEPORT_REQUEST_RESPONSE -> handleTeleportRequestResponse(message, receiver);
             case UPDATE_HOME -> handleUpdateHome(message, receiver);
             case UPDATE_WARP -> handleUpdateWarp(message, receiver);
+            case UPDATE_HOMES -> handleUpdateHomes(message);
+            case UPDATE_WARPS -> handleUpdateWarps(message);
             case UPDATE_CACHES -> handleUpdateCaches();
             case RTP_LOCATION -> handleRtpLocation(message, receiver);
+            case SERVER_LOAD -> handleServerLoad(message);
             default -> plugin.log(Level.SEVERE, "Received unknown message type: " + message.getType());
         }
+        plugin.getMetricsRegistry().record(Metric.BROKER_RECEIVE, start);
     }
 
     /**
@@ -81,6 +108,189 @@ public abstract class Broker implements MessageHandler {
      */
     public abstract void close();
 
+    /**
+     * Called when a player has joined who can carry messages, for brokers that send messages through players.
+     *
+     * @param carrier the player who joined
+     * @since 4.10
+     */
+    public void onCarrierAvailable(@NotNull OnlineUser carrier) {
+    }
+
+    /**
+     * Tell other servers a home has been created, changed or deleted, so they update their caches.
+     *
+     * <p>Updates made within a short window of each other are sent together in one message, so bulk edits don't send
+     * a message (and cause a database query on each server) per home.
+     *
+     * @param homeId the ID of the home
+     * @since 4.10
+     */
+    public void propagateHomeUpdate(@NotNull UUID homeId) {
+        queueUpdate(Message.MessageType.UPDATE_HOMES, homeId);
+    }
+
+    /**
+     * Tell other servers a warp has been created, changed or deleted, so they update their caches.
+     *
+     * <p>Updates made within a short window of each other are sent together in one message, so bulk edits don't send
+     * a message (and cause a database query on each server) per warp.
+     *
+     * @param warpId the ID of the warp
+     * @since 4.10
+     */
+    public void propagateWarpUpdate(@NotNull UUID warpId) {
+        queueUpdate(Message.MessageType.UPDATE_WARPS, warpId);
+    }
+
+    // Add an update to the pending batch, scheduling the batch to be sent if it's the first
+    private void queueUpdate(@NotNull Message.MessageType type, @NotNull UUID id) {
+        final boolean first;
+        synchronized (pendingUpdates) {
+            first = pendingUpdates.isEmpty();
+            pendingUpdates.computeIfAbsent(type, t -> new LinkedHashSet<>()).add(id);
+        }
+        if (first) {
+            final long window = plugin.getSettings().getCrossServer().getUpdateBatchWindow();
+            CompletableFuture.delayedExecutor(window, TimeUnit.MILLISECONDS, plugin::runAsync)
+                    .execute(this::flushUpdates);
+        }
+    }
+
+    /**
+     * Send pending home and warp updates to other servers.
+     *
+     * @since 4.10
+     */
+    protected void flushUpdates() {
+        final Map<Message.MessageType, Set<UUID>> updates;
+        synchronized (pendingUpdates) {
+            if (pendingUpdates.isEmpty()) {
+                return;
+            }
+            updates = new EnumMap<>(pendingUpdates);
+            pendingUpdates.clear();
+        }
+
+        final OnlineUser sender = plugin.getOnlineUsers().stream().findAny().orElse(null);
+        updates.forEach((type, ids) -> Lists.partition(List.copyOf(ids), MAX_UPDATE_BATCH)
+                .forEach(batch -> Message.builder()
+                        .type(type)
+                        .target(Message.TARGET_ALL, Message.TargetType.SERVER)
+                        .payload(Payload.uuidList(batch))
+                        .build().send(this, sender)));
+    }
+
+    /**
+     * Get the in-flight cross-server {@link Teleport} of a user who has just joined this server.
+     *
+     * <p>By default, this is read from the database; brokers with their own storage may override this.
+     *
+     * @param user the user to get the current teleport of
+     * @return the current teleport, if the user is teleporting cross-server
+     * @since 4.10
+     */
+    public Optional<Teleport> getCurrentTeleport(@NotNull OnlineUser user) {
+        return plugin.getDatabase().getCurrentTeleport(user);
+    }
+
+    /**
+     * Set or clear the in-flight cross-server {@link Teleport} of a user before they change server.
+     *
+     * <p>By default, this is written to the database; brokers with their own storage may override this.
+     *
+     * @param user     the user to set the current teleport of
+     * @param teleport the teleport to set, or {@code null} to clear it
+     * @since 4.10
+     */
+    public void setCurrentTeleport(@NotNull User user, @Nullable Teleport teleport) {
+        plugin.getDatabase().setCurrentTeleport(user, teleport);
+    }
+
+    /**
+     * Clear the in-flight cross-server {@link Teleport} of a user.
+     *
+     * @param user the user to clear the current teleport of
+     * @since 4.10
+     */
+    public final void clearCurrentTeleport(@NotNull User user) {
+        this.setCurrentTeleport(user, null);
+    }
+
+    /**
+     * Get the public {@link Home}s on the network.
+     *
+     * <p>By default, these are read from the database; brokers with their own storage may override this to serve
+     * them from a shared cache, falling through to the database on a miss.
+     *
+     * @return the public homes
+     * @since 4.10
+     */
+    @Blocking
+    @NotNull
+    public List<Home> getPublicHomes() {
+        return plugin.getDatabase().getPublicHomes();
+    }
+
+    /**
+     * Get the {@link Warp}s on the network.
+     *
+     * <p>By default, these are read from the database; brokers with their own storage may override this to serve
+     * them from a shared cache, falling through to the database on a miss.
+     *
+     * @return the warps
+     * @since 4.10
+     */
+    @Blocking
+    @NotNull
+    public List<Warp> getWarps() {
+        return plugin.getDatabase().getWarps();
+    }
+
+    /**
+     * Get the {@link Home}s of a user.
+     *
+     * <p>By default, these are read from the database; brokers with their own storage may override this to serve
+     * them from a shared cache, falling through to the database on a miss.
+     *
+     * @param user the user to get the homes of
+     * @return the user's homes
+     * @since 4.10
+     */
+    @Blocking
+    @NotNull
+    public List<Home> getHomes(@NotNull User user) {
+        return plugin.getDatabase().getHomes(user);
+    }
+
+    /**
+     * Mark the shared cache of public homes as stale after they have been changed in the database.
+     *
+     * @since 4.10
+     */
+    @Blocking
+    public void invalidatePublicHomes() {
+    }
+
+    /**
+     * Mark the shared cache of warps as stale after they have been changed in the database.
+     *
+     * @since 4.10
+     */
+    @Blocking
+    public void invalidateWarps() {
+    }
+
+    /**
+     * Mark the shared cache of a user's homes as stale after they have been changed in the database.
+     *
+     * @param user the user whose homes changed, or {@code null} if the homes of any number of users changed
+     * @since 4.10
+     */
+    @Blocking
+    public void invalidateHomes(@Nullable User user) {
+    }
+
     /**
      * Get the sub-channel ID for broker communications
      *
@@ -121,7 +331,8 @@ public abstract class Broker implements MessageHandler {
     @Getter
     public enum Type {
         PLUGIN_MESSAGE("Plugin Messages"),
-        REDIS("Redis");
+        REDIS("Redis"),
+        REDIS_STREAMS("Redis Streams");
 
         @NotNull
         private final String displayName;
@@ -129,6 +340,16 @@ public abstract class Broker implements MessageHandler {
         Type(@NotNull String displayName) {
             this.displayName = displayName;
         }
+
+        /**
+         * Get whether this broker type is backed by Redis, as required for cross-server RTP.
+         *
+         * @return {@code true} if this is {@link #REDIS} or {@link #REDIS_STREAMS}
+         * @since 4.10
+         */
+        public boolean isRedis() {
+            return this == REDIS || this == REDIS_STREAMS;
+        }
     }
 
 }
\ No newline at end of file
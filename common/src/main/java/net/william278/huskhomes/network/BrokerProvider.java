@@ -41,6 +41,7 @@ public interface BrokerProvider {
 
         switch (getPlugin().getSettings().getCrossServer().getBrokerType()) {
             case REDIS -> setBroker(new RedisBroker(getPlugin()));
+            case REDIS_STREAMS -> setBroker(new RedisStreamsBroker(getPlugin()));
             case PLUGIN_MESSAGE -> setBroker(new PluginMessageBroker(getPlugin()));
         }
         getBroker().ifPresent(Broker::initialize);
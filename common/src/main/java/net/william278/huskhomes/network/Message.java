@@ -24,6 +24,7 @@ import com.google.gson.annotations.SerializedName;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import net.william278.huskhomes.metrics.Metric;
 import net.william278.huskhomes.user.OnlineUser;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -75,7 +76,9 @@ public class Message {
     public void send(@NotNull Broker broker, @Nullable OnlineUser sender) {
         this.sender = sender != null ? sender.getName() : broker.getServer();
         this.sourceServer = broker.getServer();
+        final long start = System.nanoTime();
         broker.send(this, sender);
+        broker.plugin.getMetricsRegistry().record(Metric.BROKER_SEND, start);
     }
 
     /**
@@ -154,8 +157,11 @@ public class Message {
         UPDATE_HOME,
         UPDATE_WARP,
         UPDATE_CACHES,
+        UPDATE_HOMES,
+        UPDATE_WARPS,
         REQUEST_RTP_LOCATION,
         RTP_LOCATION,
+        SERVER_LOAD,
     }
 
 }
\ No newline at end of file
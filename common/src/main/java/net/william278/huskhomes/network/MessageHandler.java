@@ -31,7 +31,10 @@ import net.william278.huskhomes.util.TransactionResolver;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -123,11 +126,51 @@ public interface MessageHandler {
                 });
     }
 
+    // Handle a batch of home updates, fetching all the updated homes at once
+    default void handleUpdateHomes(@NotNull Message message) {
+        message.getPayload().getUuidList().ifPresent(ids -> {
+            // If the homes couldn't be fetched, leave the cache be rather than treating them all as deleted
+            final Optional<List<Home>> fetched = getPlugin().getDatabase().getHomes(ids);
+            if (fetched.isEmpty()) {
+                return;
+            }
+
+            final Set<UUID> updated = new HashSet<>();
+            fetched.get().forEach(home -> {
+                getPlugin().getManager().homes().cacheHome(home, false);
+                updated.add(home.getUuid());
+            });
+            ids.stream().filter(id -> !updated.contains(id))
+                    .forEach(id -> getPlugin().getManager().homes().unCacheHome(id, false));
+        });
+    }
+
+    // Handle a batch of warp updates, fetching all the updated warps at once
+    default void handleUpdateWarps(@NotNull Message message) {
+        message.getPayload().getUuidList().ifPresent(ids -> {
+            // If the warps couldn't be fetched, leave the cache be rather than treating them all as deleted
+            final Optional<List<Warp>> fetched = getPlugin().getDatabase().getWarps(ids);
+            if (fetched.isEmpty()) {
+                return;
+            }
+
+            final Set<UUID> updated = new HashSet<>();
+            fetched.get().forEach(warp -> {
+                getPlugin().getManager().warps().cacheWarp(warp, false);
+                updated.add(warp.getUuid());
+            });
+            ids.stream().filter(id -> !updated.contains(id))
+                    .forEach(id -> getPlugin().getManager().warps().unCacheWarp(id, false));
+        });
+    }
+
     default void handleRtpRequestLocation(@NotNull Message message) {
         final Optional<World> requested = message.getPayload().getString().flatMap(
                 name -> getPlugin().getWorlds().stream().filter(w -> w.getName().equalsIgnoreCase(name)).findFirst());
+        final Runnable served = getBroker().getRtpServerSelector().trackServing();
         requested.map(world -> getPlugin().getRandomTeleportEngine().getRandomPosition(world, new String[0]))
                 .orElse(CompletableFuture.completedFuture(Optional.empty()))
+                .whenComplete((teleport, throwable) -> served.run())
                 .thenAccept(
                         (teleport) -> Message.builder()
                                 .type(Message.MessageType.RTP_LOCATION)
@@ -139,6 +182,11 @@ public interface MessageHandler {
     }
 
     default void handleRtpLocation(@NotNull Message message, @NotNull OnlineUser receiver) {
+        // Ignore late answers from servers the request has since failed over from
+        if (!getBroker().getRtpServerSelector().completeLocation(receiver, message.getSourceServer())) {
+            return;
+        }
+
         final Optional<Position> position = message.getPayload().getPosition();
         if (position.isEmpty()) {
             getPlugin().getLocales().getLocale("error_rtp_randomization_timeout")
@@ -153,6 +201,10 @@ public interface MessageHandler {
                 .buildAndComplete(true);
     }
 
+    default void handleServerLoad(@NotNull Message message) {
+        message.getPayload().getServerLoad().ifPresent(getBroker().getRtpServerSelector()::handleServerLoad);
+    }
+
     default void handleUpdateCaches() {
         getPlugin().getManager().homes().updatePublicHomeCache();
         getPlugin().getManager().warps().updateWarpCache();
@@ -0,0 +1,96 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.network;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * A bounded queue of messages waiting for a player to carry them, as plugin messages can only be sent through a
+ * connected player.
+ *
+ * <p>Messages that would have the same effect on other servers are coalesced, keeping only the latest: updates to the
+ * same home or warp (or batch of them), and otherwise messages of the same type to the same target. Once full, the
+ * oldest messages are dropped.
+ */
+final class OutboundQueue {
+
+    private final int capacity;
+    private final LinkedHashMap<String, Message> messages = new LinkedHashMap<>();
+    private int dropped;
+
+    OutboundQueue(int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    synchronized void add(@NotNull Message message) {
+        final String key = getKey(message);
+        messages.remove(key);
+        messages.put(key, message);
+        if (messages.size() > capacity) {
+            final Iterator<Message> eldest = messages.values().iterator();
+            eldest.next();
+            eldest.remove();
+            dropped++;
+        }
+    }
+
+    /**
+     * Remove and return all queued messages, oldest first.
+     *
+     * @return the messages
+     */
+    @NotNull
+    synchronized List<Message> drain() {
+        final List<Message> drained = new ArrayList<>(messages.values());
+        messages.clear();
+        return drained;
+    }
+
+    synchronized int size() {
+        return messages.size();
+    }
+
+    /**
+     * Get the number of messages dropped since the last call, as the queue was full.
+     *
+     * @return the number of dropped messages
+     */
+    synchronized int takeDropped() {
+        final int count = dropped;
+        dropped = 0;
+        return count;
+    }
+
+    @NotNull
+    private static String getKey(@NotNull Message message) {
+        final String key = message.getType() + ":" + message.getTargetType() + ":" + message.getTarget();
+        return switch (message.getType()) {
+            case UPDATE_HOME, UPDATE_WARP -> key + ":" + message.getPayload().getString().orElse("");
+            case UPDATE_HOMES, UPDATE_WARPS -> key + ":" + message.getPayload().getUuidList().orElse(List.of());
+            default -> key;
+        };
+    }
+
+}
@@ -32,6 +32,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Represents a payload sent in a cross-server {@link Message}.
@@ -55,6 +56,14 @@ public class Payload {
     @Expose
     @SerializedName("user_list")
     private List<User> userList;
+    @Nullable
+    @Expose
+    @SerializedName("server_load")
+    private ServerLoad serverLoad;
+    @Nullable
+    @Expose
+    @SerializedName("uuid_list")
+    private List<UUID> uuidList;
 
     @NotNull
     public static Payload empty() {
@@ -96,6 +105,20 @@ public class Payload {
         return payload;
     }
 
+    @NotNull
+    public static Payload serverLoad(@Nullable ServerLoad serverLoad) {
+        final Payload payload = new Payload();
+        payload.serverLoad = serverLoad;
+        return payload;
+    }
+
+    @NotNull
+    public static Payload uuidList(@Nullable List<UUID> uuids) {
+        final Payload payload = new Payload();
+        payload.uuidList = uuids;
+        return payload;
+    }
+
     public Optional<String> getString() {
         return Optional.ofNullable(string);
     }
@@ -116,4 +139,12 @@ public class Payload {
         return Optional.ofNullable(userList);
     }
 
+    public Optional<ServerLoad> getServerLoad() {
+        return Optional.ofNullable(serverLoad);
+    }
+
+    public Optional<List<UUID>> getUuidList() {
+        return Optional.ofNullable(uuidList);
+    }
+
 }
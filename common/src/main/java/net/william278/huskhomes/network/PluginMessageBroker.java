@@ -25,6 +25,7 @@ import com.google.common.io.ByteStreams;
 import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.user.OnlineUser;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.*;
 import java.util.logging.Level;
@@ -46,6 +47,11 @@ public class PluginMessageBroker extends Broker {
      */
     public static final String BUNGEE_CHANNEL_ID = "BungeeCord";
 
+    // The most messages to hold while there are no players online to carry them
+    private static final int QUEUE_CAPACITY = 256;
+
+    private final OutboundQueue queue = new OutboundQueue(QUEUE_CAPACITY);
+
     protected PluginMessageBroker(@NotNull HuskHomes plugin) {
         super(plugin);
     }
@@ -77,8 +83,40 @@ public class PluginMessageBroker extends Broker {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If there is no sender to carry the message, server-targeted messages are queued until a player joins and
+     * the queue is {@link #onCarrierAvailable(OnlineUser) flushed}. Player-targeted messages are dropped, as there is no point
+     * delivering them late.
+     */
     @Override
-    protected void send(@NotNull Message message, @NotNull OnlineUser sender) {
+    protected void send(@NotNull Message message, @Nullable OnlineUser sender) {
+        if (sender == null) {
+            if (message.getTargetType() == Message.TargetType.SERVER) {
+                queue.add(message);
+            }
+            return;
+        }
+        write(message, sender);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Sends all queued messages through the player.
+     */
+    @Override
+    public void onCarrierAvailable(@NotNull OnlineUser carrier) {
+        final int dropped = queue.takeDropped();
+        if (dropped > 0) {
+            plugin.log(Level.WARNING, "Dropped " + dropped + " cross-server messages sent while no players were "
+                                      + "online, as too many were queued");
+        }
+        queue.drain().forEach(message -> write(message, carrier));
+    }
+
+    private void write(@NotNull Message message, @NotNull OnlineUser sender) {
         final ByteArrayDataOutput messageWriter = ByteStreams.newDataOutput();
         messageWriter.writeUTF(message.getTargetType().getPluginMessageChannel());
         messageWriter.writeUTF(message.getTarget());
@@ -112,6 +150,7 @@ public class PluginMessageBroker extends Broker {
 
     @Override
     public void close() {
+        flushUpdates();
     }
 
 }
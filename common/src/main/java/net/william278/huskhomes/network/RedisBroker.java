@@ -19,9 +19,24 @@
 
 package net.william278.huskhomes.network;
 
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.annotations.Expose;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
 import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.metrics.Metric;
+import net.william278.huskhomes.position.Home;
+import net.william278.huskhomes.position.Position;
+import net.william278.huskhomes.position.PositionMeta;
+import net.william278.huskhomes.position.SavedPosition;
+import net.william278.huskhomes.position.Warp;
+import net.william278.huskhomes.teleport.Teleport;
+import net.william278.huskhomes.teleport.TeleportationException;
 import net.william278.huskhomes.user.OnlineUser;
+import net.william278.huskhomes.user.User;
 import org.jetbrains.annotations.Blocking;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -29,17 +44,34 @@ import redis.clients.jedis.*;
 import redis.clients.jedis.exceptions.JedisException;
 import redis.clients.jedis.util.Pool;
 
+import java.time.Instant;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.logging.Level;
+import java.util.stream.Collectors;
 
 import static net.william278.huskhomes.config.Settings.CrossServerSettings.RedisSettings;
 
 /**
  * Redis PubSub broker implementation.
+ *
+ * @see RedisStreamsBroker
  */
 public class RedisBroker extends PluginMessageBroker {
 
+    // How long an in-flight cross-server teleport is kept for the destination server to pick up (in seconds)
+    private static final long TELEPORT_HANDOFF_EXPIRY = 60;
+    // How long cached homes and warps are kept before being re-read from the database (in seconds)
+    private static final long POSITION_CACHE_EXPIRY = 600;
+    private static final TypeToken<List<CachedPosition>> CACHED_POSITIONS = new TypeToken<>() {
+    };
+
     private final Subscriber subscriber;
 
     public RedisBroker(@NotNull HuskHomes plugin) {
@@ -62,11 +94,14 @@ public class RedisBroker extends PluginMessageBroker {
                                             + "Please check the supplied credentials in the config file", e);
         }
 
-        // Subscribe using a thread (rather than a task)
+        // Start listening for messages
         subscriber.enable(jedisPool);
-        final Thread thread = new Thread(subscriber::subscribe, "huskhomes:redis_subscriber");
-        thread.setDaemon(true);
-        thread.start();
+        listen();
+
+        // Publish this server's load for cross-server RTP
+        if (plugin.getSettings().getRtp().isCrossServer()) {
+            getRtpServerSelector().start();
+        }
     }
 
     @NotNull
@@ -98,18 +133,313 @@ public class RedisBroker extends PluginMessageBroker {
                 : new JedisPool(config, host, port, 0, password, useSSL);
     }
 
+    /**
+     * Start listening for messages from other servers, once connected to Redis.
+     *
+     * @since 4.10
+     */
+    protected void listen() {
+        // Subscribe using a thread (rather than a task)
+        final Thread thread = new Thread(subscriber::subscribe, "huskhomes:redis_subscriber");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Get the pool of connections to Redis.
+     *
+     * @return the connection pool
+     * @since 4.10
+     */
+    @NotNull
+    protected Pool<Jedis> getPool() {
+        return subscriber.jedisPool;
+    }
+
     @Override
     protected void send(@NotNull Message message, @Nullable OnlineUser sender) {
         plugin.runAsync(() -> subscriber.send(message));
     }
 
+    /**
+     * Handle a message received from Redis.
+     *
+     * @param encoded the JSON-encoded message
+     * @since 4.10
+     */
+    protected void receive(@NotNull String encoded) {
+        final Message message;
+        try {
+            message = plugin.getMessageFromJson(encoded);
+        } catch (Exception e) {
+            plugin.log(Level.WARNING, "Failed to decode message from Redis: " + e.getMessage());
+            return;
+        }
+
+        if (message.getTargetType() == Message.TargetType.PLAYER) {
+            plugin.getOnlineUsers().stream()
+                    .filter(online -> message.getTarget().equals(Message.TARGET_ALL)
+                                      || online.getName().equals(message.getTarget()))
+                    .forEach(receiver -> handle(receiver, message));
+            return;
+        }
+
+        if (message.getTarget().equals(plugin.getServerName())
+            || message.getTarget().equals(Message.TARGET_ALL)) {
+
+            if (message.getType() == Message.MessageType.REQUEST_RTP_LOCATION) {
+                handleRtpRequestLocation(message);
+                return;
+            }
+            if (message.getType() == Message.MessageType.SERVER_LOAD) {
+                handleServerLoad(message);
+                return;
+            }
+
+            plugin.getOnlineUsers().stream()
+                    .findAny()
+                    .ifPresent(receiver -> handle(receiver, message));
+        }
+    }
+
     @Override
     @Blocking
     public void close() {
         super.close();
+        getRtpServerSelector().stop();
         subscriber.disable();
     }
 
+    @Blocking
+    @Override
+    public Optional<Teleport> getCurrentTeleport(@NotNull OnlineUser user) {
+        final String json;
+        try (Jedis jedis = subscriber.jedisPool.getResource()) {
+            json = jedis.get(getTeleportHandoffKey(user.getUuid()));
+        } catch (JedisException e) {
+            plugin.log(Level.WARNING, "Failed to fetch the current teleport of " + user.getName() + " from Redis", e);
+            return Optional.empty();
+        }
+        if (json == null) {
+            return Optional.empty();
+        }
+
+        try {
+            final TeleportHandoff handoff = plugin.getGson().fromJson(json, TeleportHandoff.class);
+            return Optional.of(Teleport.builder(plugin)
+                    .teleporter(user)
+                    .target(handoff.target)
+                    .type(Teleport.Type.getTeleportType(handoff.type).orElse(Teleport.Type.TELEPORT))
+                    .updateLastPosition(false)
+                    .toTeleport());
+        } catch (JsonSyntaxException e) {
+            plugin.log(Level.WARNING, "Failed to decode the current teleport of " + user.getName(), e);
+        } catch (TeleportationException e) {
+            e.displayMessage(user);
+        }
+        return Optional.empty();
+    }
+
+    @Blocking
+    @Override
+    public void setCurrentTeleport(@NotNull User user, @Nullable Teleport teleport) {
+        final String key = getTeleportHandoffKey(user.getUuid());
+        try (Jedis jedis = subscriber.jedisPool.getResource()) {
+            if (teleport == null) {
+                jedis.del(key);
+                return;
+            }
+
+            final Position target = (Position) teleport.getTarget();
+            jedis.setex(key, TELEPORT_HANDOFF_EXPIRY, plugin.getGson().toJson(new TeleportHandoff(
+                    Position.at(target, target.getServer()), teleport.getType().getTypeId()
+            )));
+        } catch (JedisException e) {
+            plugin.log(Level.WARNING, "Failed to set the current teleport of " + user.getName() + " in Redis", e);
+        }
+    }
+
+    // Get the key used to store a user's in-flight cross-server teleport
+    @NotNull
+    private String getTeleportHandoffKey(@NotNull UUID uuid) {
+        return "%s:teleport:%s".formatted(getSubChannelId(), uuid);
+    }
+
+    @Blocking
+    @NotNull
+    @Override
+    public List<Home> getPublicHomes() {
+        return getCachedPositions("public_homes", List.of(getCacheVersionKey("public_homes")),
+                plugin.getDatabase()::loadPublicHomes, plugin.getDatabase()::getCachedPublicHomes,
+                CachedPosition::toHome);
+    }
+
+    @Blocking
+    @NotNull
+    @Override
+    public List<Warp> getWarps() {
+        return getCachedPositions("warps", List.of(getCacheVersionKey("warps")),
+                plugin.getDatabase()::loadWarps, plugin.getDatabase()::getCachedWarps, CachedPosition::toWarp);
+    }
+
+    @Blocking
+    @NotNull
+    @Override
+    public List<Home> getHomes(@NotNull User user) {
+        return getCachedPositions("homes:" + user.getUuid(),
+                List.of(getCacheVersionKey("homes"), getCacheVersionKey("homes:" + user.getUuid())),
+                () -> plugin.getDatabase().loadHomes(user), () -> plugin.getDatabase().getCachedHomes(user),
+                CachedPosition::toHome);
+    }
+
+    @Blocking
+    @Override
+    public void invalidatePublicHomes() {
+        this.invalidateCache("public_homes");
+    }
+
+    @Blocking
+    @Override
+    public void invalidateWarps() {
+        this.invalidateCache("warps");
+    }
+
+    @Blocking
+    @Override
+    public void invalidateHomes(@Nullable User user) {
+        this.invalidateCache(user != null ? "homes:" + user.getUuid() : "homes");
+    }
+
+    // Read a list of positions from the cache entry for the current versions, loading and caching them on a miss.
+    // If the database can't be read, the positions cached in memory are returned and not written to Redis, so other
+    // servers don't read an empty or stale list until the versions change
+    @NotNull
+    private <T extends SavedPosition> List<T> getCachedPositions(@NotNull String name,
+                                                                 @NotNull List<String> versionKeys,
+                                                                 @NotNull Supplier<Optional<List<T>>> loader,
+                                                                 @NotNull Supplier<List<T>> fallback,
+                                                                 @NotNull Function<CachedPosition, T> mapper) {
+        final String key;
+        try (Jedis jedis = subscriber.jedisPool.getResource()) {
+            final List<String> versions = jedis.mget(versionKeys.toArray(String[]::new));
+            key = "%s:cache:%s:%s".formatted(getSubChannelId(), name, versions.stream()
+                    .map(version -> version != null ? version : "0")
+                    .collect(Collectors.joining(".")));
+            final String json = jedis.get(key);
+            if (json != null) {
+                final List<CachedPosition> cached = plugin.getGson().fromJson(json, CACHED_POSITIONS.getType());
+                plugin.getMetricsRegistry().hit(Metric.REDIS_CACHE);
+                return cached.stream().map(mapper).toList();
+            }
+        } catch (JedisException | JsonSyntaxException e) {
+            plugin.log(Level.WARNING, "Failed to read cached " + name + " from Redis", e);
+            return loader.get().orElseGet(fallback);
+        }
+
+        // Cache miss; load from the database and populate the entry for the versions read above
+        plugin.getMetricsRegistry().miss(Metric.REDIS_CACHE);
+        final Optional<List<T>> loaded = loader.get();
+        if (loaded.isEmpty()) {
+            return fallback.get();
+        }
+        final List<T> positions = loaded.get();
+        try (Jedis jedis = subscriber.jedisPool.getResource()) {
+            jedis.setex(key, POSITION_CACHE_EXPIRY, plugin.getGson().toJson(
+                    positions.stream().map(CachedPosition::new).toList(), CACHED_POSITIONS.getType()
+            ));
+        } catch (JedisException e) {
+            plugin.log(Level.WARNING, "Failed to cache " + name + " in Redis", e);
+        }
+        return positions;
+    }
+
+    // Bump the version of a cache, so readers stop using entries written for the previous version
+    private void invalidateCache(@NotNull String name) {
+        try (Jedis jedis = subscriber.jedisPool.getResource()) {
+            jedis.incr(getCacheVersionKey(name));
+        } catch (JedisException e) {
+            plugin.log(Level.WARNING, "Failed to invalidate cached " + name + " in Redis", e);
+        }
+    }
+
+    // Get the key holding the current version of a cache
+    @NotNull
+    private String getCacheVersionKey(@NotNull String name) {
+        return "%s:cache:%s:version".formatted(getSubChannelId(), name);
+    }
+
+    /**
+     * A home or warp, stored in the Redis cache.
+     */
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    private static class CachedPosition {
+        @Expose
+        private Position position;
+        @Expose
+        private UUID uuid;
+        @Expose
+        private String name;
+        @Expose
+        private String description;
+        @Expose
+        private String tags;
+        @Expose
+        @SerializedName("creation_time")
+        private long creationTime;
+        @Expose
+        @Nullable
+        private User owner;
+        @Expose
+        @SerializedName("public")
+        private boolean isPublic;
+
+        private CachedPosition(@NotNull SavedPosition saved) {
+            this.position = Position.at(saved, saved.getServer());
+            this.uuid = saved.getUuid();
+            this.name = saved.getMeta().getName();
+            this.description = saved.getMeta().getDescription();
+            this.tags = saved.getMeta().getSerializedTags();
+            this.creationTime = saved.getMeta().getCreationTime().toEpochMilli();
+            if (saved instanceof Home home) {
+                this.owner = home.getOwner();
+                this.isPublic = home.isPublic();
+            }
+        }
+
+        @NotNull
+        private PositionMeta getMeta() {
+            return PositionMeta.from(name, description, Instant.ofEpochMilli(creationTime), tags);
+        }
+
+        @NotNull
+        private Home toHome() {
+            return Home.from(
+                    position.getX(), position.getY(), position.getZ(), position.getYaw(), position.getPitch(),
+                    position.getWorld(), position.getServer(), getMeta(), uuid, Objects.requireNonNull(owner), isPublic
+            );
+        }
+
+        @NotNull
+        private Warp toWarp() {
+            return Warp.from(
+                    position.getX(), position.getY(), position.getZ(), position.getYaw(), position.getPitch(),
+                    position.getWorld(), position.getServer(), getMeta(), uuid
+            );
+        }
+    }
+
+    /**
+     * An in-flight cross-server teleport, stored for the destination server to read when the user joins it.
+     */
+    @AllArgsConstructor
+    @NoArgsConstructor(access = AccessLevel.PRIVATE)
+    private static class TeleportHandoff {
+        @Expose
+        private Position target;
+        @Expose
+        private int type;
+    }
+
 
     @AllArgsConstructor
     private static class Subscriber extends JedisPubSub {
@@ -138,7 +468,9 @@ public class RedisBroker extends PluginMessageBroker {
             if (jedisPool != null && !jedisPool.isClosed()) {
                 jedisPool.close();
             }
-            this.unsubscribe();
+            if (this.isSubscribed()) {
+                this.unsubscribe();
+            }
         }
 
         @Blocking
@@ -194,34 +526,7 @@ public class RedisBroker extends PluginMessageBroker {
 
         @Override
         public void onMessage(@NotNull String channel, @NotNull String encoded) {
-            final Message message;
-            try {
-                message = broker.plugin.getMessageFromJson(encoded);
-            } catch (Exception e) {
-                broker.plugin.log(Level.WARNING, "Failed to decode message from Redis: " + e.getMessage());
-                return;
-            }
-
-            if (message.getTargetType() == Message.TargetType.PLAYER) {
-                broker.plugin.getOnlineUsers().stream()
-                        .filter(online -> message.getTarget().equals(Message.TARGET_ALL)
-                                          || online.getName().equals(message.getTarget()))
-                        .forEach(receiver -> broker.handle(receiver, message));
-                return;
-            }
-
-            if (message.getTarget().equals(broker.plugin.getServerName())
-                || message.getTarget().equals(Message.TARGET_ALL)) {
-
-                if (message.getType() == Message.MessageType.REQUEST_RTP_LOCATION) {
-                    broker.handleRtpRequestLocation(message);
-                    return;
-                }
-
-                broker.plugin.getOnlineUsers().stream()
-                        .findAny()
-                        .ifPresent(receiver -> broker.handle(receiver, message));
-            }
+            broker.receive(encoded);
         }
     }
 
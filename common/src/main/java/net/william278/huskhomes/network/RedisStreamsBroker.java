@@ -0,0 +1,195 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.network;
+
+import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.user.OnlineUser;
+import org.jetbrains.annotations.Blocking;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.StreamEntryID;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.params.XAddParams;
+import redis.clients.jedis.params.XReadGroupParams;
+import redis.clients.jedis.resps.StreamEntry;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import static net.william278.huskhomes.config.Settings.CrossServerSettings.RedisSettings;
+
+/**
+ * Redis Streams broker implementation.
+ *
+ * <p>Rather than being published over pub/sub, messages are added to a stream that each server reads through its own
+ * consumer group. Redis keeps track of which messages each server has read, so messages sent while a server was
+ * disconnected from Redis or restarting are handled once it catches up, rather than being lost.
+ *
+ * @since 4.10
+ */
+public class RedisStreamsBroker extends RedisBroker {
+
+    // How long to wait for new messages per read (in milliseconds); kept under the socket timeout of Sentinel pools
+    private static final int READ_BLOCK_TIME = 1000;
+    private static final int RECONNECTION_TIME = 8000;
+    private static final String MESSAGE_FIELD = "message";
+
+    private final RedisSettings.StreamSettings settings;
+    private volatile boolean listening;
+
+    public RedisStreamsBroker(@NotNull HuskHomes plugin) {
+        super(plugin);
+        this.settings = plugin.getSettings().getCrossServer().getRedis().getStreams();
+    }
+
+    @Override
+    protected void listen() {
+        this.listening = true;
+        final Thread thread = new Thread(this::consume, "huskhomes:redis_stream_consumer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    protected void send(@NotNull Message message, @Nullable OnlineUser sender) {
+        plugin.runAsync(() -> {
+            try (Jedis jedis = getPool().getResource()) {
+                jedis.xadd(getStreamKey(),
+                        XAddParams.xAddParams().maxLen(settings.getMaxLength()).approximateTrimming(),
+                        Map.of(MESSAGE_FIELD, plugin.getGson().toJson(message)));
+            } catch (JedisException e) {
+                plugin.log(Level.WARNING, "Failed to add a message to the Redis stream", e);
+            }
+        });
+    }
+
+    @Override
+    @Blocking
+    public void close() {
+        this.listening = false;
+        super.close();
+    }
+
+    // Read and handle messages from the stream until closed, reconnecting if the connection is lost
+    @Blocking
+    private void consume() {
+        boolean reconnected = false;
+        while (listening && !getPool().isClosed()) {
+            try (Jedis jedis = getPool().getResource()) {
+                createGroup(jedis);
+                if (reconnected) {
+                    plugin.log(Level.INFO, "Redis connection is alive again");
+                }
+
+                // Start with messages read but not acknowledged before the connection was last lost
+                StreamEntryID cursor = new StreamEntryID();
+                boolean pending = true;
+                while (listening) {
+                    final List<StreamEntry> entries = read(jedis, pending
+                            ? cursor : StreamEntryID.XREADGROUP_UNDELIVERED_ENTRY, !pending);
+                    if (pending) {
+                        if (entries.isEmpty()) {
+                            pending = false;
+                            continue;
+                        }
+                        cursor = entries.get(entries.size() - 1).getID();
+                    }
+                    handle(jedis, entries);
+                }
+            } catch (JedisException e) {
+                if (!listening) {
+                    return;
+                }
+                plugin.log(Level.WARNING, "Redis Server connection lost. Attempting reconnect in %ss..."
+                        .formatted(RECONNECTION_TIME / 1000), e);
+                reconnected = true;
+                try {
+                    Thread.sleep(RECONNECTION_TIME);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    // Create this server's consumer group, starting from new messages, if it doesn't already exist
+    private void createGroup(@NotNull Jedis jedis) throws JedisException {
+        try {
+            jedis.xgroupCreate(getStreamKey(), getGroupName(), StreamEntryID.XGROUP_LAST_ENTRY, true);
+        } catch (JedisDataException e) {
+            if (e.getMessage() == null || !e.getMessage().startsWith("BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+
+    // Read a batch of messages after an entry ID, optionally waiting for new messages to arrive
+    @NotNull
+    private List<StreamEntry> read(@NotNull Jedis jedis, @NotNull StreamEntryID cursor, boolean block) {
+        final XReadGroupParams params = XReadGroupParams.xReadGroupParams().count(settings.getBatchSize());
+        if (block) {
+            params.block(READ_BLOCK_TIME);
+        }
+        final List<Map.Entry<String, List<StreamEntry>>> streams = jedis.xreadGroup(
+                getGroupName(), getGroupName(), params, Map.of(getStreamKey(), cursor)
+        );
+        return streams == null || streams.isEmpty() ? List.of() : streams.get(0).getValue();
+    }
+
+    // Handle a batch of messages, skipping those too old to replay, then acknowledge them all at once
+    private void handle(@NotNull Jedis jedis, @NotNull List<StreamEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        final long cutoff = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(settings.getReplayWindow());
+        for (StreamEntry entry : entries) {
+            // Entries trimmed from the stream while pending are returned without fields
+            final String encoded = entry.getFields() != null ? entry.getFields().get(MESSAGE_FIELD) : null;
+            if (encoded == null || entry.getID().getTime() < cutoff) {
+                continue;
+            }
+            try {
+                receive(encoded);
+            } catch (Throwable e) {
+                plugin.log(Level.WARNING, "Failed to handle a message from the Redis stream", e);
+            }
+        }
+        jedis.xack(getStreamKey(), getGroupName(),
+                entries.stream().map(StreamEntry::getID).toArray(StreamEntryID[]::new));
+    }
+
+    // Get the key of the stream messages are sent over
+    @NotNull
+    private String getStreamKey() {
+        return "%s:stream".formatted(getSubChannelId());
+    }
+
+    // Get the name of this server's consumer group, also used as its consumer name within the group
+    @NotNull
+    private String getGroupName() {
+        return plugin.getServerName();
+    }
+
+}
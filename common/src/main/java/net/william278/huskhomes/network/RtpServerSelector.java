@@ -0,0 +1,227 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.network;
+
+import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.position.World;
+import net.william278.huskhomes.user.OnlineUser;
+import net.william278.huskhomes.util.Task;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Chooses which server to send cross-server random teleport requests to, based on the {@link ServerLoad} beacons
+ * each server periodically publishes, and fails requests over to another server if one doesn't respond in time.
+ *
+ * @since 4.10
+ */
+public class RtpServerSelector {
+
+    /**
+     * How often servers publish their load, in ticks.
+     */
+    public static final long BEACON_INTERVAL_TICKS = 100L;
+
+    /**
+     * How long a server's load is considered current for after it was received, in milliseconds.
+     */
+    public static final long BEACON_EXPIRY_MILLIS = BEACON_INTERVAL_TICKS * 50L * 3L;
+
+    /**
+     * How long to wait for a server to respond to a random teleport location request, in ticks.
+     */
+    public static final long REQUEST_TIMEOUT_TICKS = 200L;
+
+    private final Broker broker;
+    private final Map<String, ReceivedLoad> loads = new ConcurrentHashMap<>();
+    private final Map<UUID, PendingRequest> pendingRequests = new ConcurrentHashMap<>();
+    private final AtomicInteger servingRequests = new AtomicInteger();
+    @Nullable
+    private Task.Repeating beacon;
+
+    protected RtpServerSelector(@NotNull Broker broker) {
+        this.broker = broker;
+    }
+
+    /**
+     * Start periodically publishing this server's load.
+     */
+    public void start() {
+        this.stop();
+        this.beacon = getPlugin().getRepeatingTask(this::publishLoad, BEACON_INTERVAL_TICKS);
+        this.beacon.run();
+    }
+
+    /**
+     * Stop publishing this server's load, and forget the loads of other servers.
+     */
+    public void stop() {
+        if (beacon != null) {
+            beacon.cancel();
+            beacon = null;
+        }
+        loads.clear();
+    }
+
+    // Publish this server's load to all servers (including this one)
+    private void publishLoad() {
+        final HuskHomes plugin = getPlugin();
+        final ServerLoad load = new ServerLoad(
+                plugin.getServerName(),
+                plugin.getAverageTickTime().orElse(-1),
+                plugin.getOnlineUsers().size(),
+                servingRequests.get(),
+                plugin.getWorlds().stream()
+                        .filter(world -> !plugin.getSettings().getRtp().isWorldRtpRestricted(world))
+                        .map(World::getName)
+                        .toList()
+        );
+        this.handleServerLoad(load);
+        Message.builder()
+                .type(Message.MessageType.SERVER_LOAD)
+                .target(Message.TARGET_ALL, Message.TargetType.SERVER)
+                .payload(Payload.serverLoad(load))
+                .build().send(broker, null);
+    }
+
+    /**
+     * Record the load published by a server.
+     *
+     * @param load the server's load
+     */
+    public void handleServerLoad(@NotNull ServerLoad load) {
+        loads.put(load.getServer(), new ReceivedLoad(load, System.currentTimeMillis()));
+    }
+
+    /**
+     * Get the most recently published loads of servers, excluding any that have expired.
+     *
+     * @return a map of server names to their load
+     */
+    @NotNull
+    public Map<String, ServerLoad> getServerLoads() {
+        final long now = System.currentTimeMillis();
+        final Map<String, ServerLoad> current = new HashMap<>();
+        loads.forEach((server, received) -> {
+            if (now - received.receivedAt() <= BEACON_EXPIRY_MILLIS) {
+                current.put(server, received.load());
+            }
+        });
+        return current;
+    }
+
+    /**
+     * Select the least loaded server to send a random teleport into a world to.
+     *
+     * <p>Servers that haven't published a load recently, or that have published that they don't accept random
+     * teleports into the world, aren't selected. Servers that aren't lagging are preferred, then servers with the
+     * fewest random teleports in progress, the lowest tick time (ranking servers that don't know theirs last), and
+     * the fewest online players. If no eligible server has published its load, one is chosen at random.
+     *
+     * @param worldName the name of the world to teleport into
+     * @param eligible  the servers configured to accept random teleports into the world
+     * @param excluded  servers to exclude, such as ones that have already failed to respond
+     * @return the selected server, if any
+     */
+    public Optional<String> selectServer(@NotNull String worldName, @NotNull Collection<String> eligible,
+                                         @NotNull Set<String> excluded) {
+        final List<String> candidates = eligible.stream().filter(server -> !excluded.contains(server)).toList();
+        final Map<String, ServerLoad> current = getServerLoads();
+        if (candidates.stream().noneMatch(current::containsKey)) {
+            return candidates.isEmpty() ? Optional.empty()
+                    : Optional.of(candidates.get(ThreadLocalRandom.current().nextInt(candidates.size())));
+        }
+        return candidates.stream()
+                .map(current::get)
+                .filter(load -> load != null && load.hasRtpWorld(worldName))
+                .min(Comparator.comparing(ServerLoad::isLagging)
+                        .thenComparingInt(ServerLoad::getPendingRtpRequests)
+                        .thenComparingDouble(ServerLoad::getComparableTickTime)
+                        .thenComparingInt(ServerLoad::getOnlinePlayers))
+                .map(ServerLoad::getServer);
+    }
+
+    /**
+     * Wait for a server to respond to a random teleport location request.
+     *
+     * @param teleporter the user being teleported
+     * @param server     the server the request was sent to
+     * @param onTimeout  called if the server doesn't respond in time
+     */
+    public void awaitLocation(@NotNull OnlineUser teleporter, @NotNull String server, @NotNull Runnable onTimeout) {
+        final PendingRequest previous = pendingRequests.put(teleporter.getUuid(), new PendingRequest(
+                server, getPlugin().runAsyncDelayed(() -> {
+                    if (pendingRequests.remove(teleporter.getUuid()) != null) {
+                        loads.remove(server);
+                        onTimeout.run();
+                    }
+                }, REQUEST_TIMEOUT_TICKS)
+        ));
+        if (previous != null) {
+            previous.timeout().cancel();
+        }
+    }
+
+    /**
+     * Mark a random teleport location request as answered.
+     *
+     * @param teleporter the user being teleported
+     * @param server     the server that answered
+     * @return {@code false} if the user wasn't waiting for an answer from the server, such as if it timed out
+     */
+    public boolean completeLocation(@NotNull OnlineUser teleporter, @NotNull String server) {
+        final PendingRequest pending = pendingRequests.get(teleporter.getUuid());
+        if (pending == null || !pending.server().equals(server)
+                || !pendingRequests.remove(teleporter.getUuid(), pending)) {
+            return false;
+        }
+        pending.timeout().cancel();
+        return true;
+    }
+
+    /**
+     * Track a random teleport location request this server has started serving, so it can be included in the load
+     * published to other servers.
+     *
+     * @return a runnable to call once the request has been served
+     */
+    @NotNull
+    public Runnable trackServing() {
+        servingRequests.incrementAndGet();
+        return servingRequests::decrementAndGet;
+    }
+
+    @NotNull
+    private HuskHomes getPlugin() {
+        return broker.getPlugin();
+    }
+
+    private record ReceivedLoad(@NotNull ServerLoad load, long receivedAt) {
+    }
+
+    private record PendingRequest(@NotNull String server, @NotNull Task.Async timeout) {
+    }
+
+}
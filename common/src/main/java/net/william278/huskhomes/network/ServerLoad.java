@@ -0,0 +1,94 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.network;
+
+import com.google.gson.annotations.Expose;
+import com.google.gson.annotations.SerializedName;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * A lightweight snapshot of a server's load, periodically published to other servers so that cross-server random
+ * teleports can be sent to the least loaded server.
+ *
+ * @since 4.10
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ServerLoad {
+
+    /**
+     * Servers whose average tick time is above this, in milliseconds, are considered to be lagging.
+     */
+    public static final double LAGGING_TICK_TIME = 50d;
+
+    @Expose
+    private String server;
+    @Expose
+    @SerializedName("tick_time")
+    private double tickTime;
+    @Expose
+    @SerializedName("online_players")
+    private int onlinePlayers;
+    @Expose
+    @SerializedName("pending_rtp_requests")
+    private int pendingRtpRequests;
+    @Expose
+    @SerializedName("rtp_worlds")
+    private List<String> rtpWorlds;
+
+    /**
+     * Get whether the server's average tick time is known and above {@link #LAGGING_TICK_TIME}.
+     *
+     * @return {@code true} if the server is lagging
+     */
+    public boolean isLagging() {
+        return tickTime > LAGGING_TICK_TIME;
+    }
+
+    /**
+     * Get the server's average tick time for comparing it with other servers. Servers that can't measure their tick
+     * time, such as those running Spigot, publish a negative tick time; these are treated as the slowest, so servers
+     * with a measured tick time are preferred.
+     *
+     * @return the tick time in milliseconds, or {@link Double#MAX_VALUE} if it isn't known
+     */
+    public double getComparableTickTime() {
+        return tickTime < 0 ? Double.MAX_VALUE : tickTime;
+    }
+
+    /**
+     * Get whether the server has published that it accepts random teleports into a world.
+     *
+     * @param worldName the name of the world
+     * @return {@code true} if the server accepts random teleports into the world
+     */
+    public boolean hasRtpWorld(@NotNull String worldName) {
+        return rtpWorlds != null && rtpWorlds.stream()
+                .anyMatch(world -> world.replace("minecraft:", "").equalsIgnoreCase(worldName));
+    }
+
+}
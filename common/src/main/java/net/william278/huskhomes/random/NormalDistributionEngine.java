@@ -21,7 +21,8 @@ package net.william278.huskhomes.random;
 
 import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.config.Settings;
-import net.william278.huskhomes.network.Broker;
+import net.william278.huskhomes.metrics.Metric;
+import net.william278.huskhomes.metrics.MetricsRegistry;
 import net.william278.huskhomes.position.Location;
 import net.william278.huskhomes.position.Position;
 import net.william278.huskhomes.position.World;
@@ -49,7 +50,7 @@ public final class NormalDistributionEngine extends RandomTeleportEngine {
 
         if (plugin.getSettings().getRtp().isCrossServer()
                 && (plugin.getSettings().getCrossServer().isEnabled()
-                && plugin.getSettings().getCrossServer().getBrokerType() != Broker.Type.REDIS)) {
+                && !plugin.getSettings().getCrossServer().getBrokerType().isRedis())) {
             plugin.log(Level.WARNING, "Cross-server /rtp support has been disabled as "
                     + "a REDIS message broker is required for this feature.");
         }
@@ -131,16 +132,23 @@ public final class NormalDistributionEngine extends RandomTeleportEngine {
 
     @Override
     public CompletableFuture<Optional<Position>> getRandomPosition(@NotNull World world, @NotNull String[] args) {
+        final MetricsRegistry metrics = plugin.getMetricsRegistry();
         return plugin.supplyAsync(() -> {
+            final long start = System.nanoTime();
+            metrics.increment(Metric.RTP_ATTEMPTS);
             Optional<Location> location = generateSafeLocation(world).join();
             int attempts = 0;
             while (location.isEmpty()) {
+                metrics.increment(Metric.RTP_ATTEMPTS);
                 location = generateSafeLocation(world).join();
                 if (attempts >= maxAttempts) {
+                    metrics.increment(Metric.RTP_FAILURES);
+                    metrics.record(Metric.RTP_SEARCH, start);
                     return Optional.empty();
                 }
                 attempts++;
             }
+            metrics.record(Metric.RTP_SEARCH, start);
             return location.map(resolved -> Position.at(resolved, plugin.getServerName()));
         });
     }
@@ -26,6 +26,7 @@ import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.command.BackCommand;
 import net.william278.huskhomes.config.Settings;
 import net.william278.huskhomes.event.ITeleportEvent;
+import net.william278.huskhomes.metrics.Metric;
 import net.william278.huskhomes.network.Message;
 import net.william278.huskhomes.network.Payload;
 import net.william278.huskhomes.network.PluginMessageBroker;
@@ -136,8 +137,10 @@ public class Teleport implements Completable {
                 return;
             }
 
-            plugin.getDatabase().setCurrentTeleport(teleporter, this);
-            plugin.getBroker().ifPresent(b -> ((PluginMessageBroker) b).changeServer(teleporter, target.getServer()));
+            plugin.getBroker().ifPresent(b -> {
+                b.setCurrentTeleport(teleporter, this);
+                ((PluginMessageBroker) b).changeServer(teleporter, target.getServer());
+            });
         });
     }
 
@@ -187,7 +190,11 @@ public class Teleport implements Completable {
 
     // Fire the teleport event
     private void fireEvent(@NotNull ThrowingConsumer<ITeleportEvent> afterFired) {
-        plugin.fireEvent(plugin.getTeleportEvent(this), afterFired);
+        final long start = System.nanoTime();
+        plugin.fireEvent(plugin.getTeleportEvent(this), (event) -> {
+            plugin.getMetricsRegistry().record(Metric.TELEPORT_EVENT, start);
+            afterFired.accept(event);
+        });
     }
 
     // Check economy actions
@@ -77,7 +77,18 @@ public class TeleportRequest {
      * @return {@code true} the request has passed its expiry time
      */
     public boolean hasExpired() {
-        return Instant.now().isAfter(Instant.ofEpochSecond(expiryTime));
+        return Instant.now().isAfter(getExpiry());
+    }
+
+    /**
+     * Returns the time after which the request expires.
+     *
+     * @return the request expiry time
+     * @since 4.10
+     */
+    @NotNull
+    public Instant getExpiry() {
+        return Instant.ofEpochSecond(expiryTime);
     }
 
 
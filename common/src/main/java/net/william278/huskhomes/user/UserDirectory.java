@@ -0,0 +1,131 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.user;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * A bounded, thread-safe directory of recently seen users, for resolving usernames (<i>case-insensitive</i>) and
+ * account {@link UUID}s without a database query.
+ *
+ * <p>Once full, the least recently used entry is evicted to make room for new ones. Users are stored by value, so
+ * the directory never holds on to an {@link OnlineUser} after they leave.
+ *
+ * @since 4.10
+ */
+public class UserDirectory {
+
+    private final int capacity;
+    private final LinkedHashMap<UUID, User> byUuid;
+    private final Map<String, User> byName = new HashMap<>();
+
+    public UserDirectory(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Directory capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.byUuid = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Add a user to the directory, or update their name if it has changed.
+     *
+     * <p>If another account was last seen with the same name, it is replaced, as names are unique at any one time.
+     *
+     * @param user the user to add
+     */
+    public synchronized void put(@NotNull User user) {
+        final User entry = User.of(user.getUuid(), user.getName());
+        final User previous = byUuid.put(entry.getUuid(), entry);
+        if (previous != null) {
+            byName.remove(getKey(previous.getName()), previous);
+        }
+
+        final User namesake = byName.put(getKey(entry.getName()), entry);
+        if (namesake != null && !namesake.equals(entry)) {
+            byUuid.remove(namesake.getUuid());
+        }
+
+        if (byUuid.size() > capacity) {
+            final User eldest = byUuid.values().iterator().next();
+            byUuid.remove(eldest.getUuid());
+            byName.remove(getKey(eldest.getName()), eldest);
+        }
+    }
+
+    /**
+     * Get a user by their username.
+     *
+     * @param name the username (<i>case-insensitive</i>)
+     * @return the user, if they are in the directory
+     */
+    public synchronized Optional<User> get(@NotNull String name) {
+        final User user = byName.get(getKey(name));
+        if (user != null) {
+            // Mark the user as recently used
+            byUuid.get(user.getUuid());
+        }
+        return Optional.ofNullable(user);
+    }
+
+    /**
+     * Get a user by their account {@link UUID}.
+     *
+     * @param uuid the account {@link UUID}
+     * @return the user, if they are in the directory
+     */
+    public synchronized Optional<User> get(@NotNull UUID uuid) {
+        return Optional.ofNullable(byUuid.get(uuid));
+    }
+
+    /**
+     * Remove a user from the directory.
+     *
+     * @param uuid the account {@link UUID} of the user to remove
+     */
+    public synchronized void remove(@NotNull UUID uuid) {
+        final User user = byUuid.remove(uuid);
+        if (user != null) {
+            byName.remove(getKey(user.getName()), user);
+        }
+    }
+
+    /**
+     * Get the number of users in the directory.
+     *
+     * @return the number of users
+     */
+    public synchronized int size() {
+        return byUuid.size();
+    }
+
+    @NotNull
+    private static String getKey(@NotNull String name) {
+        return name.toLowerCase(Locale.ENGLISH);
+    }
+
+}
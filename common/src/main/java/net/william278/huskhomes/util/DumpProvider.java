@@ -21,8 +21,8 @@ package net.william278.huskhomes.util;
 
 import net.william278.huskhomes.HuskHomes;
 import net.william278.huskhomes.hook.Hook;
-import net.william278.huskhomes.position.Home;
-import net.william278.huskhomes.position.Warp;
+import net.william278.huskhomes.metrics.Metric;
+import net.william278.huskhomes.metrics.MetricsRegistry;
 import net.william278.huskhomes.user.CommandUser;
 import net.william278.huskhomes.user.OnlineUser;
 import net.william278.toilet.DumpOptions;
@@ -36,9 +36,11 @@ import org.jetbrains.annotations.NotNull;
 
 import static net.william278.toilet.DumpOptions.*;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 public interface DumpProvider {
@@ -91,7 +93,7 @@ public interface DumpProvider {
     @Blocking
     private PluginStatus getPluginStatus() {
         return PluginStatus.builder()
-                .blocks(List.of(getSystemStatus(), getHookStatus(), getPublicHomes(), getWarps()))
+                .blocks(List.of(getSystemStatus(), getPerformance(), getHookStatus(), getPublicHomes(), getWarps()))
                 .build();
     }
 
@@ -116,17 +118,21 @@ public interface DumpProvider {
         );
     }
 
+    @NotNull
+    private PluginStatus.MapStatusBlock getPerformance() {
+        final MetricsRegistry metrics = getPlugin().getMetricsRegistry();
+        return new PluginStatus.MapStatusBlock(
+                Arrays.stream(Metric.values()).collect(Collectors.toMap(
+                        Metric::getDisplayName, metrics::describe, (a, b) -> a, LinkedHashMap::new
+                )), "Performance", "fa6-solid:gauge"
+        );
+    }
+
     @NotNull
     @Blocking
     private PluginStatus.ChartStatusBlock getPublicHomes() {
-        final List<Home> homes = getPlugin().getDatabase().getLocalPublicHomes(getPlugin());
-        final Set<String> worlds = homes.stream().map(l -> l.getWorld().getName()).collect(Collectors.toSet());
         return new PluginStatus.ChartStatusBlock(
-                worlds.stream().collect(Collectors.toMap(
-                        PluginStatus.ChartKey::new,
-                        (w) -> (int) homes.stream().filter(h -> h.getWorld().getName().equals(w)).count(),
-                        Integer::sum
-                )),
+                getChartData(getPlugin().getDatabase().getHomeCountsByWorld(getPlugin().getServerName(), true)),
                 PluginStatus.ChartType.BAR, "Public Homes by World", "ic:round-home"
         );
     }
@@ -134,18 +140,19 @@ public interface DumpProvider {
     @NotNull
     @Blocking
     private PluginStatus.ChartStatusBlock getWarps() {
-        final List<Warp> warps = getPlugin().getDatabase().getLocalWarps(getPlugin());
-        final Set<String> worlds = warps.stream().map(l -> l.getWorld().getName()).collect(Collectors.toSet());
         return new PluginStatus.ChartStatusBlock(
-                worlds.stream().collect(Collectors.toMap(
-                        PluginStatus.ChartKey::new,
-                        (w) -> (int) warps.stream().filter(h -> h.getWorld().getName().equals(w)).count(),
-                        Integer::sum
-                )),
+                getChartData(getPlugin().getDatabase().getWarpCountsByWorld(getPlugin().getServerName())),
                 PluginStatus.ChartType.BAR, "Warps by World", "mdi:location"
         );
     }
 
+    @NotNull
+    private static Map<PluginStatus.ChartKey, Integer> getChartData(@NotNull Map<String, Long> counts) {
+        final Map<PluginStatus.ChartKey, Integer> data = new HashMap<>();
+        counts.forEach((world, count) -> data.put(new PluginStatus.ChartKey(world), count.intValue()));
+        return data;
+    }
+
     @NotNull
     @Blocking
     private PluginStatus.ListStatusBlock getHookStatus() {
@@ -25,11 +25,18 @@ import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextColor;
 import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.database.Database;
 import net.william278.huskhomes.importer.Importer;
+import net.william278.huskhomes.metrics.Metric;
+import net.william278.huskhomes.metrics.MetricsRegistry;
 import net.william278.huskhomes.position.Home;
 import org.apache.commons.text.WordUtils;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 public enum StatusLine {
@@ -45,6 +52,7 @@ public enum StatusLine {
     MESSAGE_BROKER_TYPE(plugin -> Component.text(plugin.getSettings().getCrossServer().getBrokerType().getDisplayName())),
     SERVER_NAME(plugin -> Component.text(plugin.getServerName())),
     DATABASE_TYPE(plugin -> Component.text(plugin.getSettings().getDatabase().getType().getDisplayName())),
+    DATABASE_CONNECTION(plugin -> getDatabaseConnection(plugin.getDatabase())),
     IS_DATABASE_LOCAL(plugin -> getLocalhostBoolean(plugin.getSettings().getDatabase().getCredentials().getHost())),
     USING_REDIS_SENTINEL(plugin -> getBoolean(!plugin.getSettings().getCrossServer().getRedis().getSentinel()
             .getMasterName().isBlank())),
@@ -54,6 +62,9 @@ public enum StatusLine {
     IS_REDIS_LOCAL(plugin -> getLocalhostBoolean(plugin.getSettings().getCrossServer().getRedis().getHost())),
     ECONOMY_MODE(plugin -> getBoolean(plugin.isUsingEconomy())),
     HOME_DELIMITER(plugin -> Component.text(Home.getDelimiter())),
+    LOCAL_HOMES(plugin -> getCount(plugin.getDatabase().getHomeCountsByWorld(plugin.getServerName(), false))),
+    LOCAL_PUBLIC_HOMES(plugin -> getCount(plugin.getDatabase().getHomeCountsByWorld(plugin.getServerName(), true))),
+    LOCAL_WARPS(plugin -> getCount(plugin.getDatabase().getWarpCountsByWorld(plugin.getServerName()))),
     LOADED_HOOKS(plugin -> Component.join(
             JoinConfiguration.commas(true),
             plugin.getHooks().stream().filter(hook -> !(hook instanceof Importer))
@@ -72,14 +83,31 @@ public enum StatusLine {
 
     @NotNull
     public Component get(@NotNull HuskHomes plugin) {
+        return getLine(WordUtils.capitalizeFully(name().replaceAll("_", " ")), supplier.apply(plugin));
+    }
+
+    /**
+     * Get status lines for each performance metric that has recorded data.
+     *
+     * @param plugin the plugin instance
+     * @return the metric status lines
+     * @since 4.10
+     */
+    @NotNull
+    public static List<Component> getMetrics(@NotNull HuskHomes plugin) {
+        final MetricsRegistry metrics = plugin.getMetricsRegistry();
+        return Arrays.stream(Metric.values()).filter(metrics::hasData)
+                .map(metric -> getLine(metric.getDisplayName(), Component.text(metrics.describe(metric))))
+                .toList();
+    }
+
+    @NotNull
+    private static Component getLine(@NotNull String name, @NotNull Component value) {
         return Component
                 .text("•").appendSpace()
-                .append(Component.text(
-                        WordUtils.capitalizeFully(name().replaceAll("_", " ")),
-                        TextColor.color(0x848484)
-                ))
+                .append(Component.text(name, TextColor.color(0x848484)))
                 .append(Component.text(':')).append(Component.space().color(NamedTextColor.WHITE))
-                .append(supplier.apply(plugin));
+                .append(value);
     }
 
     @NotNull
@@ -92,6 +120,24 @@ public enum StatusLine {
         return Component.text(value ? "Yes" : "No", value ? NamedTextColor.GREEN : NamedTextColor.RED);
     }
 
+    @NotNull
+    private static Component getCount(@NotNull Map<String, Long> countsByWorld) {
+        final long total = countsByWorld.values().stream().mapToLong(Long::longValue).sum();
+        return Component.text(total + " (in " + countsByWorld.size() + " worlds)");
+    }
+
+    @NotNull
+    private static Component getDatabaseConnection(@NotNull Database database) {
+        return database.getCircuitBreaker().map(breaker -> switch (breaker.getState()) {
+            case CLOSED -> Component.text("Connected", NamedTextColor.GREEN);
+            case HALF_OPEN -> Component.text("Reconnecting", NamedTextColor.YELLOW);
+            case OPEN -> Component.text("Unavailable (" + breaker.getFailures() + " failures, retrying in "
+                                        + breaker.getRetryIn(TimeUnit.SECONDS) + "s, "
+                                        + database.getJournaledPositionCount() + " updates held)",
+                    NamedTextColor.RED);
+        }).orElse(Component.text("Connected (circuit breaker disabled)"));
+    }
+
     @NotNull
     private static Component getLocalhostBoolean(@NotNull String value) {
         return getBoolean(value.equals("127.0.0.1") || value.equals("0.0.0.0")
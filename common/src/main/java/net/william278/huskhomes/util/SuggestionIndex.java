@@ -0,0 +1,151 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+
+/**
+ * A sorted, thread-safe set of tab completion suggestions that can be looked up by case-insensitive prefix.
+ *
+ * <p>Suggestions are reference counted, so the same suggestion may be added more than once and will only stop being
+ * suggested once it has been removed as many times as it was added.
+ *
+ * @since 4.10
+ */
+public class SuggestionIndex {
+
+    // Orders case-insensitively first, so every suggestion starting with a given prefix is in one contiguous range
+    private static final Comparator<String> ORDER = String.CASE_INSENSITIVE_ORDER
+            .thenComparing(Comparator.naturalOrder());
+
+    private final ConcurrentNavigableMap<String, Integer> suggestions = new ConcurrentSkipListMap<>(ORDER);
+
+    /**
+     * Create an index containing the given suggestions.
+     *
+     * @param suggestions the suggestions to index
+     * @return the index
+     */
+    @NotNull
+    public static SuggestionIndex of(@NotNull Collection<String> suggestions) {
+        final SuggestionIndex index = new SuggestionIndex();
+        suggestions.forEach(index::add);
+        return index;
+    }
+
+    /**
+     * Add a suggestion to the index.
+     *
+     * @param suggestion the suggestion to add
+     */
+    public void add(@NotNull String suggestion) {
+        suggestions.merge(suggestion, 1, Integer::sum);
+    }
+
+    /**
+     * Remove a suggestion from the index.
+     *
+     * @param suggestion the suggestion to remove
+     */
+    public void remove(@NotNull String suggestion) {
+        suggestions.computeIfPresent(suggestion, (s, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * Get how many times a suggestion has been added to the index.
+     *
+     * @param suggestion the suggestion
+     * @return the number of times the suggestion is present in the index
+     */
+    public int count(@NotNull String suggestion) {
+        return suggestions.getOrDefault(suggestion, 0);
+    }
+
+    /**
+     * Remove all suggestions from the index.
+     */
+    public void clear() {
+        suggestions.clear();
+    }
+
+    /**
+     * Get the number of distinct suggestions in the index.
+     *
+     * @return the number of distinct suggestions
+     */
+    public int size() {
+        return suggestions.size();
+    }
+
+    /**
+     * Get suggestions starting with a prefix, ignoring case, in sorted order.
+     *
+     * @param prefix the prefix to match
+     * @param limit  the maximum number of suggestions to return
+     * @return up to {@code limit} matching suggestions
+     */
+    @NotNull
+    public List<String> find(@NotNull String prefix, int limit) {
+        return find(prefix, limit, suggestion -> true);
+    }
+
+    /**
+     * Get suggestions starting with a prefix, ignoring case, that match a filter, in sorted order.
+     *
+     * @param prefix the prefix to match
+     * @param limit  the maximum number of suggestions to return
+     * @param filter the filter suggestions must pass
+     * @return up to {@code limit} matching suggestions
+     */
+    @NotNull
+    public List<String> find(@NotNull String prefix, int limit, @NotNull Predicate<String> filter) {
+        final List<String> matches = new ArrayList<>(Math.min(limit, 16));
+        for (String suggestion : suggestions.tailMap(lowestCaseVariant(prefix), true).keySet()) {
+            if (matches.size() >= limit || !suggestion.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                break;
+            }
+            if (filter.test(suggestion)) {
+                matches.add(suggestion);
+            }
+        }
+        return matches;
+    }
+
+    // Get the case variant of a string that sorts first, so a range lookup from it includes every other variant
+    @NotNull
+    private static String lowestCaseVariant(@NotNull String string) {
+        final char[] chars = string.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            final char upper = Character.toUpperCase(chars[i]);
+            final char lower = Character.toLowerCase(chars[i]);
+            chars[i] = (char) Math.min(chars[i], Math.min(upper, lower));
+        }
+        return new String(chars);
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package net.william278.huskhomes.util;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.TextColor;
+import net.william278.huskhomes.HuskHomes;
+import net.william278.huskhomes.user.CommandUser;
+import net.william278.huskhomes.user.OnlineUser;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.logging.Level;
+
+/**
+ * Logs the progress of a long-running task, such as an import or a database migration, to the console and to the
+ * player that started it.
+ *
+ * @since 4.10
+ */
+public final class TaskLogger {
+
+    private final HuskHomes plugin;
+    private final String prefix;
+
+    /**
+     * Create a logger for a task.
+     *
+     * @param plugin the plugin instance
+     * @param task   the name of the task, shown in brackets before each message (e.g. {@code Importer})
+     */
+    public TaskLogger(@NotNull HuskHomes plugin, @NotNull String task) {
+        this.plugin = plugin;
+        this.prefix = "[" + task + "] ";
+    }
+
+    /**
+     * Log a message about the task.
+     *
+     * @param user    the user running the task, who is sent the message if they are a player
+     * @param level   the level to log at; warnings and errors are sent to players in red
+     * @param message the message
+     * @param e       any exceptions to log with the message
+     */
+    public void log(@NotNull CommandUser user, @NotNull Level level, @NotNull String message,
+                    @NotNull Throwable... e) {
+        message = prefix + message;
+        if (user instanceof OnlineUser online) {
+            final TextColor color = level == Level.SEVERE || level == Level.WARNING
+                    ? TextColor.color(0xff3300)
+                    : TextColor.color(0xC3C3C3);
+            online.sendMessage(Component.text(message, color));
+        }
+        plugin.log(level, message, e);
+    }
+
+}
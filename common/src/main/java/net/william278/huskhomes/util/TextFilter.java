@@ -0,0 +1,148 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * A compiled name or description filter regex, used to check text contains only allowed characters.
+ *
+ * <p>Filters that are a single character class repeated (such as the default {@code [a-zA-Z0-9-_]*}), or the
+ * default ASCII-only description filter, are checked with a lookup table rather than running the regex.
+ *
+ * @since 4.10
+ */
+public final class TextFilter {
+
+    private static final String ASCII_REGEX = "\\A\\p{ASCII}*\\z";
+    // Matches a simple repeated character class, without escapes, nested classes or intersections
+    private static final Pattern SIMPLE_CLASS = Pattern.compile("\\[\\^?[^\\[\\]\\\\&]+]\\*");
+
+    private final Pattern pattern;
+    // For simple filters, whether each ASCII character is allowed
+    @Nullable
+    private final boolean[] allowedAscii;
+    // For simple filters, the pattern used to check characters outside ASCII
+    @Nullable
+    private final Pattern characterClass;
+
+    private TextFilter(@NotNull Pattern pattern, @Nullable boolean[] allowedAscii, @Nullable Pattern characterClass) {
+        this.pattern = pattern;
+        this.allowedAscii = allowedAscii;
+        this.characterClass = characterClass;
+    }
+
+    /**
+     * Compile a filter from a regex.
+     *
+     * @param regex the regex text must match in full
+     * @return the compiled filter
+     * @throws java.util.regex.PatternSyntaxException if the regex is invalid
+     */
+    @NotNull
+    public static TextFilter compile(@NotNull String regex) {
+        final Pattern pattern = Pattern.compile(regex);
+        if (regex.equals(ASCII_REGEX)) {
+            final boolean[] ascii = new boolean[128];
+            Arrays.fill(ascii, true);
+            return new TextFilter(pattern, ascii, null);
+        }
+        if (SIMPLE_CLASS.matcher(regex).matches() && regex.chars().allMatch(c -> c < 128)) {
+            final Pattern characterClass = Pattern.compile(regex.substring(0, regex.length() - 1));
+            final boolean[] ascii = new boolean[128];
+            for (char c = 0; c < ascii.length; c++) {
+                ascii[c] = characterClass.matcher(String.valueOf(c)).matches();
+            }
+            return new TextFilter(pattern, ascii, characterClass);
+        }
+        return new TextFilter(pattern, null, null);
+    }
+
+    /**
+     * Check whether text matches this filter in full.
+     *
+     * @param text the text to check
+     * @return {@code true} if the text matches
+     */
+    public boolean matches(@NotNull String text) {
+        if (allowedAscii == null) {
+            return pattern.matcher(text).matches();
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (!isAllowed(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Remove characters not allowed by this filter from text.
+     *
+     * <p>Characters are checked individually, so for filters that aren't a simple character class this is a best
+     * effort and the result may still not {@link #matches(String) match}.
+     *
+     * @param text the text to strip
+     * @return the text, without disallowed characters
+     */
+    @NotNull
+    public String strip(@NotNull String text) {
+        final StringBuilder stripped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (allowedAscii != null ? isAllowed(c) : pattern.matcher(String.valueOf(c)).matches()) {
+                stripped.append(c);
+            }
+        }
+        return stripped.length() == text.length() ? text : stripped.toString();
+    }
+
+    // Check whether a character is allowed by a simple filter
+    private boolean isAllowed(char c) {
+        if (c < 128) {
+            return allowedAscii[c];
+        }
+        return characterClass != null && characterClass.matcher(String.valueOf(c)).matches();
+    }
+
+    /**
+     * Check whether a string contains whitespace, as matched by the regex {@code \s}.
+     *
+     * @param text the text to check
+     * @return {@code true} if the text contains a space, tab, line break, vertical tab or form feed
+     */
+    public static boolean containsWhitespace(@NotNull String text) {
+        for (int i = 0; i < text.length(); i++) {
+            switch (text.charAt(i)) {
+                case ' ', '\t', '\n', '\u000B', '\f', '\r' -> {
+                    return true;
+                }
+                default -> {
+                }
+            }
+        }
+        return false;
+    }
+
+}
@@ -52,9 +52,9 @@ public interface TextValidator {
     // Check a home/warp name contains only valid characters
     private boolean isValidNameCharacters(@NotNull String name) {
         final Settings.GeneralSettings.NameSettings config = getSettings().getGeneral().getNames();
-        return (name.matches(config.getRegex()) || !config.isRestrict())
-                && !name.contains("\u0000")
-                && !containsWhitespace(name)
+        return (!config.isRestrict() || config.getFilter().matches(name))
+                && name.indexOf('\u0000') == -1
+                && !TextFilter.containsWhitespace(name)
                 && !name.contains(Home.getDelimiter());
     }
 
@@ -66,8 +66,8 @@ public interface TextValidator {
     // Check a home/warp description contains only valid characters
     private boolean isValidDescriptionCharacters(@NotNull String description) {
         final Settings.GeneralSettings.DescriptionSettings config = getSettings().getGeneral().getDescriptions();
-        return (description.matches(config.getRegex()) || !config.isRestrict())
-                && !description.contains("\u0000");
+        return (!config.isRestrict() || config.getFilter().matches(description))
+                && description.indexOf('\u0000') == -1;
     }
 
     // Check a home/warp description is of a valid length
@@ -75,11 +75,6 @@ public interface TextValidator {
         return description.length() <= MAX_DESCRIPTION_LENGTH;
     }
 
-    // Check if a string contains whitespace
-    private boolean containsWhitespace(@NotNull String string) {
-        return string.matches(".*\\s.*");
-    }
-    
     @NotNull
     HuskHomes getPlugin();
 
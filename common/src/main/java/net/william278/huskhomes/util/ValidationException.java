@@ -71,6 +71,9 @@ public class ValidationException extends IllegalArgumentException {
                             Integer.toString(plugin.getManager().homes()
                                     .getMaxPublicHomes(viewer instanceof OnlineUser user ? user : null)))
                     .ifPresent(viewer::sendMessage);
+            case DATABASE_UNAVAILABLE -> plugin.getLocales()
+                    .getLocale("error_database_unavailable")
+                    .ifPresent(viewer::sendMessage);
             default -> {
                 // Do nothing (silently handle validation errors)
             }
@@ -97,6 +100,9 @@ public class ValidationException extends IllegalArgumentException {
             case DESCRIPTION_INVALID_LENGTH -> plugin.getLocales()
                     .getLocale("error_warp_description_length", args)
                     .ifPresent(viewer::sendMessage);
+            case DATABASE_UNAVAILABLE -> plugin.getLocales()
+                    .getLocale("error_database_unavailable")
+                    .ifPresent(viewer::sendMessage);
             default -> {
                 // Do nothing (silently handle validation errors)
             }
@@ -117,6 +123,7 @@ public class ValidationException extends IllegalArgumentException {
         TRANSACTION_FAILED,
         DESCRIPTION_INVALID_CHARACTERS,
         DESCRIPTION_INVALID_LENGTH,
+        DATABASE_UNAVAILABLE,
     }
 
 }
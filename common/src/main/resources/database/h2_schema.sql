@@ -21,12 +21,14 @@ CREATE TABLE IF NOT EXISTS `%position_data%`
 
     PRIMARY KEY (`id`)
 );
+CREATE INDEX IF NOT EXISTS `%position_data%_server_world` ON `%position_data%` (`server_name`, `world_name`);
 
 /* Create the players table if it does not exist */
 CREATE TABLE IF NOT EXISTS `%player_data%`
 (
     `uuid`              UUID        NOT NULL PRIMARY KEY,
     `username`          VARCHAR(16) NOT NULL,
+    `username_lower`    VARCHAR(16) GENERATED ALWAYS AS (LOWER(`username`)),
     `last_position`     INT         NULL,
     `offline_position`  INT         NULL,
     `respawn_position`  INT         NULL,
@@ -38,6 +40,7 @@ CREATE TABLE IF NOT EXISTS `%player_data%`
     FOREIGN KEY (`respawn_position`) REFERENCES `%position_data%` (`id`) ON DELETE SET NULL ON UPDATE NO ACTION
 );
 CREATE INDEX IF NOT EXISTS `%player_data%_username` ON `%player_data%` (`username`);
+CREATE INDEX IF NOT EXISTS `%player_data%_username_lower` ON `%player_data%` (`username_lower`);
 
 /* Create the cooldowns table if it does not exist */
 CREATE TABLE IF NOT EXISTS `%player_cooldowns_data%`
@@ -91,6 +94,7 @@ CREATE TABLE IF NOT EXISTS `%home_data%`
     FOREIGN KEY (`saved_position_id`) REFERENCES `%saved_position_data%` (`id`) ON DELETE CASCADE ON UPDATE NO ACTION
 );
 CREATE INDEX IF NOT EXISTS `%home_data%_owner_uuid` ON `%home_data%` (`owner_uuid`);
+CREATE INDEX IF NOT EXISTS `%home_data%_owner_public` ON `%home_data%` (`owner_uuid`, `public`);
 
 /* Create the warps table if it does not exist */
 CREATE TABLE IF NOT EXISTS `%warp_data%`
@@ -29,6 +29,7 @@ CREATE TABLE IF NOT EXISTS `%position_data%`
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4
   COLLATE = utf8mb4_unicode_ci;
+CREATE INDEX IF NOT EXISTS `%position_data%_server_world` ON `%position_data%` (`server_name`, `world_name`);
 
 -- Create the players table if it does not exist
 CREATE TABLE IF NOT EXISTS `%player_data%`
@@ -112,6 +113,7 @@ CREATE TABLE IF NOT EXISTS `%home_data%`
   DEFAULT CHARSET = utf8mb4
   COLLATE = utf8mb4_unicode_ci;
 CREATE INDEX IF NOT EXISTS `%home_data%_owner_uuid` ON `%home_data%` (`owner_uuid`);
+CREATE INDEX IF NOT EXISTS `%home_data%_owner_public` ON `%home_data%` (`owner_uuid`, `public`);
 
 -- Create the warps table if it does not exist
 CREATE TABLE IF NOT EXISTS `%warp_data%`
@@ -0,0 +1,2 @@
+/* Index homes by owner and visibility, for counting a user's (public) homes */
+CREATE INDEX IF NOT EXISTS "%home_data%_owner_public" ON "%home_data%" (owner_uuid, public);
\ No newline at end of file
@@ -0,0 +1,3 @@
+/* Index usernames case-insensitively, for resolving users by name */
+ALTER TABLE `%player_data%` ADD COLUMN IF NOT EXISTS `username_lower` VARCHAR(16) GENERATED ALWAYS AS (LOWER(`username`));
+CREATE INDEX IF NOT EXISTS `%player_data%_username_lower` ON `%player_data%` (`username_lower`);
\ No newline at end of file
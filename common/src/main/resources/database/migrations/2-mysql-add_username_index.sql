@@ -0,0 +1,2 @@
+# Index usernames (case-insensitive under the table collation), for resolving users by name
+CREATE INDEX `%player_data%_username` ON `%player_data%` (`username`);
\ No newline at end of file
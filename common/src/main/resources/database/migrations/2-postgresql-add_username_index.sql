@@ -0,0 +1,2 @@
+/* Index usernames case-insensitively, for resolving users by name */
+CREATE INDEX IF NOT EXISTS "%player_data%_username_lower" ON "%player_data%" (LOWER(username));
\ No newline at end of file
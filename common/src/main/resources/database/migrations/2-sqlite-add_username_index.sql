@@ -0,0 +1,2 @@
+-- Index usernames case-insensitively, for resolving users by name
+CREATE INDEX IF NOT EXISTS `%player_data%_username_nocase` ON `%player_data%` (`username` COLLATE NOCASE);
\ No newline at end of file
@@ -0,0 +1,3 @@
+-- Index positions by server and world, and saved positions by name, for world-scoped deletes and lookups
+CREATE INDEX IF NOT EXISTS `%position_data%_server_world` ON `%position_data%` (`server_name`, `world_name`);
+CREATE INDEX IF NOT EXISTS `%saved_position_data%_name` ON `%saved_position_data%` (`name`);
\ No newline at end of file
@@ -25,7 +25,8 @@ CREATE TABLE IF NOT EXISTS `%position_data%`
     `world_uuid`  char(36)     NOT NULL,
     `server_name` varchar(255) NOT NULL,
 
-    PRIMARY KEY (`id`)
+    PRIMARY KEY (`id`),
+    INDEX `%position_data%_server_world` (`server_name`, `world_name`)
 ) CHARACTER SET utf8
   COLLATE utf8_unicode_ci;
 
@@ -41,6 +42,7 @@ CREATE TABLE IF NOT EXISTS `%player_data%`
     `ignoring_requests` boolean     NOT NULL DEFAULT FALSE,
 
     PRIMARY KEY (`uuid`),
+    INDEX `%player_data%_username` (`username`),
     FOREIGN KEY (`last_position`) REFERENCES `%position_data%` (`id`) ON DELETE SET NULL ON UPDATE NO ACTION,
     FOREIGN KEY (`offline_position`) REFERENCES `%position_data%` (`id`) ON DELETE SET NULL ON UPDATE NO ACTION,
     FOREIGN KEY (`respawn_position`) REFERENCES `%position_data%` (`id`) ON DELETE SET NULL ON UPDATE NO ACTION
@@ -85,6 +87,7 @@ CREATE TABLE IF NOT EXISTS `%saved_position_data%`
     `timestamp`   datetime     NOT NULL DEFAULT CURRENT_TIMESTAMP,
 
     PRIMARY KEY (`id`),
+    INDEX `%saved_position_data%_name` (`name`),
     FOREIGN KEY (`position_id`) REFERENCES `%position_data%` (`id`) ON DELETE CASCADE ON UPDATE NO ACTION
 ) CHARACTER SET utf8
   COLLATE utf8_unicode_ci;
@@ -98,6 +101,7 @@ CREATE TABLE IF NOT EXISTS `%home_data%`
     `public`            boolean  NOT NULL DEFAULT FALSE,
 
     PRIMARY KEY (`uuid`),
+    INDEX `%home_data%_owner_public` (`owner_uuid`, `public`),
     FOREIGN KEY (`owner_uuid`) REFERENCES `%player_data%` (`uuid`) ON DELETE CASCADE ON UPDATE CASCADE,
     FOREIGN KEY (`saved_position_id`) REFERENCES `%saved_position_data%` (`id`) ON DELETE CASCADE ON UPDATE NO ACTION
 ) CHARACTER SET utf8
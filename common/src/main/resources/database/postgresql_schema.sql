@@ -21,6 +21,7 @@ CREATE TABLE IF NOT EXISTS "%position_data%"
 
     PRIMARY KEY (id)
 );
+CREATE INDEX IF NOT EXISTS "%position_data%_server_world" ON "%position_data%" (server_name, world_name);
 
 /* Create the players table if it does not exist */
 CREATE TABLE IF NOT EXISTS "%player_data%"
@@ -38,6 +39,7 @@ CREATE TABLE IF NOT EXISTS "%player_data%"
     FOREIGN KEY (offline_position) REFERENCES "%position_data%" (id) ON DELETE SET NULL,
     FOREIGN KEY (respawn_position) REFERENCES "%position_data%" (id) ON DELETE SET NULL
 );
+CREATE INDEX IF NOT EXISTS "%player_data%_username_lower" ON "%player_data%" (LOWER(username));
 
 /* Create the cooldowns table if it does not exist */
 CREATE TABLE IF NOT EXISTS "%player_cooldowns_data%"
@@ -77,6 +79,7 @@ CREATE TABLE IF NOT EXISTS "%saved_position_data%"
     PRIMARY KEY (id),
     FOREIGN KEY (position_id) REFERENCES "%position_data%" (id) ON DELETE CASCADE
 );
+CREATE INDEX IF NOT EXISTS "%saved_position_data%_name" ON "%saved_position_data%" (name);
 
 /* Create the homes table if it does not exist */
 CREATE TABLE IF NOT EXISTS "%home_data%"
@@ -90,6 +93,7 @@ CREATE TABLE IF NOT EXISTS "%home_data%"
     FOREIGN KEY (owner_uuid) REFERENCES "%player_data%" (uuid) ON DELETE CASCADE ON UPDATE CASCADE,
     FOREIGN KEY (saved_position_id) REFERENCES "%saved_position_data%" (id) ON DELETE CASCADE
 );
+CREATE INDEX IF NOT EXISTS "%home_data%_owner_public" ON "%home_data%" (owner_uuid, public);
 
 /* Create the warps table if it does not exist */
 CREATE TABLE IF NOT EXISTS "%warp_data%"
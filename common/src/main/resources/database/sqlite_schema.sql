@@ -21,6 +21,7 @@ CREATE TABLE IF NOT EXISTS `%position_data%`
 
     PRIMARY KEY (`id`)
 );
+CREATE INDEX IF NOT EXISTS `%position_data%_server_world` ON `%position_data%` (`server_name`, `world_name`);
 
 -- Create the players table if it does not exist
 CREATE TABLE IF NOT EXISTS `%player_data%`
@@ -39,6 +40,7 @@ CREATE TABLE IF NOT EXISTS `%player_data%`
     FOREIGN KEY (`respawn_position`) REFERENCES `%position_data%` (`id`) ON DELETE SET NULL ON UPDATE NO ACTION
 );
 CREATE INDEX IF NOT EXISTS `%player_data%_username` ON `%player_data%` (`username`);
+CREATE INDEX IF NOT EXISTS `%player_data%_username_nocase` ON `%player_data%` (`username` COLLATE NOCASE);
 
 -- Create the cooldowns table if it does not exist
 CREATE TABLE IF NOT EXISTS `%player_cooldowns_data%`
@@ -94,6 +96,7 @@ CREATE TABLE IF NOT EXISTS `%home_data%`
     FOREIGN KEY (`saved_position_id`) REFERENCES `%saved_position_data%` (`id`) ON DELETE CASCADE ON UPDATE NO ACTION
 );
 CREATE INDEX IF NOT EXISTS `%home_data%_owner_uuid` ON `%home_data%` (`owner_uuid`);
+CREATE INDEX IF NOT EXISTS `%home_data%_owner_public` ON `%home_data%` (`owner_uuid`, `public`);
 
 -- Create the warps table if it does not exist
 CREATE TABLE IF NOT EXISTS `%warp_data%`
@@ -64,6 +64,33 @@ public class LocalesTests {
         ));
     }
 
+    @Test
+    @DisplayName("Test Locale Templates Fill Placeholders")
+    public void testTemplatesFillPlaceholders() {
+        final Locales.Template template = Locales.Template.compile("%2% and %1%, then %1% again (%3%)");
+        assertEquals("%2% and %1%, then %1% again (%3%)", template.apply());
+        assertEquals("b and a, then a again (%3%)", template.apply("a", "b"));
+        assertEquals("no placeholders", Locales.Template.compile("no placeholders").apply("a"));
+    }
+
+    @Test
+    @DisplayName("Test Locale Replacements Match Raw Locales")
+    public void testReplacementsMatchRawLocales() {
+        englishLocales.getRawLocales().keySet().forEach(key -> {
+            final String raw = englishLocales.getRawLocale(key).orElseThrow();
+            assertEquals(raw.replace("%1%", "x").replace("%2%", "y"),
+                    englishLocales.getRawLocale(key, "x", "y").orElseThrow(), "Mismatch for locale " + key);
+        });
+    }
+
+    @Test
+    @DisplayName("Test Escaping Text")
+    public void testEscapeText() {
+        final String plain = "My Home 123";
+        assertSame(plain, Locales.escapeText(plain));
+        assertEquals("\\[link\\]\\(url\\)", Locales.escapeText("[link](url)"));
+    }
+
     @NotNull
     private static Stream<Arguments> provideLocaleFiles() {
         final URL url = LocalesTests.class.getClassLoader().getResource("locales");
@@ -0,0 +1,131 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.database;
+
+import net.william278.huskhomes.position.Position;
+import net.william278.huskhomes.position.World;
+import net.william278.huskhomes.user.User;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@DisplayName("Circuit Breaker Tests")
+public class CircuitBreakerTests {
+
+    @Test
+    @DisplayName("Test Breaker Opens After Consecutive Failures")
+    public void testOpens() throws CircuitBreaker.OpenException {
+        final CircuitBreaker breaker = new CircuitBreaker(3, 10, TimeUnit.SECONDS, () -> 0L);
+        breaker.acquire();
+        Assertions.assertFalse(breaker.recordFailure());
+        Assertions.assertFalse(breaker.recordFailure());
+        breaker.recordSuccess();
+        Assertions.assertFalse(breaker.recordFailure());
+        Assertions.assertFalse(breaker.recordFailure());
+        Assertions.assertTrue(breaker.recordFailure());
+
+        Assertions.assertTrue(breaker.isOpen());
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        Assertions.assertThrows(CircuitBreaker.OpenException.class, breaker::acquire);
+    }
+
+    @Test
+    @DisplayName("Test Breaker Probes Once Before Closing")
+    public void testRecovery() throws CircuitBreaker.OpenException {
+        final AtomicLong clock = new AtomicLong();
+        final CircuitBreaker breaker = new CircuitBreaker(1, 10, TimeUnit.SECONDS, clock::get);
+        Assertions.assertTrue(breaker.recordFailure());
+        Assertions.assertEquals(10, breaker.getRetryIn(TimeUnit.SECONDS));
+
+        // A failed probe opens the breaker again
+        clock.set(TimeUnit.SECONDS.toNanos(10));
+        Assertions.assertFalse(breaker.isOpen());
+        breaker.acquire();
+        Assertions.assertThrows(CircuitBreaker.OpenException.class, breaker::acquire);
+        Assertions.assertFalse(breaker.recordFailure());
+        Assertions.assertTrue(breaker.isOpen());
+
+        // A successful probe closes it
+        clock.set(TimeUnit.SECONDS.toNanos(20));
+        breaker.acquire();
+        Assertions.assertTrue(breaker.recordSuccess());
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        Assertions.assertFalse(breaker.isOpen());
+        breaker.acquire();
+    }
+
+    @Test
+    @DisplayName("Test Journal Keeps Latest Updates Within Capacity")
+    public void testJournal() {
+        final PositionJournal journal = new PositionJournal(2);
+        final User first = User.of(UUID.randomUUID(), "first");
+        final User second = User.of(UUID.randomUUID(), "second");
+        final Position position = Position.at(0, 64, 0, World.from("world"), "server");
+        journal.add(PositionJournal.Type.LAST, first, position);
+        journal.add(PositionJournal.Type.LAST, first, position);
+        journal.add(PositionJournal.Type.RESPAWN, first, null);
+        Assertions.assertEquals(2, journal.size());
+
+        journal.add(PositionJournal.Type.OFFLINE, second, position);
+        Assertions.assertEquals(1, journal.takeDropped());
+        Assertions.assertEquals(0, journal.takeDropped());
+
+        Assertions.assertTrue(journal.startReplay());
+        Assertions.assertEquals(PositionJournal.Type.RESPAWN, Objects.requireNonNull(journal.poll(false)).type());
+        Assertions.assertEquals(second, Objects.requireNonNull(journal.poll(false)).user());
+        Assertions.assertNull(journal.poll(false));
+        Assertions.assertEquals(0, journal.size());
+    }
+
+    @Test
+    @DisplayName("Test Journal Holds Updates Until Replayed")
+    public void testJournalReplay() throws InterruptedException {
+        final PositionJournal journal = new PositionJournal(10);
+        final User user = User.of(UUID.randomUUID(), "user");
+        final Position position = Position.at(0, 64, 0, World.from("world"), "server");
+        Assertions.assertFalse(journal.hold(false, PositionJournal.Type.LAST, user, position));
+        Assertions.assertTrue(journal.hold(true, PositionJournal.Type.LAST, user, position));
+
+        // Updates from other threads are held while replaying, but not the replaying thread's own writes
+        Assertions.assertTrue(journal.startReplay());
+        Assertions.assertFalse(journal.startReplay());
+        Assertions.assertFalse(journal.hold(false, PositionJournal.Type.OFFLINE, user, position));
+        final Thread other = new Thread(() -> journal.hold(false, PositionJournal.Type.RESPAWN, user, null));
+        other.start();
+        other.join();
+        Assertions.assertEquals(2, journal.size());
+
+        // Replaying stops if the database becomes unavailable again, leaving the rest held
+        Assertions.assertNull(journal.poll(true));
+        Assertions.assertEquals(2, journal.size());
+        Assertions.assertTrue(journal.hold(true, PositionJournal.Type.LAST, user, position));
+        Assertions.assertTrue(journal.startReplay());
+        Assertions.assertEquals(PositionJournal.Type.RESPAWN, Objects.requireNonNull(journal.poll(false)).type());
+        Assertions.assertEquals(PositionJournal.Type.LAST, Objects.requireNonNull(journal.poll(false)).type());
+        Assertions.assertNull(journal.poll(false));
+        Assertions.assertFalse(journal.hold(false, PositionJournal.Type.LAST, user, position));
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.manager;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import net.william278.huskhomes.teleport.TeleportRequest;
+import net.william278.huskhomes.user.User;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+@DisplayName("Pending Requests Tests")
+public class PendingRequestsTests {
+
+    private static final Gson GSON = new GsonBuilder().excludeFieldsWithoutExposeAnnotation().create();
+    private static final User RECIPIENT = User.of(UUID.randomUUID(), "Recipient");
+
+    @Test
+    @DisplayName("Test Requests Are Replaced Per Requester")
+    public void testReplacedPerRequester() {
+        final PendingRequests requests = new PendingRequests(0);
+        requests.add(RECIPIENT, request("Alice", 10), 20);
+        requests.add(RECIPIENT, request("Bob", 10), 20);
+        final TeleportRequest latest = request("alice", 20);
+        requests.add(RECIPIENT, latest, 20);
+
+        Assertions.assertEquals(2, requests.size());
+        Assertions.assertSame(latest, requests.get(RECIPIENT.getUuid(), "ALICE").orElseThrow());
+        Assertions.assertSame(latest, requests.getLatest(RECIPIENT.getUuid()).orElseThrow());
+        requests.remove(RECIPIENT.getUuid(), "Alice");
+        Assertions.assertEquals("Bob", requests.getLatest(RECIPIENT.getUuid()).orElseThrow().getRequesterName());
+    }
+
+    @Test
+    @DisplayName("Test Oldest Requests Are Dropped Beyond Limit")
+    public void testLimit() {
+        final PendingRequests requests = new PendingRequests(0);
+        for (int i = 0; i < 5; i++) {
+            requests.add(RECIPIENT, request("Requester" + i, 10), 3);
+        }
+        Assertions.assertEquals(3, requests.size());
+        Assertions.assertTrue(requests.get(RECIPIENT.getUuid(), "Requester1").isEmpty());
+        Assertions.assertTrue(requests.get(RECIPIENT.getUuid(), "Requester2").isPresent());
+        Assertions.assertTrue(requests.expire(100).stream().noneMatch(e -> e.requester().equals("requester0")));
+    }
+
+    @Test
+    @DisplayName("Test Requests Expire After Their Expiry Time")
+    public void testExpiry() {
+        final PendingRequests requests = new PendingRequests(0);
+        requests.add(RECIPIENT, request("Soon", 5), 20);
+        requests.add(RECIPIENT, request("Later", 200), 20);
+
+        Assertions.assertTrue(requests.expire(5).isEmpty());
+        final List<PendingRequests.Entry> expired = requests.expire(6);
+        Assertions.assertEquals(1, expired.size());
+        Assertions.assertEquals("Soon", expired.get(0).request().getRequesterName());
+
+        // Skipping past a full turn of the wheel still expires everything due
+        Assertions.assertTrue(requests.expire(150).isEmpty());
+        Assertions.assertEquals(1, requests.expire(500).size());
+        Assertions.assertEquals(0, requests.size());
+    }
+
+    @NotNull
+    private static TeleportRequest request(@NotNull String requester, long expiry) {
+        return GSON.fromJson("{\"requester_name\":\"" + requester + "\",\"expiry_time\":" + expiry
+                             + ",\"type\":\"TPA\",\"status\":\"PENDING\"}", TeleportRequest.class);
+    }
+
+}
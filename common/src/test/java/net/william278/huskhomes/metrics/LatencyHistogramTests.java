@@ -0,0 +1,59 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Latency Histogram Tests")
+public class LatencyHistogramTests {
+
+    @Test
+    @DisplayName("Test Latencies Fall Within Their Bucket Bounds")
+    public void testBucketBounds() {
+        for (long micros = 0; micros < 1_000_000; micros += 1 + micros / 7) {
+            final int bucket = LatencyHistogram.getBucket(micros);
+            Assertions.assertTrue(micros <= LatencyHistogram.getUpperBound(bucket), "Above bound: " + micros);
+            Assertions.assertTrue(bucket == 0 || micros > LatencyHistogram.getUpperBound(bucket - 1),
+                    "Below bound: " + micros);
+        }
+    }
+
+    @Test
+    @DisplayName("Test Percentiles Are Within Bucket Accuracy")
+    public void testPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int micros = 1; micros <= 1000; micros++) {
+            histogram.record(micros * 1000L);
+        }
+
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        Assertions.assertEquals(1000, snapshot.count());
+        Assertions.assertEquals(500, snapshot.mean());
+        Assertions.assertEquals(1000, snapshot.max());
+        Assertions.assertTrue(snapshot.p50() >= 500 && snapshot.p50() < 500 * 1.25, "p50: " + snapshot.p50());
+        Assertions.assertTrue(snapshot.p99() >= 990 && snapshot.p99() < 990 * 1.25, "p99: " + snapshot.p99());
+
+        histogram.reset();
+        Assertions.assertEquals(0, histogram.snapshot().count());
+    }
+
+}
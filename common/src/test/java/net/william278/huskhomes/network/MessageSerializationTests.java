@@ -32,6 +32,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Stream;
 
 @DisplayName("Message Serialization Tests")
@@ -61,6 +62,11 @@ public class MessageSerializationTests {
                     .payload(Payload.position(
                             Position.at(63.25, 127.43, -32, 180f, -94.3f,
                                     World.from("TestWorld"), "TestServer")))
+                    .build(),
+            Message.builder()
+                    .type(Message.MessageType.UPDATE_HOMES)
+                    .target(Message.TARGET_ALL, Message.TargetType.SERVER)
+                    .payload(Payload.uuidList(List.of(UUID.randomUUID(), UUID.randomUUID())))
                     .build()
     );
 
@@ -85,6 +91,10 @@ public class MessageSerializationTests {
                 message.getPayload().getString().isPresent(),
                 deserialized.getPayload().getString().isPresent()
         );
+        Assertions.assertEquals(
+                message.getPayload().getUuidList(),
+                deserialized.getPayload().getUuidList()
+        );
     }
 
     @NotNull
@@ -0,0 +1,76 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.network;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+@DisplayName("Outbound Queue Tests")
+public class OutboundQueueTests {
+
+    @Test
+    @DisplayName("Test Updates To The Same Entity Coalesce")
+    public void testCoalescing() {
+        final OutboundQueue queue = new OutboundQueue(10);
+        queue.add(update(Message.MessageType.UPDATE_HOME, "home-a"));
+        queue.add(update(Message.MessageType.UPDATE_HOME, "home-b"));
+        queue.add(update(Message.MessageType.UPDATE_WARP, "home-a"));
+        queue.add(update(Message.MessageType.UPDATE_HOME, "home-a"));
+        queue.add(update(Message.MessageType.UPDATE_CACHES, ""));
+        queue.add(update(Message.MessageType.UPDATE_CACHES, ""));
+        Assertions.assertEquals(4, queue.size());
+
+        // Coalesced messages move to the back of the queue
+        final List<Message> messages = queue.drain();
+        Assertions.assertEquals("home-b", messages.get(0).getPayload().getString().orElseThrow());
+        Assertions.assertEquals(Message.MessageType.UPDATE_WARP, messages.get(1).getType());
+        Assertions.assertEquals("home-a", messages.get(2).getPayload().getString().orElseThrow());
+        Assertions.assertEquals(Message.MessageType.UPDATE_CACHES, messages.get(3).getType());
+        Assertions.assertEquals(0, queue.size());
+    }
+
+    @Test
+    @DisplayName("Test Oldest Messages Are Dropped When Full")
+    public void testCapacity() {
+        final OutboundQueue queue = new OutboundQueue(2);
+        queue.add(update(Message.MessageType.UPDATE_HOME, "first"));
+        queue.add(update(Message.MessageType.UPDATE_HOME, "second"));
+        queue.add(update(Message.MessageType.UPDATE_HOME, "third"));
+        Assertions.assertEquals(1, queue.takeDropped());
+        Assertions.assertEquals(0, queue.takeDropped());
+        Assertions.assertEquals(List.of("second", "third"), queue.drain().stream()
+                .map(message -> message.getPayload().getString().orElseThrow())
+                .toList());
+    }
+
+    @NotNull
+    private static Message update(@NotNull Message.MessageType type, @NotNull String id) {
+        return Message.builder()
+                .type(type)
+                .target(Message.TARGET_ALL, Message.TargetType.SERVER)
+                .payload(Payload.string(id))
+                .build();
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.user;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+@DisplayName("User Directory Tests")
+public class UserDirectoryTests {
+
+    @Test
+    @DisplayName("Test Name Lookup Ignores Case")
+    public void testNameLookup() {
+        final UserDirectory directory = new UserDirectory(10);
+        final User user = User.of(UUID.randomUUID(), "William278");
+        directory.put(user);
+        Assertions.assertEquals(user, directory.get("william278").orElseThrow());
+        Assertions.assertEquals("William278", directory.get(user.getUuid()).orElseThrow().getName());
+        Assertions.assertTrue(directory.get("someone").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test Renames And Reused Names")
+    public void testRenames() {
+        final UserDirectory directory = new UserDirectory(10);
+        final UUID first = UUID.randomUUID();
+        directory.put(User.of(first, "Steve"));
+        directory.put(User.of(first, "Alex"));
+        Assertions.assertTrue(directory.get("Steve").isEmpty());
+        Assertions.assertEquals(first, directory.get("Alex").orElseThrow().getUuid());
+
+        // Another account taking the name replaces the old entry
+        final UUID second = UUID.randomUUID();
+        directory.put(User.of(second, "alex"));
+        Assertions.assertEquals(second, directory.get("Alex").orElseThrow().getUuid());
+        Assertions.assertTrue(directory.get(first).isEmpty());
+        Assertions.assertEquals(1, directory.size());
+    }
+
+    @Test
+    @DisplayName("Test Least Recently Used Users Are Evicted")
+    public void testEviction() {
+        final UserDirectory directory = new UserDirectory(2);
+        final User a = User.of(UUID.randomUUID(), "a");
+        final User b = User.of(UUID.randomUUID(), "b");
+        directory.put(a);
+        directory.put(b);
+        directory.get("a");
+        directory.put(User.of(UUID.randomUUID(), "c"));
+        Assertions.assertEquals(2, directory.size());
+        Assertions.assertTrue(directory.get("b").isEmpty());
+        Assertions.assertTrue(directory.get(b.getUuid()).isEmpty());
+        Assertions.assertTrue(directory.get("a").isPresent());
+
+        directory.remove(a.getUuid());
+        Assertions.assertTrue(directory.get("a").isEmpty());
+    }
+
+}
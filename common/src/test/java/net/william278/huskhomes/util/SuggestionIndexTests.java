@@ -0,0 +1,63 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+@DisplayName("Suggestion Index Tests")
+public class SuggestionIndexTests {
+
+    @Test
+    @DisplayName("Test Prefix Lookup Ignores Case")
+    public void testPrefixLookup() {
+        final SuggestionIndex index = SuggestionIndex.of(List.of("base", "Bastion", "BAR", "castle", "b"));
+        Assertions.assertEquals(List.of("b", "BAR", "base", "Bastion"), index.find("b", 10));
+        Assertions.assertEquals(List.of("base", "Bastion"), index.find("BAS", 10));
+        Assertions.assertEquals(List.of(), index.find("d", 10));
+        Assertions.assertEquals(5, index.find("", 10).size());
+    }
+
+    @Test
+    @DisplayName("Test Lookup Respects Limit And Filter")
+    public void testLimitAndFilter() {
+        final SuggestionIndex index = SuggestionIndex.of(List.of("a1", "a2", "a3", "a4"));
+        Assertions.assertEquals(List.of("a1", "a2"), index.find("a", 2));
+        Assertions.assertEquals(List.of("a2", "a4"), index.find("a", 10, s -> s.endsWith("2") || s.endsWith("4")));
+    }
+
+    @Test
+    @DisplayName("Test Suggestions Are Reference Counted")
+    public void testReferenceCounting() {
+        final SuggestionIndex index = new SuggestionIndex();
+        index.add("home");
+        index.add("home");
+        Assertions.assertEquals(2, index.count("home"));
+        index.remove("home");
+        Assertions.assertEquals(List.of("home"), index.find("h", 10));
+        index.remove("home");
+        Assertions.assertEquals(0, index.count("home"));
+        Assertions.assertTrue(index.find("h", 10).isEmpty());
+    }
+
+}
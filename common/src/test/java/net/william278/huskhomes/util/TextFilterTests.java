@@ -0,0 +1,67 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+@DisplayName("Text Filter Tests")
+public class TextFilterTests {
+
+    private static final List<String> SAMPLES = List.of(
+            "", "ValidName", "Valid_Name-1", "Invalid Name", "Invalid.Name", "•♣♠", "Invali♣Name", "ünïcödé",
+            "tab\there", "a\nb", "[brackets]", "^caret", "&amp;"
+    );
+
+    @ParameterizedTest(name = "Regex: \"{0}\"")
+    @DisplayName("Test Filters Agree With Their Regex")
+    @ValueSource(strings = {
+            "[a-zA-Z0-9-_]*", "\\A\\p{ASCII}*\\z", "[^ .]*", "[a-zä-ü]*", "[a-z]+", "(home|base)[0-9]*"
+    })
+    public void testFilterMatchesRegex(@NotNull String regex) {
+        final TextFilter filter = TextFilter.compile(regex);
+        SAMPLES.forEach(sample -> Assertions.assertEquals(
+                sample.matches(regex), filter.matches(sample), "Mismatch for \"" + sample + "\""
+        ));
+    }
+
+    @Test
+    @DisplayName("Test Stripping Disallowed Characters")
+    public void testStrip() {
+        final TextFilter filter = TextFilter.compile("[a-zA-Z0-9-_]*");
+        Assertions.assertEquals("InvaliName", filter.strip("Invali♣ Name"));
+        Assertions.assertEquals("Valid_Name", filter.strip("Valid_Name"));
+    }
+
+    @Test
+    @DisplayName("Test Whitespace Detection")
+    public void testContainsWhitespace() {
+        SAMPLES.forEach(sample -> Assertions.assertEquals(
+                sample.matches("(?s).*\\s.*"), TextFilter.containsWhitespace(sample), "Mismatch for \"" + sample + "\""
+        ));
+    }
+
+}
@@ -61,6 +61,7 @@ import net.william278.huskhomes.hook.Hook;
 import net.william278.huskhomes.listener.EventListener;
 import net.william278.huskhomes.listener.FabricEventListener;
 import net.william278.huskhomes.manager.Manager;
+import net.william278.huskhomes.metrics.MetricsRegistry;
 import net.william278.huskhomes.network.Broker;
 import net.william278.huskhomes.network.PluginMessageBroker;
 import net.william278.huskhomes.position.Location;
@@ -111,6 +112,7 @@ public class FabricHuskHomes implements DedicatedServerModInitializer, HuskHomes
     private final Map<UUID, OnlineUser> onlineUserMap = Maps.newHashMap();
     private final Map<String, List<User>> globalUserList = Maps.newConcurrentMap();
     private final List<Command> commands = Lists.newArrayList();
+    private final MetricsRegistry metricsRegistry = new MetricsRegistry();
 
     @Setter
     private Set<Hook> hooks = Sets.newHashSet();
@@ -248,6 +250,12 @@ public class FabricHuskHomes implements DedicatedServerModInitializer, HuskHomes
         return worlds;
     }
 
+    @NotNull
+    @Override
+    public OptionalDouble getAverageTickTime() {
+        return OptionalDouble.of(minecraftServer.getAverageNanosPerTick() / 1_000_000d);
+    }
+
     @Override
     @NotNull
     public Version getPluginVersion() {
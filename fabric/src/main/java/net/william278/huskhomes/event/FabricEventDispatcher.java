@@ -32,6 +32,7 @@ import net.william278.huskhomes.user.OnlineUser;
 import net.william278.huskhomes.user.User;
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.List;
@@ -59,6 +60,38 @@ public interface FabricEventDispatcher extends EventDispatcher {
         }
     }
 
+    @Override
+    default boolean isServerThread() {
+        return getPlugin().getMinecraftServer().isOnThread();
+    }
+
+    @Override
+    @NotNull
+    default <T extends Event> Listeners getListeners(@NotNull T event) {
+        try {
+            final Method method = event.getClass().getDeclaredMethod("getEvent");
+            method.setAccessible(true);
+            final Object fabricEvent = method.invoke(event);
+
+            // Array-backed events keep their registered callbacks in a "handlers" array
+            final Field field = fabricEvent.getClass().getDeclaredField("handlers");
+            field.setAccessible(true);
+            final Object[] handlers = (Object[]) field.get(fabricEvent);
+            if (handlers.length == 0) {
+                return Listeners.NONE;
+            }
+            for (Object handler : handlers) {
+                if (!(handler instanceof ThreadSafeListener)) {
+                    return Listeners.SYNC;
+                }
+            }
+            return Listeners.THREAD_SAFE;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // If the callbacks can't be inspected, fall back to firing on the server thread
+            return Listeners.SYNC;
+        }
+    }
+
     @Override
     @NotNull
     default ITeleportEvent getTeleportEvent(@NotNull Teleport teleport) {
@@ -97,6 +130,12 @@ public interface FabricEventDispatcher extends EventDispatcher {
         return ReplyTeleportRequestCallback.SUPPLIER.apply(recipient, request);
     }
 
+    @Override
+    default @NotNull IExpireTeleportRequestEvent getExpireTeleportRequestEvent(@NotNull User recipient,
+                                                                               @NotNull TeleportRequest request) {
+        return ExpireTeleportRequestCallback.SUPPLIER.apply(recipient, request);
+    }
+
     @Override
     default @NotNull IHomeCreateEvent getHomeCreateEvent(@NotNull User owner, @NotNull String name,
                                                          @NotNull Position position, @NotNull CommandUser creator) {
@@ -27,8 +27,6 @@ import net.william278.huskhomes.user.OnlineUser;
 import net.william278.huskhomes.user.SavedUser;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.List;
-
 @PluginHook(
         name = "Fabric PlaceholderAPI",
         register = PluginHook.Register.ON_ENABLE
@@ -61,22 +59,18 @@ public class FabricPlaceholderAPIHook extends Hook {
 
             final String response = switch (arg) {
                 case "homes_count" -> String.valueOf(plugin.getManager().homes()
-                        .getUserHomes()
-                        .getOrDefault(player.getName(), List.of()).size());
+                        .getUserHomeNames(player.getName()).count());
                 case "max_homes" -> String.valueOf(plugin.getManager().homes().getMaxHomes(player));
                 case "max_public_homes" -> String.valueOf(plugin.getManager().homes().getMaxPublicHomes(player));
                 case "free_home_slots" -> String.valueOf(plugin.getManager().homes().getFreeHomes(player));
                 case "home_slots" -> String.valueOf(plugin.getSavedUser(player)
                         .map(SavedUser::getHomeSlots).orElse(0));
-                case "homes_list" -> String.join(", ", plugin.getManager().homes()
-                        .getUserHomes()
-                        .getOrDefault(player.getName(), List.of()));
+                case "homes_list" -> plugin.getManager().homes()
+                        .getUserHomeNames(player.getName()).joined();
                 case "public_homes_count" -> String.valueOf(plugin.getManager().homes()
-                        .getPublicHomes()
-                        .getOrDefault(player.getName(), List.of()).size());
-                case "public_homes_list" -> String.join(", ", plugin.getManager().homes()
-                        .getPublicHomes()
-                        .getOrDefault(player.getName(), List.of()));
+                        .getUserPublicHomeNames(player.getName()).count());
+                case "public_homes_list" -> plugin.getManager().homes()
+                        .getUserPublicHomeNames(player.getName()).joined();
                 case "ignoring_tp_requests" -> String.valueOf(plugin.getManager().requests()
                         .isIgnoringRequests(player));
                 default -> null;
@@ -30,6 +30,7 @@ import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
 import net.william278.huskhomes.FabricHuskHomes;
+import net.william278.huskhomes.metrics.Metric;
 import net.william278.huskhomes.position.Location;
 import net.william278.huskhomes.position.Position;
 import net.william278.huskhomes.position.World;
@@ -149,6 +150,7 @@ public class FabricUser extends OnlineUser {
         }
 
         // Synchronously teleport
+        final long start = System.nanoTime();
         plugin.runSync(() -> {
             player.stopRiding();
             player.getPassengerList().forEach(Entity::stopRiding);
@@ -165,6 +167,7 @@ public class FabricUser extends OnlineUser {
             //$$         location.getYaw(), location.getPitch()
             //$$ );
             //#endif
+            plugin.getMetricsRegistry().record(Metric.TELEPORT_MOVE, start);
         }, this);
     }
 
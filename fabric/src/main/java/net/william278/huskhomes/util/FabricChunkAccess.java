@@ -0,0 +1,172 @@
+/*
+ * This file is part of HuskHomes, licensed under the Apache License 2.0.
+ *
+ *  Copyright (c) William278 <will27528@gmail.com>
+ *  Copyright (c) contributors
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package net.william278.huskhomes.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.FireBlock;
+import net.minecraft.block.FluidBlock;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Off-thread chunk access for the Fabric safe location search.
+ *
+ * <p>Chunks are requested from the server thread with a loading ticket, and the returned future completes once they
+ * have loaded or generated, without blocking the tick. The blocks needed for the search are then copied into an
+ * immutable {@link Column} snapshot that can be read from any thread.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FabricChunkAccess {
+
+    // Registry keys of worlds looked up by name, so they aren't re-parsed on every search
+    private static final Map<String, RegistryKey<World>> WORLD_KEYS = new ConcurrentHashMap<>();
+
+    /**
+     * Get a loaded server world by its name.
+     *
+     * @param server    the server
+     * @param worldName the world's registry name (e.g. {@code minecraft:overworld})
+     * @return the world, if it exists
+     */
+    @NotNull
+    public static Optional<ServerWorld> getWorld(@NotNull MinecraftServer server, @NotNull String worldName) {
+        final Identifier worldId = Identifier.tryParse(worldName);
+        if (worldId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(server.getWorld(WORLD_KEYS.computeIfAbsent(
+                worldName, name -> RegistryKey.of(RegistryKeys.WORLD, worldId)
+        )));
+    }
+
+    /**
+     * Take snapshots of the block columns in a square around a position, loading their chunks off-thread.
+     *
+     * @param server  the server
+     * @param world   the world to read
+     * @param centerX the block X coordinate at the center of the square
+     * @param centerZ the block Z coordinate at the center of the square
+     * @param radius  the radius of the square, in blocks
+     * @param searchY the Y coordinate to search down from for the highest block in each column
+     * @param minY    the lowest Y coordinate a player may stand at
+     * @param maxY    the highest Y coordinate a player may stand at
+     * @return a future completing with a snapshot of each column in the square
+     */
+    @NotNull
+    public static CompletableFuture<List<Column>> snapshotColumns(@NotNull MinecraftServer server,
+                                                                  @NotNull ServerWorld world,
+                                                                  int centerX, int centerZ, int radius,
+                                                                  int searchY, int minY, int maxY) {
+        return CompletableFuture.supplyAsync(() -> {
+            final Map<Long, CompletableFuture<Chunk>> chunks = new HashMap<>();
+            for (int x = (centerX - radius) >> 4; x <= (centerX + radius) >> 4; x++) {
+                for (int z = (centerZ - radius) >> 4; z <= (centerZ + radius) >> 4; z++) {
+                    chunks.put(ChunkPos.toLong(x, z), getChunk(world, x, z));
+                }
+            }
+            return chunks;
+        }, server).thenCompose(chunks -> CompletableFuture.allOf(chunks.values().toArray(CompletableFuture[]::new))
+                .thenApply(loaded -> {
+                    final List<Column> columns = new ArrayList<>();
+                    for (int x = centerX - radius; x <= centerX + radius; x++) {
+                        for (int z = centerZ - radius; z <= centerZ + radius; z++) {
+                            final Chunk chunk = chunks.get(ChunkPos.toLong(x >> 4, z >> 4)).join();
+                            if (chunk != null) {
+                                columns.add(Column.of(chunk, x, z, searchY, minY, maxY));
+                            }
+                        }
+                    }
+                    return columns;
+                }));
+    }
+
+    // Request a chunk with a ticket from the server thread; completes on the server thread once it is loaded
+    @NotNull
+    private static CompletableFuture<Chunk> getChunk(@NotNull ServerWorld world, int chunkX, int chunkZ) {
+        return world.getChunkManager()
+                .getChunkFutureSyncOnMainThread(chunkX, chunkZ, ChunkStatus.FULL, true)
+                .thenApply(chunk -> chunk.orElse(null));
+    }
+
+    /**
+     * An immutable snapshot of the blocks in a column that the safe location search reads.
+     *
+     * @param x        the block X coordinate of the column
+     * @param z        the block Z coordinate of the column
+     * @param y        the Y coordinate a player would stand at, above the highest block in the column
+     * @param ground   the ID of the block below {@code y}
+     * @param body     the ID of the block at {@code y}
+     * @param head     the ID of the block above {@code y}
+     * @param hazard   whether the ground block is a fluid or fire
+     */
+    public record Column(int x, int z, int y, @NotNull String ground, @NotNull String body,
+                         @NotNull String head, boolean hazard) {
+
+        // Read a column from a loaded chunk; must be called on the server thread
+        @NotNull
+        private static Column of(@NotNull Chunk chunk, int x, int z, int searchY, int minY, int maxY) {
+            // Start from the surface heightmap rather than walking down through all the air above it
+            final BlockPos.Mutable cursor = new BlockPos.Mutable(
+                    x, Math.min(searchY, chunk.sampleHeightmap(Heightmap.Type.WORLD_SURFACE, x, z)), z
+            );
+            while (chunk.getBlockState(cursor).isAir() && cursor.getY() > chunk.getBottomY()) {
+                cursor.move(Direction.DOWN);
+            }
+            final int y = Math.max(minY, Math.min(cursor.getY() + 1, maxY));
+            final BlockState ground = chunk.getBlockState(cursor.setY(y - 1));
+            return new Column(
+                    x, z, y,
+                    getId(ground),
+                    getId(chunk.getBlockState(cursor.setY(y))),
+                    getId(chunk.getBlockState(cursor.setY(y + 1))),
+                    ground.getBlock() instanceof FluidBlock || ground.getBlock() instanceof FireBlock
+            );
+        }
+
+        @NotNull
+        private static String getId(@NotNull BlockState state) {
+            return Registries.BLOCK.getId(state.getBlock()).toString();
+        }
+
+    }
+
+}
@@ -24,6 +24,7 @@ import net.william278.huskhomes.listener.PaperEventListener;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.OptionalDouble;
 import java.util.UUID;
 
 public class PaperHuskHomes extends BukkitHuskHomes {
@@ -40,4 +41,10 @@ public class PaperHuskHomes extends BukkitHuskHomes {
         final Player player = getServer().getPlayer(user);
         return player == null || !player.isOnline() ? Audience.empty() : player;
     }
+
+    @NotNull
+    @Override
+    public OptionalDouble getAverageTickTime() {
+        return OptionalDouble.of(getServer().getAverageTickTime());
+    }
 }